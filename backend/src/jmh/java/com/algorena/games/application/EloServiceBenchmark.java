@@ -0,0 +1,47 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Bot;
+import com.algorena.bots.domain.Game;
+import com.algorena.games.domain.BotRating;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EloServiceBenchmark {
+
+    private final EloService eloService = new EloServiceImpl();
+    private final BotRating rating1 = createBotRating(1450);
+    private final BotRating rating2 = createBotRating(1280);
+
+    @Benchmark
+    public EloService.EloUpdateResult calculateNewRatings() {
+        return eloService.calculateNewRatings(rating1, rating2, 1.0);
+    }
+
+    private static BotRating createBotRating(int eloRating) {
+        Bot bot = Bot.builder()
+                .userId(1L)
+                .name("BenchmarkBot")
+                .game(Game.CHESS)
+                .endpoint("http://localhost")
+                .active(true)
+                .build();
+        BotRating rating = new BotRating(bot, Game.CHESS, null);
+        rating.updateRating(eloRating);
+        return rating;
+    }
+}
@@ -0,0 +1,100 @@
+package com.algorena.games.application;
+
+import com.algorena.common.config.AsyncConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares match throughput (matches/second) of the platform thread pool with the virtual-thread executor.
+ * <p>
+ * A simulated match is a sequence of bot round-trips, each modelled as a blocking wait of
+ * {@code botLatencyMillis}. Every invocation submits a batch of {@value #MATCHES_PER_BATCH} matches through
+ * {@link MatchAdmissionService} and waits until all of them have finished. The batch fits inside the
+ * pool's queue, so the pool does not reject any matches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class MatchExecutorBenchmark {
+
+    private static final int MATCHES_PER_BATCH = 100;
+    private static final Long USER_ID = 1L;
+
+    @Param({"pool", "virtual"})
+    public String executorType = "virtual";
+
+    @Param({"5"})
+    public int botLatencyMillis = 5;
+
+    @Param({"20"})
+    public int movesPerMatch = 20;
+
+    private TaskExecutor executor = AsyncConfig.virtualThreadMatchExecutor();
+    private MatchAdmissionService admissionService = new MatchAdmissionService(MATCHES_PER_BATCH, MATCHES_PER_BATCH);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = executorType.equals("pool")
+                ? AsyncConfig.platformThreadMatchExecutor()
+                : AsyncConfig.virtualThreadMatchExecutor();
+        admissionService = new MatchAdmissionService(MATCHES_PER_BATCH, MATCHES_PER_BATCH);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        } else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+            simple.close();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MATCHES_PER_BATCH)
+    public void runMatches() throws InterruptedException {
+        CountDownLatch finished = new CountDownLatch(MATCHES_PER_BATCH);
+        for (int i = 0; i < MATCHES_PER_BATCH; i++) {
+            MatchAdmissionService.Permit permit = admissionService.admit(USER_ID);
+            executor.execute(() -> {
+                try (permit) {
+                    playSimulatedMatch();
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+        finished.await();
+    }
+
+    private void playSimulatedMatch() {
+        for (int move = 0; move < movesPerMatch; move++) {
+            try {
+                Thread.sleep(botLatencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
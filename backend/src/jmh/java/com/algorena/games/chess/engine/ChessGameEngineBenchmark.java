@@ -0,0 +1,55 @@
+package com.algorena.games.chess.engine;
+
+import com.algorena.games.chess.domain.ChessGameState;
+import com.algorena.games.engine.GameResult;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the stateless {@link ChessGameEngine} operations on a middlegame position
+ * (Italian Game after 1.e4 e5 2.Nf3 Nc6 3.Bc4 Bc5 4.c3 Nf6).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChessGameEngineBenchmark {
+
+    private static final String MIDDLEGAME_FEN = "r1bqk2r/pppp1ppp/2n2n2/2b1p3/2B1P3/2P2N2/PP1P1PPP/RNBQK2R w KQkq - 1 5";
+
+    private final ChessGameEngine engine = new ChessGameEngine();
+    private final ChessGameState state;
+
+    public ChessGameEngineBenchmark() {
+        state = new ChessGameState();
+        state.updateBoardState(MIDDLEGAME_FEN, 1, 5);
+    }
+
+    @Benchmark
+    public ChessGameState applyMove() {
+        return engine.applyMove(state, "d2d4", 0);
+    }
+
+    @Benchmark
+    public @Nullable GameResult checkResult() {
+        return engine.checkResult(state);
+    }
+
+    @Benchmark
+    public List<String> getLegalMoves() {
+        return engine.getLegalMoves(state);
+    }
+}
@@ -0,0 +1,70 @@
+package com.algorena.games.chess.engine;
+
+import com.algorena.games.chess.domain.ChessGameState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plies/second of the chess work done by the match executor for every move.
+ * <ul>
+ *   <li>{@code statelessEngine}: the FEN-based engine methods, i.e. result check, legal moves, apply move
+ *   and result check again, each parsing the FEN</li>
+ *   <li>{@code livePosition}: a {@link ChessPosition} kept for the whole game, serialized to FEN once per ply</li>
+ * </ul>
+ * Both replay the Opera Game (Morphy, 1858), 33 plies ending in mate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChessPlyBenchmark {
+
+    private static final List<String> OPERA_GAME = List.of(
+            "e2e4", "e7e5", "g1f3", "d7d6", "d2d4", "c8g4", "d4e5", "g4f3", "d1f3", "d6e5",
+            "f1c4", "g8f6", "f3b3", "d8e7", "b1c3", "c7c6", "c1g5", "b7b5", "c3b5", "c6b5",
+            "c4b5", "b8d7", "e1c1", "a8d8", "d1d7", "d8d7", "h1d1", "e7e6", "b5d7", "f6d7",
+            "b3b8", "d7b8", "d1d8"
+    );
+    private static final int PLIES = 33;
+
+    private final ChessGameEngine engine = new ChessGameEngine();
+
+    @Benchmark
+    @OperationsPerInvocation(PLIES)
+    public void statelessEngine(Blackhole blackhole) {
+        ChessGameState state = engine.startNewGame();
+        for (int ply = 0; ply < PLIES; ply++) {
+            blackhole.consume(engine.checkResult(state));
+            blackhole.consume(engine.getLegalMoves(state));
+            state = engine.applyMove(state, OPERA_GAME.get(ply), ply % 2);
+            blackhole.consume(engine.checkResult(state));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLIES)
+    public void livePosition(Blackhole blackhole) {
+        ChessPosition position = engine.openPosition(engine.startNewGame());
+        for (int ply = 0; ply < PLIES; ply++) {
+            blackhole.consume(position.result());
+            blackhole.consume(position.legalMoves());
+            position.play(OPERA_GAME.get(ply), ply % 2);
+            blackhole.consume(position.fen());
+            blackhole.consume(position.result());
+        }
+    }
+}
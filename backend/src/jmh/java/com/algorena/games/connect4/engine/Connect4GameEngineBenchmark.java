@@ -0,0 +1,68 @@
+package com.algorena.games.connect4.engine;
+
+import com.algorena.games.connect4.domain.Connect4GameState;
+import com.algorena.games.engine.GameResult;
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@link Connect4GameEngine} operations on a half-filled board.
+ * The {@code engine*} benchmarks go through the board string, as the stateless engine does;
+ * {@code bitboardPlayAndCheck} is the per-move work of a running match on a live {@link Connect4Bitboard}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class Connect4GameEngineBenchmark {
+
+    private static final int[] OPENING = {3, 3, 2, 4, 4, 2, 1, 5, 5, 1, 0, 6, 6, 0, 3, 3, 2, 4, 4, 2};
+
+    private final Connect4GameEngine engine = new Connect4GameEngine();
+    private final Connect4GameState state;
+
+    public Connect4GameEngineBenchmark() {
+        Connect4GameState current = engine.startNewGame();
+        for (int i = 0; i < OPENING.length; i++) {
+            current = engine.applyMove(current, OPENING[i], i % 2);
+        }
+        state = current;
+    }
+
+    @Benchmark
+    public Connect4GameState engineApplyMove() {
+        return engine.applyMove(state, 5, 0);
+    }
+
+    @Benchmark
+    public @Nullable GameResult engineCheckResult() {
+        return engine.checkResult(state);
+    }
+
+    @Benchmark
+    public List<Integer> engineGetLegalMoves() {
+        return engine.getLegalMoves(state);
+    }
+
+    @Benchmark
+    public @Nullable GameResult bitboardPlayAndCheck() {
+        Connect4Bitboard position = Connect4Bitboard.empty();
+        for (int i = 0; i < OPENING.length; i++) {
+            position.play(OPENING[i], i % 2);
+        }
+        return position.result();
+    }
+}
@@ -0,0 +1,67 @@
+package com.algorena.games.mapper;
+
+import com.algorena.bots.domain.Bot;
+import com.algorena.bots.domain.Game;
+import com.algorena.games.chess.domain.ChessGameState;
+import com.algorena.games.domain.Match;
+import com.algorena.games.domain.MatchParticipant;
+import com.algorena.games.domain.MatchStatus;
+import com.algorena.games.dto.MatchDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of mapping a chess match with two participants and its game state to a DTO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MatchMapperBenchmark {
+
+    private final MatchMapper matchMapper = new MatchMapper();
+    private final Match match;
+    private final ChessGameState state;
+
+    public MatchMapperBenchmark() {
+        match = Match.builder()
+                .game(Game.CHESS)
+                .status(MatchStatus.IN_PROGRESS)
+                .build();
+        match.start();
+        for (int playerIndex = 0; playerIndex < 2; playerIndex++) {
+            Bot bot = Bot.builder()
+                    .userId(1L)
+                    .name("BenchmarkBot" + playerIndex)
+                    .game(Game.CHESS)
+                    .endpoint("http://localhost")
+                    .active(true)
+                    .build();
+            match.addParticipant(MatchParticipant.builder()
+                    .match(match)
+                    .bot(bot)
+                    .playerIndex(playerIndex)
+                    .build());
+        }
+
+        state = new ChessGameState();
+        state.updateBoardState("rnbqkbnr/pppppppp/8/8/4P3/8/PPPP1PPP/RNBQKBNR b KQkq e3 0 1", 0, 1);
+        state.assignMatch(match);
+    }
+
+    @Benchmark
+    public MatchDTO toDTO() {
+        return matchMapper.toDTO(match, state);
+    }
+}
@@ -0,0 +1,53 @@
+package com.algorena.security;
+
+import com.algorena.users.domain.Provider;
+import com.algorena.users.domain.UserTestFactory;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of validating a JWT, and of authenticating a token the authentication filter has already seen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET = "1c17e1d043766a36dd26c58b94be13cb4c2c4c78d469663f424106c99a89a84caca3b1471948458c86104c65e5935d112db71cd11497d3f9466d3b8db763201a";
+
+    private final JwtService jwtService;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final String token;
+
+    public JwtServiceBenchmark() {
+        jwtService = new JwtService(SECRET);
+        ReflectionTestUtils.setField(jwtService, "jwtExpirationMs", TimeUnit.HOURS.toMillis(1));
+        token = jwtService.createToken(UserTestFactory.create("benchmark", "benchmark@algorena.dev", Provider.GOOGLE, "123"));
+        jwtAuthenticationCache = new JwtAuthenticationCache(jwtService, 1000, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public Claims validateAndParse() {
+        return jwtService.validateAndParse(token);
+    }
+
+    @Benchmark
+    public JwtAuthentication authenticateCached() {
+        return jwtAuthenticationCache.authenticate(token);
+    }
+}
@@ -0,0 +1,67 @@
+package com.algorena.bots.application;
+
+import com.algorena.bots.domain.Bot;
+import com.algorena.security.EncryptionService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Encrypts bot API keys for storage and decrypts them on demand.
+ * <p>
+ * {@link Bot} only holds the ciphertext, so loading bots for lists, leaderboards or the match loop does no
+ * cryptography. The plaintext is only needed to call the bot and to show the key to its owner. Decrypted keys are
+ * cached by ciphertext: every encryption uses a new IV, so a changed key never hits the entry of the old one, which
+ * is evicted once more than {@code algorena.bots.api-key-cache.max-size} keys are cached.
+ */
+@Service
+public class BotApiKeyService {
+
+    private final EncryptionService encryptionService;
+    private final Cache<String, String> apiKeysByCiphertext;
+
+    public BotApiKeyService(
+            EncryptionService encryptionService,
+            @Value("${algorena.bots.api-key-cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.encryptionService = encryptionService;
+        this.apiKeysByCiphertext = Caffeine.newBuilder().maximumSize(maxSize).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, apiKeysByCiphertext, "bots.api-keys");
+    }
+
+    /**
+     * @param apiKey the plaintext API key
+     * @return the ciphertext to store in the bot, or null if the key is null or empty
+     */
+    public @Nullable String encrypt(@Nullable String apiKey) {
+        String ciphertext = encryptionService.encrypt(apiKey);
+        if (ciphertext != null && apiKey != null) {
+            apiKeysByCiphertext.put(ciphertext, apiKey);
+        }
+        return ciphertext;
+    }
+
+    /**
+     * @return the plaintext API key of the bot, or null if it has none
+     */
+    public @Nullable String getApiKey(Bot bot) {
+        String ciphertext = bot.getEncryptedApiKey();
+        if (ciphertext == null || ciphertext.isEmpty()) {
+            return null;
+        }
+        return apiKeysByCiphertext.get(ciphertext, this::decrypt);
+    }
+
+    private String decrypt(String ciphertext) {
+        String apiKey = encryptionService.decrypt(ciphertext);
+        if (apiKey == null) {
+            throw new IllegalStateException("Decrypted API key is null");
+        }
+        return apiKey;
+    }
+}
@@ -1,11 +1,15 @@
 package com.algorena.bots.application;
 
 import com.algorena.bots.domain.Game;
+import com.algorena.bots.domain.StatsPeriod;
 import com.algorena.bots.dto.*;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public interface BotService {
     BotDTO createBot(CreateBotRequest request);
 
@@ -17,5 +21,15 @@ public interface BotService {
 
     void deleteBot(Long botId);
 
-    BotStatsDTO getBotStats(Long botId);
+    /**
+     * @param since only count matches finished at or after this time, null to count all finished matches
+     */
+    BotStatsDTO getBotStats(Long botId, @Nullable LocalDateTime since);
+
+    /**
+     * @param period the length of each period
+     * @param since  only count matches finished at or after this time
+     * @return the statistics of each period with at least one finished match, oldest first
+     */
+    List<BotPeriodStatsDTO> getBotStatsByPeriod(Long botId, StatsPeriod period, LocalDateTime since);
 }
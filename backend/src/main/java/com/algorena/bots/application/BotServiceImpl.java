@@ -3,13 +3,11 @@ package com.algorena.bots.application;
 import com.algorena.bots.data.BotRepository;
 import com.algorena.bots.domain.Bot;
 import com.algorena.bots.domain.Game;
+import com.algorena.bots.domain.StatsPeriod;
 import com.algorena.bots.dto.*;
 import com.algorena.bots.mapper.BotMapper;
 import com.algorena.common.exception.DataNotFoundException;
 import com.algorena.games.data.MatchRepository;
-import com.algorena.games.domain.Match;
-import com.algorena.games.domain.MatchParticipant;
-import com.algorena.games.domain.MatchStatus;
 import com.algorena.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
@@ -18,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -28,6 +27,7 @@ public class BotServiceImpl implements BotService {
     private final MatchRepository matchRepository;
     private final CurrentUser currentUser;
     private final BotMapper botMapper;
+    private final BotApiKeyService botApiKeyService;
 
     @Override
     @Transactional
@@ -38,7 +38,7 @@ public class BotServiceImpl implements BotService {
                 .description(request.description())
                 .game(request.game())
                 .endpoint(request.endpoint())
-                .apiKey(request.apiKey())
+                .encryptedApiKey(botApiKeyService.encrypt(request.apiKey()))
                 .active(true)
                 .build();
 
@@ -72,7 +72,7 @@ public class BotServiceImpl implements BotService {
                 .orElseThrow(() -> new DataNotFoundException("Bot not found"));
 
         bot.updateDetails(request.name(), request.description());
-        bot.updateEndpoint(request.endpoint(), request.apiKey());
+        bot.updateEndpoint(request.endpoint(), botApiKeyService.encrypt(request.apiKey()));
 
         if (request.active() != null) {
             if (request.active()) {
@@ -102,38 +102,26 @@ public class BotServiceImpl implements BotService {
 
     @Override
     @Transactional(readOnly = true)
-    public BotStatsDTO getBotStats(Long botId) {
+    public BotStatsDTO getBotStats(Long botId, @Nullable LocalDateTime since) {
         Bot bot = botRepository.findById(botId)
                 .orElseThrow(() -> new DataNotFoundException("Bot not found"));
 
-        // Get all finished matches for this bot
-        List<Match> matches = matchRepository.findByParticipants_Bot_IdAndStatus(botId, MatchStatus.FINISHED);
-
-        int totalMatches = matches.size();
-        int wins = 0;
-        int losses = 0;
-        int draws = 0;
-
-        for (Match match : matches) {
-            MatchParticipant participant = match.getParticipants().stream()
-                    .filter(p -> p.getBot().getId().equals(botId))
-                    .findFirst()
-                    .orElse(null);
-
-            if (participant == null || participant.getScore() == null) {
-                continue;
-            }
-
-            double score = participant.getScore();
-            if (score == 1.0) {
-                wins++;
-            } else if (score == 0.5) {
-                draws++;
-            } else if (score == 0.0) {
-                losses++;
-            }
-        }
-
+        // Results are counted by the database, without loading the matches
+        List<BotGameStatsDTO> games = matchRepository.countFinishedMatchResultsByGame(botId, since).stream()
+                .map(stats -> new BotGameStatsDTO(
+                        stats.getGame(),
+                        stats.getTotalMatches().intValue(),
+                        stats.getWins().intValue(),
+                        stats.getLosses().intValue(),
+                        stats.getDraws().intValue(),
+                        winRate(stats)
+                ))
+                .toList();
+
+        int totalMatches = games.stream().mapToInt(BotGameStatsDTO::totalMatches).sum();
+        int wins = games.stream().mapToInt(BotGameStatsDTO::wins).sum();
+        int losses = games.stream().mapToInt(BotGameStatsDTO::losses).sum();
+        int draws = games.stream().mapToInt(BotGameStatsDTO::draws).sum();
         double winRate = totalMatches > 0 ? (wins + 0.5 * draws) / totalMatches : 0.0;
 
         return new BotStatsDTO(
@@ -143,7 +131,32 @@ public class BotServiceImpl implements BotService {
                 wins,
                 losses,
                 draws,
-                winRate
+                winRate,
+                games
         );
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BotPeriodStatsDTO> getBotStatsByPeriod(Long botId, StatsPeriod period, LocalDateTime since) {
+        if (!botRepository.existsById(botId)) {
+            throw new DataNotFoundException("Bot not found");
+        }
+
+        return matchRepository.countFinishedMatchResultsByPeriod(botId, period.dateTruncUnit(), since).stream()
+                .map(stats -> new BotPeriodStatsDTO(
+                        stats.getPeriodStart(),
+                        stats.getTotalMatches().intValue(),
+                        stats.getWins().intValue(),
+                        stats.getLosses().intValue(),
+                        stats.getDraws().intValue(),
+                        winRate(stats)
+                ))
+                .toList();
+    }
+
+    private static double winRate(MatchRepository.MatchResultCounts stats) {
+        long totalMatches = stats.getTotalMatches();
+        return totalMatches > 0 ? (stats.getWins() + 0.5 * stats.getDraws()) / totalMatches : 0.0;
+    }
 }
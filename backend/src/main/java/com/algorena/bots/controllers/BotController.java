@@ -2,6 +2,7 @@ package com.algorena.bots.controllers;
 
 import com.algorena.bots.application.BotService;
 import com.algorena.bots.domain.Game;
+import com.algorena.bots.domain.StatsPeriod;
 import com.algorena.bots.dto.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,11 +13,15 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/bots")
 @PreAuthorize("hasRole('USER')")
@@ -60,9 +65,22 @@ public class BotController {
     }
 
     @GetMapping("/{botId}/stats")
-    @Operation(summary = "Get bot statistics")
-    public ResponseEntity<BotStatsDTO> getBotStats(@PathVariable Long botId) {
-        return ResponseEntity.ok(botService.getBotStats(botId));
+    @Operation(summary = "Get bot statistics", description = "Returns the results of the bot's finished matches, in total and per game")
+    public ResponseEntity<BotStatsDTO> getBotStats(
+            @PathVariable Long botId,
+            @Parameter(description = "Only count matches finished at or after this time")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return ResponseEntity.ok(botService.getBotStats(botId, since));
+    }
+
+    @GetMapping("/{botId}/stats/periods")
+    @Operation(summary = "Get bot statistics per period", description = "Returns the results of the bot's finished matches per day, week or month")
+    public ResponseEntity<List<BotPeriodStatsDTO>> getBotStatsByPeriod(
+            @PathVariable Long botId,
+            @Parameter(description = "Length of each period") @RequestParam(defaultValue = "DAY") StatsPeriod period,
+            @Parameter(description = "Only count matches finished at or after this time", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        return ResponseEntity.ok(botService.getBotStatsByPeriod(botId, period, since));
     }
 
     @DeleteMapping("/{botId}")
@@ -18,6 +18,14 @@ public interface BotRepository extends JpaRepository<Bot, Long> {
 
     Optional<Bot> findByIdAndUserIdAndDeletedFalse(Long id, Long userId);
 
+    // Includes deleted bots, whose matches stay in the user's history
+    @Query("SELECT b.id FROM Bot b WHERE b.userId = :userId")
+    List<Long> findIdsByUserId(Long userId);
+
+    @Query("SELECT b.id AS id, b.userId AS userId FROM Bot b " +
+            "WHERE b.game = :game AND b.active = true AND b.deleted = false")
+    List<BotOwner> findActiveByGame(Game game);
+
     @Query("SELECT b FROM Bot b WHERE " +
             "b.deleted = false AND " +
             "(:userId IS NULL OR b.userId = :userId) AND " +
@@ -29,5 +37,10 @@ public interface BotRepository extends JpaRepository<Bot, Long> {
                             @Nullable Game game,
                             @Nullable Boolean active,
                             Pageable pageable);
-}
 
+    interface BotOwner {
+        Long getId();
+
+        Long getUserId();
+    }
+}
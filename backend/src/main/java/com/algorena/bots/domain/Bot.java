@@ -17,7 +17,8 @@ import org.jspecify.annotations.Nullable;
 public class Bot extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bots_id_seq")
+    @SequenceGenerator(name = "bots_id_seq", sequenceName = "bots_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "user_id", nullable = false)
@@ -45,10 +46,13 @@ public class Bot extends BaseEntity {
     @Column(name = "endpoint", nullable = false, length = 500)
     private String endpoint;
 
+    /**
+     * The API key encrypted by {@link com.algorena.security.EncryptionService}. Loading a bot does not decrypt it,
+     * use {@link com.algorena.bots.application.BotApiKeyService} where the plaintext is needed.
+     */
     @Nullable
     @Column(name = "api_key", length = 500)
-    @Convert(converter = ApiKeyConverter.class)
-    private String apiKey;
+    private String encryptedApiKey;
 
     public void activate() {
         this.active = true;
@@ -60,7 +64,7 @@ public class Bot extends BaseEntity {
 
     public void markAsDeleted() {
         this.deleted = true;
-        this.apiKey = null;
+        this.encryptedApiKey = null;
         this.deactivate();
     }
 
@@ -78,7 +82,7 @@ public class Bot extends BaseEntity {
         this.description = description;
     }
 
-    public void updateEndpoint(String endpoint, @Nullable String apiKey) {
+    public void updateEndpoint(String endpoint, @Nullable String encryptedApiKey) {
         if (endpoint == null || endpoint.isBlank()) {
             throw new IllegalArgumentException("Bot endpoint cannot be blank");
         }
@@ -86,7 +90,7 @@ public class Bot extends BaseEntity {
             throw new IllegalArgumentException("Endpoint cannot exceed 500 characters");
         }
         this.endpoint = endpoint;
-        this.apiKey = apiKey;
+        this.encryptedApiKey = encryptedApiKey;
     }
 }
 
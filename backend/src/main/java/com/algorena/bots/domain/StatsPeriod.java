@@ -0,0 +1,19 @@
+package com.algorena.bots.domain;
+
+import java.util.Locale;
+
+/**
+ * Length of the periods bot statistics are grouped by.
+ */
+public enum StatsPeriod {
+    DAY,
+    WEEK,
+    MONTH;
+
+    /**
+     * @return the matching Postgres {@code date_trunc} unit
+     */
+    public String dateTruncUnit() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
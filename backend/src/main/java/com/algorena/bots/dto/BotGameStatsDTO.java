@@ -0,0 +1,13 @@
+package com.algorena.bots.dto;
+
+import com.algorena.bots.domain.Game;
+
+public record BotGameStatsDTO(
+        Game game,
+        int totalMatches,
+        int wins,
+        int losses,
+        int draws,
+        double winRate
+) {
+}
@@ -0,0 +1,13 @@
+package com.algorena.bots.dto;
+
+import java.time.LocalDateTime;
+
+public record BotPeriodStatsDTO(
+        LocalDateTime periodStart,
+        int totalMatches,
+        int wins,
+        int losses,
+        int draws,
+        double winRate
+) {
+}
@@ -1,5 +1,7 @@
 package com.algorena.bots.dto;
 
+import java.util.List;
+
 public record BotStatsDTO(
         Long botId,
         String botName,
@@ -7,7 +9,7 @@ public record BotStatsDTO(
         int wins,
         int losses,
         int draws,
-        double winRate
+        double winRate,
+        List<BotGameStatsDTO> games
 ) {
 }
-
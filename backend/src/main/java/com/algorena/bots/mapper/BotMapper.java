@@ -1,15 +1,20 @@
 package com.algorena.bots.mapper;
 
+import com.algorena.bots.application.BotApiKeyService;
 import com.algorena.bots.domain.Bot;
 import com.algorena.bots.dto.BotDTO;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 /**
  * Mapper for converting Bot entities to DTOs.
  */
 @Component
+@RequiredArgsConstructor
 public class BotMapper {
 
+    private final BotApiKeyService botApiKeyService;
+
     /**
      * Converts a Bot to DTO with all fields including sensitive data (API key).
      * Use for owner viewing their own bot.
@@ -22,7 +27,7 @@ public class BotMapper {
                 bot.getGame(),
                 bot.isActive(),
                 bot.getEndpoint(),
-                bot.getApiKey(),
+                botApiKeyService.getApiKey(bot),
                 bot.getCreated(),
                 bot.getLastUpdated()
         );
@@ -1,7 +1,9 @@
 package com.algorena.common.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -11,13 +13,32 @@ import java.util.concurrent.Executor;
 @EnableAsync
 public class AsyncConfig {
 
+    private static final String MATCH_THREAD_NAME_PREFIX = "match-executor-";
+
+    /**
+     * Executor that runs matches. Matches spend nearly all their time waiting on bot HTTP calls,
+     * so by default every match gets its own virtual thread. The number of running matches is
+     * limited by {@code MatchAdmissionService} rather than by the executor.
+     * <p>
+     * Setting {@code algorena.match.executor.virtual-threads=false} falls back to the bounded platform thread pool.
+     */
     @Bean(name = "matchExecutor")
-    public Executor matchExecutor() {
+    public Executor matchExecutor(@Value("${algorena.match.executor.virtual-threads:true}") boolean virtualThreads) {
+        return virtualThreads ? virtualThreadMatchExecutor() : platformThreadMatchExecutor();
+    }
+
+    public static SimpleAsyncTaskExecutor virtualThreadMatchExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(MATCH_THREAD_NAME_PREFIX);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+
+    public static ThreadPoolTaskExecutor platformThreadMatchExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(4);
         executor.setMaxPoolSize(10);
         executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("match-executor-");
+        executor.setThreadNamePrefix(MATCH_THREAD_NAME_PREFIX);
         executor.initialize();
         return executor;
     }
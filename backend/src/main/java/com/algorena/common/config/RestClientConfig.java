@@ -1,34 +1,104 @@
 package com.algorena.common.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
-import java.time.Duration;
-
+/**
+ * HTTP client used to request moves from bots.
+ * <p>
+ * Connections are pooled and kept alive between moves, so a match against the same endpoint
+ * reuses its TCP (and TLS) connection instead of opening a new one for every move.
+ * Pool usage is exposed as {@code httpcomponents.httpclient.pool.*} metrics with {@code httpclient=bot-client}.
+ * <p>
+ * Waiting for a free connection and waiting for the response share the bot timeout: the response timeout is the
+ * bot timeout minus {@code algorena.bot-client.connection-request-timeout-ms}, so a move request never takes longer
+ * than the bot timeout, apart from connecting to the bot.
+ */
 @Configuration
 public class RestClientConfig {
 
+    private static final String BOT_CLIENT_NAME = "bot-client";
+
     @Value("${algorena.match.bot-timeout-seconds:10}")
     private int botTimeoutSeconds;
 
+    @Value("${algorena.bot-client.max-connections:500}")
+    private int maxConnections;
+
+    @Value("${algorena.bot-client.max-connections-per-host:50}")
+    private int maxConnectionsPerHost;
+
+    @Value("${algorena.bot-client.keep-alive-seconds:30}")
+    private int keepAliveSeconds;
+
+    @Value("${algorena.bot-client.connection-request-timeout-ms:1000}")
+    private long connectionRequestTimeoutMs;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager botConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerHost)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofSeconds(5))
+                        .setSocketTimeout(Timeout.ofSeconds(botTimeoutSeconds))
+                        // Check connections that have been idle for a while, bots may have closed them
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                        .build())
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient botHttpClient(PoolingHttpClientConnectionManager botConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(botConnectionManager)
+                .setDefaultRequestConfig(botRequestConfig())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+                .build();
+    }
+
+    RequestConfig botRequestConfig() {
+        long botTimeoutMs = botTimeoutSeconds * 1000L;
+        if (connectionRequestTimeoutMs <= 0 || connectionRequestTimeoutMs >= botTimeoutMs) {
+            throw new IllegalStateException("algorena.bot-client.connection-request-timeout-ms must be positive and "
+                    + "below the bot timeout of " + botTimeoutMs + " ms");
+        }
+        return RequestConfig.custom()
+                // Waiting for a free connection counts towards the bot's time budget
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(botTimeoutMs - connectionRequestTimeoutMs))
+                // Used when the bot does not send a Keep-Alive header
+                .setConnectionKeepAlive(TimeValue.ofSeconds(keepAliveSeconds))
+                .build();
+    }
+
+    @Bean
+    public MeterBinder botConnectionPoolMetrics(PoolingHttpClientConnectionManager botConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(botConnectionManager, BOT_CLIENT_NAME);
+    }
+
     @Bean
-    public RestClient.Builder restClientBuilder() {
+    public RestClient.Builder restClientBuilder(CloseableHttpClient botHttpClient) {
         return RestClient.builder()
-                .requestFactory(clientHttpRequestFactory());
+                .requestFactory(new HttpComponentsClientHttpRequestFactory(botHttpClient));
     }
 
     @Bean
     public RestClient botRestClient(RestClient.Builder builder) {
         return builder.build();
     }
-
-    private SimpleClientHttpRequestFactory clientHttpRequestFactory() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(Duration.ofSeconds(5));
-        factory.setReadTimeout(Duration.ofSeconds(botTimeoutSeconds));
-        return factory;
-    }
 }
@@ -1,5 +1,6 @@
 package com.algorena.games.application;
 
+import com.algorena.bots.application.BotApiKeyService;
 import com.algorena.bots.domain.Bot;
 import com.algorena.common.exception.BotCommunicationException;
 import com.algorena.games.dto.BotMoveRequest;
@@ -22,9 +23,11 @@ public class BotClientService {
     private static final String API_KEY_HEADER = "X-Algorena-API-Key";
     private static final String MATCH_ID_HEADER = "X-Algorena-Match-ID";
     private final RestClient restClient;
+    private final BotApiKeyService botApiKeyService;
 
-    public BotClientService(RestClient botRestClient) {
+    public BotClientService(RestClient botRestClient, BotApiKeyService botApiKeyService) {
         this.restClient = botRestClient;
+        this.botApiKeyService = botApiKeyService;
     }
 
     /**
@@ -45,8 +48,9 @@ public class BotClientService {
                     .header(MATCH_ID_HEADER, request.matchId().toString());
 
             // Add API key header if the bot has one configured
-            if (bot.getApiKey() != null && !bot.getApiKey().isBlank()) {
-                requestSpec.header(API_KEY_HEADER, bot.getApiKey());
+            String apiKey = botApiKeyService.getApiKey(bot);
+            if (apiKey != null && !apiKey.isBlank()) {
+                requestSpec.header(API_KEY_HEADER, apiKey);
             }
 
             BotMoveResponse response = requestSpec
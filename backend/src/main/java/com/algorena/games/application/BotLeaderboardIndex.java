@@ -0,0 +1,228 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Game;
+import com.algorena.games.data.BotRatingRepository;
+import com.algorena.games.domain.BotRating;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory index of the global bot leaderboards, one {@link GameLeaderboard} per game.
+ * <p>
+ * Answers rank, top-N and rank-range queries in O(log n) without touching Postgres. It is loaded when the
+ * application is ready and updated by {@link RatingUpdateServiceImpl} after each rating change commits. Ratings
+ * changed on other nodes are applied by {@link LeaderboardChangePoller} within
+ * {@code algorena.leaderboard.sync.interval-ms}. A full reload every
+ * {@code algorena.leaderboard.index.reload-interval-ms} also drops bots whose ratings were deleted, and repairs
+ * any change the poller missed.
+ * <p>
+ * Until the first load has completed, and when {@code algorena.leaderboard.index.enabled} is false,
+ * {@link #isLoaded()} returns false and callers should query the database instead.
+ */
+@Component
+@Slf4j
+public class BotLeaderboardIndex {
+
+    private final BotRatingRepository botRatingRepository;
+    private final LeaderboardVersion leaderboardVersion;
+    private final boolean enabled;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private volatile @Nullable Map<Game, GameLeaderboard> leaderboards;
+    /** Updates applied while a reload is reading the database, replayed onto the reloaded leaderboards. */
+    private @Nullable List<RatingUpdate> updatesDuringReload;
+
+    public BotLeaderboardIndex(
+            BotRatingRepository botRatingRepository,
+            LeaderboardVersion leaderboardVersion,
+            @Value("${algorena.leaderboard.index.enabled:true}") boolean enabled
+    ) {
+        this.botRatingRepository = botRatingRepository;
+        this.leaderboardVersion = leaderboardVersion;
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return true if the index can answer queries
+     */
+    public boolean isLoaded() {
+        return leaderboards != null;
+    }
+
+    /**
+     * @return the number of bots on the global leaderboard of the game
+     */
+    public long size(Game game) {
+        return leaderboard(game).size();
+    }
+
+    /**
+     * @param game      the game
+     * @param eloRating the ELO rating
+     * @return the rank of a bot with the given rating: 1 plus the number of bots rated strictly higher
+     */
+    public long rankOf(Game game, int eloRating) {
+        return leaderboard(game).countAbove(eloRating) + 1L;
+    }
+
+    /**
+     * Returns a range of the leaderboard, ordered by ELO descending and then by bot ID.
+     * The top N bots are {@code getBotIds(game, 0, N)}.
+     *
+     * @param game   the game
+     * @param offset the number of bots to skip from the top
+     * @param limit  the maximum number of bots to return
+     * @return the IDs of the bots in the range
+     */
+    public List<Long> getBotIds(Game game, long offset, int limit) {
+        return leaderboard(game).range(offset, limit);
+    }
+
+    /**
+     * Applies the new ratings to the index. When called inside a transaction,
+     * they are applied after the transaction commits, so a rolled back rating change is never visible.
+     *
+     * @param ratings the global ratings that were saved
+     */
+    public void updateAfterCommit(List<BotRating> ratings) {
+        List<RatingUpdate> updates = ratings.stream()
+                .map(rating -> new RatingUpdate(rating.getGame(), rating.getBot().getId(), rating.getEloRating()))
+                .toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(updates);
+                }
+            });
+        } else {
+            apply(updates);
+        }
+    }
+
+    /**
+     * Applies ratings read from the database, such as those changed on other nodes, to the index.
+     *
+     * @param ratings the global ratings
+     */
+    public void update(List<? extends BotRatingRepository.GlobalEloRating> ratings) {
+        apply(ratings.stream()
+                .map(rating -> new RatingUpdate(rating.getGame(), rating.getBotId(), rating.getEloRating()))
+                .toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        reload();
+    }
+
+    /**
+     * Replaces the index with the ratings currently in the database.
+     * Does nothing if the index is disabled or another reload is running.
+     */
+    @Scheduled(fixedDelayString = "${algorena.leaderboard.index.reload-interval-ms:300000}",
+            initialDelayString = "${algorena.leaderboard.index.reload-interval-ms:300000}")
+    public void reload() {
+        if (!enabled || !reloadLock.tryLock()) {
+            return;
+        }
+        try {
+            long start = System.nanoTime();
+            setUpdatesDuringReload(new ArrayList<>());
+
+            Map<Game, GameLeaderboard> loaded = emptyLeaderboards();
+            List<BotRatingRepository.GlobalEloRating> ratings = botRatingRepository.findAllGlobalEloRatings();
+            for (BotRatingRepository.GlobalEloRating rating : ratings) {
+                get(loaded, rating.getGame()).put(rating.getBotId(), rating.getEloRating());
+            }
+
+            updateLock.lock();
+            try {
+                if (updatesDuringReload != null) {
+                    updatesDuringReload.forEach(update -> apply(loaded, update));
+                }
+                leaderboards = loaded;
+            } finally {
+                updatesDuringReload = null;
+                updateLock.unlock();
+            }
+            // Ratings changed on other nodes may have been loaded
+            leaderboardVersion.incrementAll();
+            log.info("Loaded leaderboard index with {} ratings in {} ms", ratings.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            setUpdatesDuringReload(null);
+            reloadLock.unlock();
+        }
+    }
+
+    private void apply(List<RatingUpdate> updates) {
+        updateLock.lock();
+        try {
+            Map<Game, GameLeaderboard> current = leaderboards;
+            for (RatingUpdate update : updates) {
+                if (current != null) {
+                    apply(current, update);
+                }
+                if (updatesDuringReload != null) {
+                    updatesDuringReload.add(update);
+                }
+            }
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private void setUpdatesDuringReload(@Nullable List<RatingUpdate> updates) {
+        updateLock.lock();
+        try {
+            updatesDuringReload = updates;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private GameLeaderboard leaderboard(Game game) {
+        Map<Game, GameLeaderboard> current = leaderboards;
+        if (current == null) {
+            throw new IllegalStateException("Leaderboard index is not loaded");
+        }
+        return get(current, game);
+    }
+
+    private static void apply(Map<Game, GameLeaderboard> leaderboards, RatingUpdate update) {
+        get(leaderboards, update.game()).put(update.botId(), update.eloRating());
+    }
+
+    private static GameLeaderboard get(Map<Game, GameLeaderboard> leaderboards, Game game) {
+        GameLeaderboard leaderboard = leaderboards.get(game);
+        if (leaderboard == null) {
+            throw new IllegalStateException("No leaderboard for game " + game);
+        }
+        return leaderboard;
+    }
+
+    private static Map<Game, GameLeaderboard> emptyLeaderboards() {
+        Map<Game, GameLeaderboard> leaderboards = new EnumMap<>(Game.class);
+        for (Game game : Game.values()) {
+            leaderboards.put(game, new GameLeaderboard());
+        }
+        return leaderboards;
+    }
+
+    private record RatingUpdate(Game game, Long botId, int eloRating) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.algorena.games.application;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Order-statistic view of the global bot ratings of one game, ordered by ELO descending and then by bot ID.
+ * <p>
+ * A Fenwick tree counts the bots per ELO value, so the number of bots rated above an ELO is a prefix sum and
+ * the ELO at a given position is found by descending the tree, both in O(log R) for a rating span of R values.
+ * The bots sharing an ELO value are kept sorted by ID. The span starts at 0 to {@value #INITIAL_SPAN} and doubles
+ * whenever a rating falls outside of it.
+ * <p>
+ * Thread-safe: reads share a lock, updates take it exclusively.
+ */
+final class GameLeaderboard {
+
+    private static final int INITIAL_SPAN = 4096;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> eloByBot = new HashMap<>();
+    private final TreeMap<Integer, TreeSet<Long>> botsByElo = new TreeMap<>();
+    private int minElo = 0;
+    /** 1-based Fenwick tree, index i counts the bots rated {@code minElo + i - 1}. */
+    private int[] tree = new int[INITIAL_SPAN + 1];
+
+    /**
+     * Adds a bot, or moves it to its new rating.
+     */
+    void put(long botId, int eloRating) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = eloByBot.put(botId, eloRating);
+            if (previous != null) {
+                if (previous == eloRating) {
+                    return;
+                }
+                botsByElo.computeIfPresent(previous, (elo, bots) -> bots.remove(botId) && bots.isEmpty() ? null : bots);
+                add(previous, -1);
+            }
+            ensureSpan(eloRating);
+            botsByElo.computeIfAbsent(eloRating, elo -> new TreeSet<>()).add(botId);
+            add(eloRating, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return eloByBot.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of bots rated strictly above the given ELO
+     */
+    int countAbove(int eloRating) {
+        lock.readLock().lock();
+        try {
+            return eloByBot.size() - countAtOrBelow(eloRating);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param offset the number of bots to skip from the top
+     * @param limit  the maximum number of bots to return
+     * @return the IDs of the bots at the given positions, in leaderboard order
+     */
+    List<Long> range(long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            int size = eloByBot.size();
+            if (offset >= size || limit <= 0) {
+                return List.of();
+            }
+            // The entry at the offset is the (size - 1 - offset)-th from the bottom
+            int firstElo = eloAtAscendingPosition((int) (size - 1 - offset));
+            long skip = offset - (size - countAtOrBelow(firstElo));
+
+            List<Long> botIds = new ArrayList<>((int) Math.min(limit, size - offset));
+            for (TreeSet<Long> bots : botsByElo.headMap(firstElo, true).descendingMap().values()) {
+                for (Long botId : bots) {
+                    if (skip > 0) {
+                        skip--;
+                        continue;
+                    }
+                    botIds.add(botId);
+                    if (botIds.size() == limit) {
+                        return botIds;
+                    }
+                }
+            }
+            return botIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int countAtOrBelow(int eloRating) {
+        if (eloRating < minElo) {
+            return 0;
+        }
+        int index = (int) Math.min((long) eloRating - minElo + 1, tree.length - 1);
+        int count = 0;
+        for (int i = index; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+
+    /**
+     * Finds the lowest ELO at which more than {@code position} bots are rated at or below it.
+     */
+    private int eloAtAscendingPosition(int position) {
+        int index = 0;
+        int remaining = position;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = index + step;
+            if (next < tree.length && tree[next] <= remaining) {
+                index = next;
+                remaining -= tree[next];
+            }
+        }
+        return minElo + index;
+    }
+
+    private void add(int eloRating, int delta) {
+        for (int i = eloRating - minElo + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    private void ensureSpan(int eloRating) {
+        int span = tree.length - 1;
+        if (eloRating >= minElo && eloRating - minElo < span) {
+            return;
+        }
+        int newMin = Math.min(minElo, eloRating);
+        int newSpan = span;
+        while (Math.max(minElo + span, eloRating + 1) - newMin > newSpan) {
+            newSpan *= 2;
+        }
+        minElo = newMin;
+        tree = new int[newSpan + 1];
+        botsByElo.forEach((elo, bots) -> add(elo, bots.size()));
+    }
+}
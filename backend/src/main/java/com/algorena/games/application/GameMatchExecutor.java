@@ -1,6 +1,7 @@
 package com.algorena.games.application;
 
 import com.algorena.bots.domain.Game;
+import com.algorena.games.domain.AbstractGameState;
 import com.algorena.games.domain.Match;
 import com.algorena.games.engine.GameResult;
 import org.jspecify.annotations.Nullable;
@@ -9,6 +10,11 @@ import org.jspecify.annotations.Nullable;
  * Strategy interface for game-specific match execution logic.
  * Each game type (Chess, Connect4, etc.) has its own implementation that handles
  * the specifics of move execution, state management, and result checking.
+ * <p>
+ * The game state is loaded once per match into a {@link MatchSession}. A turn is then split into two steps
+ * so that no database transaction is held open while waiting for a bot: {@link #prepareTurn(MatchSession)}
+ * builds the move request from the in-memory state, and {@link #applyMove(MatchSession, int, String)}
+ * validates the bot's answer and writes it to the database.
  */
 public interface GameMatchExecutor {
 
@@ -20,28 +26,37 @@ public interface GameMatchExecutor {
     Game getGameType();
 
     /**
-     * Executes a single move in the match by calling the current player's bot endpoint.
+     * Loads the persisted game state of a match. Called once, when the match session is opened.
+     *
+     * @param match the match to load the state for
+     * @return the game state
+     */
+    AbstractGameState loadState(Match match);
+
+    /**
+     * Determines what happens next from the in-memory game state.
      * This method handles:
      * <ul>
+     *   <li>Detecting whether the game has already ended</li>
      *   <li>Determining whose turn it is</li>
-     *   <li>Building and sending the move request to the bot</li>
-     *   <li>Validating and applying the bot's response</li>
-     *   <li>Recording the move in the database</li>
+     *   <li>Building the move request for the current player's bot</li>
      * </ul>
      *
-     * @param match the match to execute a move for
-     * @return the game result if the game has ended, null if the game continues
-     * @throws com.algorena.common.exception.BotCommunicationException if the bot fails to respond
-     * @throws IllegalArgumentException if the bot returns an invalid move
+     * @param session the session of the running match
+     * @return {@link MatchTurn.Finished} if the game is over, otherwise {@link MatchTurn.Pending}
      */
-    @Nullable
-    GameResult executeSingleMove(Match match);
+    MatchTurn prepareTurn(MatchSession session);
 
     /**
-     * Determines the current player index (0 or 1) based on the game state.
+     * Validates and applies a move returned by a bot, persists the new state and buffers the move in the session.
+     * If the match is no longer in progress in the database, nothing is written and the session is stopped.
      *
-     * @param match the match to check
-     * @return 0 for player 1 (white/first), 1 for player 2 (black/second)
+     * @param session     the session of the running match
+     * @param playerIndex the index of the player who made the move
+     * @param move        the move as returned by the bot
+     * @return the game result if the game has ended, null if the game continues or the session was stopped
+     * @throws IllegalArgumentException if the move is invalid
      */
-    int getCurrentPlayerIndex(Match match);
+    @Nullable
+    GameResult applyMove(MatchSession session, int playerIndex, String move);
 }
@@ -0,0 +1,109 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Game;
+import com.algorena.games.data.BotRatingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Picks up the global rating changes made on other nodes, which {@link BotLeaderboardIndex} and
+ * {@link LeaderboardVersion} only learn about on the node that made them.
+ * <p>
+ * Every {@code algorena.leaderboard.sync.interval-ms}, the ratings changed within the last
+ * {@code algorena.leaderboard.sync.window-ms} are read from the database. Ratings not seen by an earlier poll are
+ * applied to the index and increment the version of their game, so leaderboard pages cached on this node are
+ * refreshed as well. The window overlaps between polls, so that a change committed some time after it was made,
+ * or made on a node whose clock is behind, is still found. Changes of this node are found too, which costs one
+ * extra version increment but is otherwise harmless.
+ */
+@Component
+@Slf4j
+public class LeaderboardChangePoller {
+
+    private final BotRatingRepository botRatingRepository;
+    private final BotLeaderboardIndex botLeaderboardIndex;
+    private final LeaderboardVersion leaderboardVersion;
+    private final boolean enabled;
+    private final Duration window;
+    private final Clock clock;
+    private final ReentrantLock pollLock = new ReentrantLock();
+    /** Time of the last change of each rating found within the window. */
+    private final Map<RatingKey, LocalDateTime> seen = new HashMap<>();
+
+    public LeaderboardChangePoller(
+            BotRatingRepository botRatingRepository,
+            BotLeaderboardIndex botLeaderboardIndex,
+            LeaderboardVersion leaderboardVersion,
+            @Value("${algorena.leaderboard.sync.enabled:true}") boolean enabled,
+            @Value("${algorena.leaderboard.sync.window-ms:10000}") long windowMs
+    ) {
+        this(botRatingRepository, botLeaderboardIndex, leaderboardVersion, enabled, windowMs,
+                Clock.systemDefaultZone());
+    }
+
+    LeaderboardChangePoller(BotRatingRepository botRatingRepository, BotLeaderboardIndex botLeaderboardIndex,
+                            LeaderboardVersion leaderboardVersion, boolean enabled, long windowMs, Clock clock) {
+        this.botRatingRepository = botRatingRepository;
+        this.botLeaderboardIndex = botLeaderboardIndex;
+        this.leaderboardVersion = leaderboardVersion;
+        this.enabled = enabled;
+        this.window = Duration.ofMillis(windowMs);
+        this.clock = clock;
+    }
+
+    /**
+     * Applies the rating changes made since the last poll.
+     * Does nothing if polling is disabled or another poll is running.
+     *
+     * @return the number of changed ratings that were applied
+     */
+    @Scheduled(fixedDelayString = "${algorena.leaderboard.sync.interval-ms:2000}",
+            initialDelayString = "${algorena.leaderboard.sync.interval-ms:2000}")
+    public int poll() {
+        if (!enabled || !pollLock.tryLock()) {
+            return 0;
+        }
+        try {
+            // Ratings are audited with the local time of the node that changed them
+            LocalDateTime since = LocalDateTime.now(clock).minus(window);
+            List<BotRatingRepository.ChangedEloRating> ratings =
+                    botRatingRepository.findGlobalEloRatingsUpdatedSince(since);
+            List<BotRatingRepository.ChangedEloRating> changed = new ArrayList<>();
+            Set<Game> games = EnumSet.noneOf(Game.class);
+            for (BotRatingRepository.ChangedEloRating rating : ratings) {
+                LocalDateTime previous = seen.put(new RatingKey(rating.getBotId(), rating.getGame()),
+                        rating.getLastUpdated());
+                if (!rating.getLastUpdated().equals(previous)) {
+                    changed.add(rating);
+                    games.add(rating.getGame());
+                }
+            }
+            seen.values().removeIf(lastUpdated -> lastUpdated.isBefore(since));
+
+            if (!changed.isEmpty()) {
+                botLeaderboardIndex.update(changed);
+                games.forEach(leaderboardVersion::increment);
+                log.debug("Applied {} rating changes to the leaderboards of {}", changed.size(), games);
+            }
+            return changed.size();
+        } finally {
+            pollLock.unlock();
+        }
+    }
+
+    private record RatingKey(Long botId, Game game) {
+    }
+}
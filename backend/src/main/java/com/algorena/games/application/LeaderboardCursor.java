@@ -0,0 +1,41 @@
+package com.algorena.games.application;
+
+import com.algorena.common.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last entry of a leaderboard slice.
+ * <p>
+ * Leaderboards are ordered by ELO descending and then by ID ascending, so the ELO and ID of the last entry are
+ * enough to seek to the next slice. The rank is carried along so that the next slice can number its entries
+ * without counting the rows before it. Clients get the cursor as an opaque string.
+ *
+ * @param eloRating the ELO rating of the last entry
+ * @param id        the bot ID or user ID of the last entry
+ * @param rank      the rank of the last entry
+ */
+record LeaderboardCursor(int eloRating, long id, long rank) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    String encode() {
+        String value = eloRating + ":" + id + ":" + rank;
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static LeaderboardCursor decode(String cursor) {
+        try {
+            String[] parts = new String(DECODER.decode(cursor), StandardCharsets.US_ASCII).split(":");
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid leaderboard cursor: " + cursor);
+            }
+            return new LeaderboardCursor(Integer.parseInt(parts[0]), Long.parseLong(parts[1]),
+                    Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid leaderboard cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Game;
+import com.algorena.games.dto.BotLeaderboardEntryDTO;
+import com.algorena.games.dto.UserLeaderboardEntryDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Cache of leaderboard pages, keyed by {@link LeaderboardVersion}.
+ * <p>
+ * A page is loaded at most once per version: when ratings change, the version changes and the next request
+ * misses. Pages of old versions are never read again and are evicted once more than
+ * {@code algorena.leaderboard.cache.max-pages} pages are cached.
+ */
+@Component
+public class LeaderboardPageCache {
+
+    private final Cache<PageKey, Page<BotLeaderboardEntryDTO>> botPages;
+    private final Cache<PageKey, Page<UserLeaderboardEntryDTO>> userPages;
+
+    public LeaderboardPageCache(
+            @Value("${algorena.leaderboard.cache.max-pages:1000}") long maxPages,
+            MeterRegistry meterRegistry
+    ) {
+        this.botPages = Caffeine.newBuilder().maximumSize(maxPages).recordStats().build();
+        this.userPages = Caffeine.newBuilder().maximumSize(maxPages).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, botPages, "leaderboard.bots");
+        CaffeineCacheMetrics.monitor(meterRegistry, userPages, "leaderboard.users");
+    }
+
+    /**
+     * @param loader loads the page on a cache miss
+     * @return the cached bot leaderboard page
+     */
+    public Page<BotLeaderboardEntryDTO> getBotPage(Game game, long version, Pageable pageable,
+                                                   Supplier<Page<BotLeaderboardEntryDTO>> loader) {
+        if (pageable.isUnpaged()) {
+            return loader.get();
+        }
+        return botPages.get(PageKey.of(game, version, pageable), key -> loader.get());
+    }
+
+    /**
+     * @param loader loads the page on a cache miss
+     * @return the cached user leaderboard page
+     */
+    public Page<UserLeaderboardEntryDTO> getUserPage(Game game, long version, Pageable pageable,
+                                                     Supplier<Page<UserLeaderboardEntryDTO>> loader) {
+        if (pageable.isUnpaged()) {
+            return loader.get();
+        }
+        return userPages.get(PageKey.of(game, version, pageable), key -> loader.get());
+    }
+
+    private record PageKey(Game game, long version, int page, int size, Sort sort) {
+        static PageKey of(Game game, long version, Pageable pageable) {
+            return new PageKey(game, version, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        }
+    }
+}
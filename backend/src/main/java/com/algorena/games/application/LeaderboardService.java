@@ -2,8 +2,10 @@ package com.algorena.games.application;
 
 import com.algorena.bots.domain.Game;
 import com.algorena.games.dto.BotLeaderboardEntryDTO;
+import com.algorena.games.dto.LeaderboardSliceDTO;
 import com.algorena.games.dto.RatingHistoryDTO;
 import com.algorena.games.dto.UserLeaderboardEntryDTO;
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -25,6 +27,17 @@ public interface LeaderboardService {
      */
     Page<BotLeaderboardEntryDTO> getBotLeaderboard(Game game, Pageable pageable);
 
+    /**
+     * Get a slice of the bot leaderboard for a game, using keyset pagination.
+     * Unlike {@link #getBotLeaderboard}, fetching a deep slice costs the same as fetching the first one.
+     *
+     * @param game   the game type
+     * @param cursor the cursor returned with the previous slice, null for the first slice
+     * @param size   the maximum number of entries
+     * @return slice of bot leaderboard entries
+     */
+    LeaderboardSliceDTO<BotLeaderboardEntryDTO> getBotLeaderboardSlice(Game game, @Nullable String cursor, int size);
+
     /**
      * Get a specific bot's ranking.
      *
@@ -44,6 +57,16 @@ public interface LeaderboardService {
      */
     Page<UserLeaderboardEntryDTO> getUserLeaderboard(Game game, Pageable pageable);
 
+    /**
+     * Get a slice of the user leaderboard for a game, using keyset pagination.
+     *
+     * @param game   the game type
+     * @param cursor the cursor returned with the previous slice, null for the first slice
+     * @param size   the maximum number of entries
+     * @return slice of user leaderboard entries
+     */
+    LeaderboardSliceDTO<UserLeaderboardEntryDTO> getUserLeaderboardSlice(Game game, @Nullable String cursor, int size);
+
     /**
      * Get a specific user's ranking.
      *
@@ -1,6 +1,7 @@
 package com.algorena.games.application;
 
 import com.algorena.bots.domain.Game;
+import com.algorena.common.exception.BadRequestException;
 import com.algorena.common.exception.DataNotFoundException;
 import com.algorena.games.data.BotRatingRepository;
 import com.algorena.games.data.RatingHistoryRepository;
@@ -8,20 +9,25 @@ import com.algorena.games.data.UserRankingRepository;
 import com.algorena.games.domain.BotRating;
 import com.algorena.games.domain.UserRanking;
 import com.algorena.games.dto.BotLeaderboardEntryDTO;
+import com.algorena.games.dto.LeaderboardSliceDTO;
 import com.algorena.games.dto.RatingHistoryDTO;
 import com.algorena.games.dto.UserLeaderboardEntryDTO;
 import com.algorena.games.mapper.LeaderboardMapper;
 import com.algorena.users.data.UserRepository;
 import com.algorena.users.domain.User;
 import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -34,21 +40,73 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class LeaderboardServiceImpl implements LeaderboardService {
 
+    private static final int MAX_SLICE_SIZE = 100;
+
     private final BotRatingRepository botRatingRepository;
     private final UserRankingRepository userRankingRepository;
     private final RatingHistoryRepository ratingHistoryRepository;
     private final UserRepository userRepository;
     private final LeaderboardMapper leaderboardMapper;
+    private final BotLeaderboardIndex botLeaderboardIndex;
 
     // ===== Bot Leaderboard =====
 
     @Override
     public Page<BotLeaderboardEntryDTO> getBotLeaderboard(Game game, Pageable pageable) {
+        if (botLeaderboardIndex.isLoaded() && pageable.isPaged()) {
+            return getBotLeaderboardFromIndex(game, pageable);
+        }
+
         Page<BotRating> ratings = botRatingRepository
             .findByGameAndLeaderboardOrderByEloRatingDesc(game, null, pageable);
 
+        // Rank is the position in the leaderboard order
+        List<BotLeaderboardEntryDTO> entries = toBotEntries(ratings.getContent(), pageable.getOffset() + 1);
+        return new PageImpl<>(entries, pageable, ratings.getTotalElements());
+    }
+
+    private Page<BotLeaderboardEntryDTO> getBotLeaderboardFromIndex(Game game, Pageable pageable) {
+        List<Long> botIds = botLeaderboardIndex.getBotIds(game, pageable.getOffset(), pageable.getPageSize());
+        Map<Long, BotRating> ratingsByBotId = botIds.isEmpty() ? Map.of() : botRatingRepository
+            .findGlobalByBotIds(game, botIds).stream()
+            .collect(Collectors.toMap(r -> r.getBot().getId(), Function.identity()));
+
+        // Keep the index order, a rating missing from the database is skipped until the next reload
+        List<BotRating> ratings = botIds.stream()
+            .map(ratingsByBotId::get)
+            .filter(Objects::nonNull)
+            .toList();
+        List<BotLeaderboardEntryDTO> entries = toBotEntries(ratings, pageable.getOffset() + 1);
+        return new PageImpl<>(entries, pageable, botLeaderboardIndex.size(game));
+    }
+
+    @Override
+    public LeaderboardSliceDTO<BotLeaderboardEntryDTO> getBotLeaderboardSlice(Game game, @Nullable String cursor,
+                                                                              int size) {
+        validateSliceSize(size);
+        // Fetch one extra row to know whether there is a next slice
+        Pageable limit = PageRequest.of(0, size + 1);
+        LeaderboardCursor after = cursor != null ? LeaderboardCursor.decode(cursor) : null;
+        List<BotRating> ratings = after == null
+            ? botRatingRepository.findGlobalFirst(game, limit)
+            : botRatingRepository.findGlobalAfter(game, after.eloRating(), after.id(), limit);
+
+        boolean hasNext = ratings.size() > size;
+        List<BotLeaderboardEntryDTO> entries = toBotEntries(
+            hasNext ? ratings.subList(0, size) : ratings,
+            after != null ? after.rank() + 1 : 1);
+
+        String nextCursor = null;
+        if (hasNext) {
+            BotLeaderboardEntryDTO last = entries.getLast();
+            nextCursor = new LeaderboardCursor(last.eloRating(), last.botId(), last.rank()).encode();
+        }
+        return new LeaderboardSliceDTO<>(entries, nextCursor);
+    }
+
+    private List<BotLeaderboardEntryDTO> toBotEntries(List<BotRating> ratings, long startRank) {
         // Collect all user IDs from the ratings
-        Set<Long> userIds = ratings.getContent().stream()
+        Set<Long> userIds = ratings.stream()
             .map(r -> r.getBot().getUserId())
             .collect(Collectors.toSet());
 
@@ -56,18 +114,16 @@ public class LeaderboardServiceImpl implements LeaderboardService {
         Map<Long, User> usersById = userRepository.findAllById(userIds).stream()
             .collect(Collectors.toMap(User::getId, Function.identity()));
 
-        // Calculate rank based on page position
-        long startRank = pageable.getOffset() + 1;
-
-        return ratings.map(rating -> {
+        List<BotLeaderboardEntryDTO> entries = new ArrayList<>(ratings.size());
+        for (int i = 0; i < ratings.size(); i++) {
+            BotRating rating = ratings.get(i);
             User owner = usersById.get(rating.getBot().getUserId());
             if (owner == null) {
                 throw new DataNotFoundException("User not found: " + rating.getBot().getUserId());
             }
-            // Calculate rank based on position in page
-            long rank = startRank + ratings.getContent().indexOf(rating);
-            return leaderboardMapper.toBotLeaderboardEntryDTO(rating, owner, rank);
-        });
+            entries.add(leaderboardMapper.toBotLeaderboardEntryDTO(rating, owner, startRank + i));
+        }
+        return entries;
     }
 
     @Override
@@ -79,8 +135,9 @@ public class LeaderboardServiceImpl implements LeaderboardService {
         User owner = userRepository.findById(rating.getBot().getUserId())
             .orElseThrow(() -> new DataNotFoundException("User not found: " + rating.getBot().getUserId()));
 
-        long rank = botRatingRepository
-            .countByGameAndLeaderboardAndEloRatingGreaterThan(game, null, rating.getEloRating()) + 1;
+        long rank = botLeaderboardIndex.isLoaded()
+            ? botLeaderboardIndex.rankOf(game, rating.getEloRating())
+            : botRatingRepository.countByGameAndLeaderboardAndEloRatingGreaterThan(game, null, rating.getEloRating()) + 1;
 
         return leaderboardMapper.toBotLeaderboardEntryDTO(rating, owner, rank);
     }
@@ -92,13 +149,41 @@ public class LeaderboardServiceImpl implements LeaderboardService {
         Page<UserRanking> rankings = userRankingRepository
             .findByGameOrderByBestBotEloDesc(game, pageable);
 
-        // Calculate rank based on page position
-        long startRank = pageable.getOffset() + 1;
+        // Rank is the position in the leaderboard order
+        List<UserLeaderboardEntryDTO> entries = toUserEntries(rankings.getContent(), pageable.getOffset() + 1);
+        return new PageImpl<>(entries, pageable, rankings.getTotalElements());
+    }
 
-        return rankings.map(ranking -> {
-            long rank = startRank + rankings.getContent().indexOf(ranking);
-            return leaderboardMapper.toUserLeaderboardEntryDTO(ranking, rank);
-        });
+    @Override
+    public LeaderboardSliceDTO<UserLeaderboardEntryDTO> getUserLeaderboardSlice(Game game, @Nullable String cursor,
+                                                                               int size) {
+        validateSliceSize(size);
+        // Fetch one extra row to know whether there is a next slice
+        Pageable limit = PageRequest.of(0, size + 1);
+        LeaderboardCursor after = cursor != null ? LeaderboardCursor.decode(cursor) : null;
+        List<UserRanking> rankings = after == null
+            ? userRankingRepository.findFirst(game, limit)
+            : userRankingRepository.findAfter(game, after.eloRating(), after.id(), limit);
+
+        boolean hasNext = rankings.size() > size;
+        List<UserLeaderboardEntryDTO> entries = toUserEntries(
+            hasNext ? rankings.subList(0, size) : rankings,
+            after != null ? after.rank() + 1 : 1);
+
+        String nextCursor = null;
+        if (hasNext) {
+            UserLeaderboardEntryDTO last = entries.getLast();
+            nextCursor = new LeaderboardCursor(last.bestBotElo(), last.userId(), last.rank()).encode();
+        }
+        return new LeaderboardSliceDTO<>(entries, nextCursor);
+    }
+
+    private List<UserLeaderboardEntryDTO> toUserEntries(List<UserRanking> rankings, long startRank) {
+        List<UserLeaderboardEntryDTO> entries = new ArrayList<>(rankings.size());
+        for (int i = 0; i < rankings.size(); i++) {
+            entries.add(leaderboardMapper.toUserLeaderboardEntryDTO(rankings.get(i), startRank + i));
+        }
+        return entries;
     }
 
     @Override
@@ -113,6 +198,12 @@ public class LeaderboardServiceImpl implements LeaderboardService {
         return leaderboardMapper.toUserLeaderboardEntryDTO(ranking, rank);
     }
 
+    private void validateSliceSize(int size) {
+        if (size < 1 || size > MAX_SLICE_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_SLICE_SIZE + ", got: " + size);
+        }
+    }
+
     // ===== Rating History =====
 
     @Override
@@ -0,0 +1,88 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Game;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-game version of the leaderboards, incremented whenever the ratings or rankings of a game change.
+ * <p>
+ * Used as cache key for leaderboard pages and as their ETag. Versions are kept per node, so the ETag also contains
+ * a random epoch chosen at startup: an ETag issued by another node, or before a restart, never matches. Rating
+ * changes made on other nodes increment the version through {@link LeaderboardChangePoller}, so pages cached on
+ * this node are at most {@code algorena.leaderboard.sync.interval-ms} behind the database.
+ */
+@Component
+public class LeaderboardVersion {
+
+    private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final Map<Game, AtomicLong> versions = new EnumMap<>(Game.class);
+
+    public LeaderboardVersion() {
+        for (Game game : Game.values()) {
+            versions.put(game, new AtomicLong());
+        }
+    }
+
+    /**
+     * @return the current version of the leaderboards of the game
+     */
+    public long get(Game game) {
+        return counter(game).get();
+    }
+
+    /**
+     * @param game    the game
+     * @param version a version of the game, see {@link #get(Game)}
+     * @return the version as a quoted, strong ETag
+     */
+    public String getETag(Game game, long version) {
+        return "\"" + epoch + "-" + game.name().toLowerCase(Locale.ROOT) + "-" + version + "\"";
+    }
+
+    /**
+     * Increments the version of a game. When called inside a transaction, the version is incremented after the
+     * transaction commits, so a page read in between is not cached under the new version.
+     */
+    public void incrementAfterCommit(Game game) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment(game);
+                }
+            });
+        } else {
+            increment(game);
+        }
+    }
+
+    /**
+     * Increments the version of a game immediately, after changes that are already committed.
+     */
+    public void increment(Game game) {
+        counter(game).incrementAndGet();
+    }
+
+    /**
+     * Increments the versions of all games, after leaderboard data was reloaded or rebuilt as a whole.
+     */
+    public void incrementAll() {
+        versions.values().forEach(AtomicLong::incrementAndGet);
+    }
+
+    private AtomicLong counter(Game game) {
+        AtomicLong counter = versions.get(game);
+        if (counter == null) {
+            throw new IllegalStateException("No leaderboard version for game " + game);
+        }
+        return counter;
+    }
+}
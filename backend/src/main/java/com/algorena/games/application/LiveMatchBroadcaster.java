@@ -0,0 +1,287 @@
+package com.algorena.games.application;
+
+import com.algorena.games.domain.AbstractGameState;
+import com.algorena.games.domain.AbstractMatchMove;
+import com.algorena.games.domain.Match;
+import com.algorena.games.dto.GameStateDTO;
+import com.algorena.games.dto.LiveMatchSnapshotDTO;
+import com.algorena.games.dto.LiveMoveDTO;
+import com.algorena.games.dto.MatchDTO;
+import com.algorena.games.dto.MatchMoveDTO;
+import com.algorena.games.mapper.MatchMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes the matches running on this node to live viewers as Server-Sent Events.
+ * <p>
+ * The match loop publishes every move once it is committed and the result once the match is completed. A viewer
+ * gets a {@value #SNAPSHOT} of the match and its moves when it subscribes, then a {@value #MOVE} event per move and
+ * an {@value #END} event, all from memory: watching a match does not read the database.
+ * <p>
+ * Each event is serialized once and queued to every viewer. A viewer has its own virtual thread writing to its
+ * connection and a queue of at most {@code algorena.match.live.buffer-size} events. A viewer that falls that far
+ * behind is disconnected, so that slow connections never hold up the match loop or other viewers; browsers
+ * reconnect on their own and get a new snapshot.
+ */
+@Component
+@Slf4j
+public class LiveMatchBroadcaster {
+
+    public static final String SNAPSHOT = "snapshot";
+    public static final String MOVE = "move";
+    public static final String END = "end";
+
+    /** Tells viewers of a match that runs on another node to reconnect after this delay. */
+    private static final long RECONNECT_DELAY_MS = 5_000;
+    private static final LiveEvent CLOSE = new LiveEvent("close", null, "");
+
+    private final ObjectMapper objectMapper;
+    private final MatchMapper matchMapper;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final Map<Long, LiveMatch> liveMatches = new ConcurrentHashMap<>();
+
+    public LiveMatchBroadcaster(
+            ObjectMapper objectMapper,
+            MatchMapper matchMapper,
+            @Value("${algorena.match.live.buffer-size:64}") int bufferSize,
+            @Value("${algorena.match.live.timeout-ms:1800000}") long timeoutMs
+    ) {
+        this.objectMapper = objectMapper;
+        this.matchMapper = matchMapper;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Starts accepting viewers for a match whose loop has started on this node. A resumed match starts with the
+     * moves played before, so that snapshots contain them and plies keep their numbers.
+     */
+    public void open(MatchSession session) {
+        MatchDTO match = matchMapper.toDTO(session.getMatch(), session.getState(AbstractGameState.class));
+        List<MatchMoveDTO> moves = session.getPreviousMoves().stream()
+                .map(matchMapper::toMoveDTO)
+                .toList();
+        liveMatches.put(session.getMatchId(), new LiveMatch(match, moves));
+    }
+
+    /**
+     * @return a stream of the match, or null if the match is not running on this node
+     */
+    public @Nullable SseEmitter subscribe(Long matchId) {
+        LiveMatch liveMatch = liveMatches.get(matchId);
+        return liveMatch != null ? liveMatch.subscribe(matchId) : null;
+    }
+
+    /**
+     * Sends a single event and ends the stream, for matches that are not running on this node.
+     *
+     * @param reconnect true to tell the client to reconnect, e.g. because the match is still in progress elsewhere
+     */
+    public SseEmitter sendOnce(String name, Object payload, boolean reconnect) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        try {
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(serialize(payload));
+            emitter.send(reconnect ? event.reconnectTime(RECONNECT_DELAY_MS) : event);
+            emitter.complete();
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * Publishes a move just played in a running match. The move and the game state are captured now, and the
+     * event is sent once the transaction commits, so viewers never see a move that was rolled back.
+     */
+    public void publishMoveAfterCommit(MatchSession session, AbstractMatchMove move) {
+        LiveMatch liveMatch = liveMatches.get(session.getMatchId());
+        if (liveMatch == null) {
+            return;
+        }
+        MatchMoveDTO moveDTO = matchMapper.toMoveDTO(move);
+        GameStateDTO state = matchMapper.toGameStateDTO(session.getState(AbstractGameState.class));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    liveMatch.publishMove(moveDTO, state);
+                }
+            });
+        } else {
+            liveMatch.publishMove(moveDTO, state);
+        }
+    }
+
+    /**
+     * Publishes the completed match, with its final status and scores.
+     */
+    public void publishEnd(Match match, AbstractGameState state) {
+        LiveMatch liveMatch = liveMatches.get(match.getId());
+        if (liveMatch != null) {
+            liveMatch.publishEnd(matchMapper.toDTO(match, state));
+        }
+    }
+
+    /**
+     * Ends the streams of a match once its loop has stopped. Events already queued are still delivered.
+     */
+    public void close(Long matchId) {
+        LiveMatch liveMatch = liveMatches.remove(matchId);
+        if (liveMatch != null) {
+            liveMatch.close();
+        }
+    }
+
+    /**
+     * @return the number of viewers of the match on this node
+     */
+    public int getViewerCount(Long matchId) {
+        LiveMatch liveMatch = liveMatches.get(matchId);
+        return liveMatch != null ? liveMatch.getViewerCount() : 0;
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The moves and viewers of one running match. Events are published and viewers added under its lock,
+     * so a new viewer gets each move exactly once: either in its snapshot or as an event.
+     */
+    private final class LiveMatch {
+
+        private final List<MatchMoveDTO> moves;
+        private final List<Viewer> viewers = new ArrayList<>();
+        private MatchDTO match;
+        private boolean closed;
+
+        LiveMatch(MatchDTO match, List<MatchMoveDTO> moves) {
+            this.match = match;
+            this.moves = new ArrayList<>(moves);
+        }
+
+        synchronized @Nullable SseEmitter subscribe(Long matchId) {
+            if (closed) {
+                return null;
+            }
+            SseEmitter emitter = new SseEmitter(timeoutMs);
+            Viewer viewer = new Viewer(emitter, new ArrayBlockingQueue<>(bufferSize + 1));
+            viewer.offer(new LiveEvent(SNAPSHOT, null,
+                    serialize(new LiveMatchSnapshotDTO(match, List.copyOf(moves)))));
+            viewers.add(viewer);
+
+            emitter.onCompletion(() -> remove(viewer));
+            emitter.onTimeout(() -> remove(viewer));
+            emitter.onError(e -> remove(viewer));
+            Thread.ofVirtual().name("live-match-" + matchId).start(() -> viewer.drain(this));
+            return emitter;
+        }
+
+        synchronized void publishMove(MatchMoveDTO move, @Nullable GameStateDTO state) {
+            int ply = moves.size();
+            moves.add(move);
+            match = new MatchDTO(match.id(), match.game(), match.status(), match.startedAt(), match.finishedAt(),
+                    match.participants(), state);
+            publish(new LiveEvent(MOVE, Integer.toString(ply), serialize(new LiveMoveDTO(ply, move, state))));
+        }
+
+        synchronized void publishEnd(MatchDTO completed) {
+            match = completed;
+            publish(new LiveEvent(END, null, serialize(completed)));
+        }
+
+        synchronized void close() {
+            closed = true;
+            viewers.forEach(Viewer::close);
+            viewers.clear();
+        }
+
+        synchronized int getViewerCount() {
+            return viewers.size();
+        }
+
+        synchronized void remove(Viewer viewer) {
+            if (viewers.remove(viewer)) {
+                viewer.close();
+            }
+        }
+
+        private void publish(LiveEvent event) {
+            viewers.removeIf(viewer -> {
+                if (viewer.offer(event)) {
+                    return false;
+                }
+                log.debug("Disconnecting a live viewer that is more than {} events behind", bufferSize);
+                viewer.close();
+                return true;
+            });
+        }
+    }
+
+    /**
+     * One connection to a live match. Its queue has room for one more event than the buffer size,
+     * so that the close marker always fits.
+     */
+    private record Viewer(SseEmitter emitter, BlockingQueue<LiveEvent> queue) {
+
+        boolean offer(LiveEvent event) {
+            return queue.remainingCapacity() > 1 && queue.offer(event);
+        }
+
+        void close() {
+            if (!queue.offer(CLOSE)) {
+                queue.clear();
+                queue.offer(CLOSE);
+            }
+        }
+
+        void drain(LiveMatch liveMatch) {
+            try {
+                while (true) {
+                    LiveEvent event = queue.take();
+                    if (event == CLOSE) {
+                        emitter.complete();
+                        return;
+                    }
+                    emitter.send(event.toSse());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                // The viewer disconnected or the stream timed out
+                liveMatch.remove(this);
+            }
+        }
+    }
+
+    private record LiveEvent(String name, @Nullable String id, String data) {
+
+        SseEmitter.SseEventBuilder toSse() {
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+            return id != null ? event.id(id) : event;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.algorena.games.application;
+
+import com.algorena.common.exception.ConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Admission control for running matches.
+ * <p>
+ * Matches are I/O-bound and run on virtual threads, so the executor itself no longer limits how many
+ * matches run at once. This service enforces two limits instead:
+ * <ul>
+ *   <li>a global limit on concurrently running matches on this node</li>
+ *   <li>a per-user limit, so that a single user cannot take all the capacity</li>
+ * </ul>
+ * A match that would exceed either limit is rejected before it is created.
+ */
+@Service
+@Slf4j
+public class MatchAdmissionService {
+
+    private final int maxConcurrentMatches;
+    private final int maxConcurrentMatchesPerUser;
+    private final Semaphore globalPermits;
+    private final ConcurrentMap<Long, Integer> runningMatchesByUser = new ConcurrentHashMap<>();
+
+    public MatchAdmissionService(
+            @Value("${algorena.match.admission.max-concurrent-matches:2000}") int maxConcurrentMatches,
+            @Value("${algorena.match.admission.max-concurrent-matches-per-user:50}") int maxConcurrentMatchesPerUser
+    ) {
+        this.maxConcurrentMatches = maxConcurrentMatches;
+        this.maxConcurrentMatchesPerUser = maxConcurrentMatchesPerUser;
+        this.globalPermits = new Semaphore(maxConcurrentMatches, true);
+    }
+
+    /**
+     * Admits a new match for the given user.
+     *
+     * @param userId the user starting the match
+     * @return a permit that must be closed once the match has finished running
+     * @throws ConflictException if the global or the per-user limit has been reached
+     */
+    public Permit admit(Long userId) {
+        if (!globalPermits.tryAcquire()) {
+            log.warn("Rejecting match for user {}: {} matches are already running", userId, maxConcurrentMatches);
+            throw new ConflictException("Too many matches are running, please try again later");
+        }
+
+        AtomicBoolean admitted = new AtomicBoolean(false);
+        runningMatchesByUser.compute(userId, (id, running) -> {
+            int current = running == null ? 0 : running;
+            if (current >= maxConcurrentMatchesPerUser) {
+                return running;
+            }
+            admitted.set(true);
+            return current + 1;
+        });
+
+        if (!admitted.get()) {
+            globalPermits.release();
+            throw new ConflictException("You already have " + maxConcurrentMatchesPerUser + " matches running");
+        }
+        return new Permit(userId);
+    }
+
+    /**
+     * @return the number of matches currently running on this node
+     */
+    public int runningMatches() {
+        return maxConcurrentMatches - globalPermits.availablePermits();
+    }
+
+    /**
+     * @return the number of matches this node can still admit
+     */
+    public int availableCapacity() {
+        return globalPermits.availablePermits();
+    }
+
+    /**
+     * @return the number of matches currently running on this node for the given user
+     */
+    public int runningMatches(Long userId) {
+        return runningMatchesByUser.getOrDefault(userId, 0);
+    }
+
+    private void release(Long userId) {
+        runningMatchesByUser.computeIfPresent(userId, (id, running) -> running <= 1 ? null : running - 1);
+        globalPermits.release();
+    }
+
+    /**
+     * A slot for one running match. Closing it more than once has no effect.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final Long userId;
+        private final AtomicBoolean released = new AtomicBoolean(false);
+
+        private Permit(Long userId) {
+            this.userId = userId;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(userId);
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.algorena.games.application;
+
+import com.algorena.common.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Position of the last match of a match history slice.
+ * <p>
+ * Match histories are ordered by creation time descending and then by ID descending, so the creation time and ID
+ * of the last match are enough to seek to the next slice. The creation time is kept to the nanosecond, so that it
+ * is bound exactly as the value it was read from. Clients get the cursor as an opaque string.
+ *
+ * @param created the creation time of the last match
+ * @param id      the ID of the last match
+ */
+record MatchCursor(LocalDateTime created, long id) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    String encode() {
+        String value = created.toEpochSecond(ZoneOffset.UTC) + ":" + created.getNano() + ":" + id;
+        return ENCODER.encodeToString(value.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static MatchCursor decode(String cursor) {
+        try {
+            String[] parts = new String(DECODER.decode(cursor), StandardCharsets.US_ASCII).split(":");
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid match cursor: " + cursor);
+            }
+            LocalDateTime created = LocalDateTime.ofEpochSecond(Long.parseLong(parts[0]),
+                    Integer.parseInt(parts[1]), ZoneOffset.UTC);
+            return new MatchCursor(created, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BadRequestException("Invalid match cursor: " + cursor);
+        }
+    }
+}
@@ -1,23 +1,18 @@
 package com.algorena.games.application;
 
-import com.algorena.bots.domain.Game;
 import com.algorena.common.exception.BotCommunicationException;
-import com.algorena.games.data.MatchRepository;
+import com.algorena.games.domain.AbstractGameState;
 import com.algorena.games.domain.Match;
-import com.algorena.games.domain.MatchParticipant;
-import com.algorena.games.domain.MatchStatus;
+import com.algorena.games.dto.BotMoveResponse;
 import com.algorena.games.engine.GameResult;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Map;
 import java.util.concurrent.CompletableFuture;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Service responsible for orchestrating match execution asynchronously.
@@ -25,52 +20,48 @@ import java.util.stream.Collectors;
  * This service manages the game loop for matches, delegating game-specific logic
  * to {@link GameMatchExecutor} implementations. It handles:
  * <ul>
- *   <li>Asynchronous match execution via a thread pool</li>
- *   <li>Turn-by-turn game progression</li>
+ *   <li>Asynchronous match execution, one virtual thread per match</li>
+ *   <li>Turn-by-turn game progression, using short transactions around each bot call</li>
  *   <li>Error handling (bot timeouts, invalid moves)</li>
  *   <li>Match completion and scoring</li>
+ *   <li>Publishing moves and results to live viewers through the {@link LiveMatchBroadcaster}</li>
  * </ul>
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class MatchExecutorService {
 
-    private final MatchRepository matchRepository;
+    private final MatchProgressService matchProgressService;
     private final RatingUpdateService ratingUpdateService;
-    private final Map<Game, GameMatchExecutor> executorsByGame;
+    private final BotClientService botClientService;
+    private final MatchSessionRegistry matchSessionRegistry;
+    private final LiveMatchBroadcaster liveMatchBroadcaster;
 
     @Value("${algorena.match.max-moves-per-game:500}")
     private int maxMovesPerGame;
 
-    public MatchExecutorService(
-        MatchRepository matchRepository,
-        RatingUpdateService ratingUpdateService,
-        List<GameMatchExecutor> executors
-    ) {
-        this.matchRepository = matchRepository;
-        this.ratingUpdateService = ratingUpdateService;
-        this.executorsByGame = executors.stream()
-                .collect(Collectors.toMap(GameMatchExecutor::getGameType, Function.identity()));
-    }
-
     /**
      * Executes a match asynchronously in a background thread.
      * <p>
-     * This method returns immediately and the match runs in the "matchExecutor" thread pool.
+     * This method returns immediately and the match runs on the "matchExecutor" executor.
      * The match progresses through turns until completion, timeout, or error.
+     * The admission permit is released once the match stops running.
      *
-     * @param matchId the ID of the match to execute
+     * @param matchId  the ID of the match to execute
+     * @param workerId the ID of the node that holds the lease of the match
+     * @param permit   the admission permit obtained for this match
      * @return a CompletableFuture that completes when the match finishes
      */
     @Async("matchExecutor")
-    public CompletableFuture<Void> executeMatch(Long matchId) {
+    public CompletableFuture<Void> executeMatch(Long matchId, String workerId, MatchAdmissionService.Permit permit) {
         log.info("Starting execution of match {}", matchId);
 
-        try {
-            runMatchLoop(matchId);
+        try (permit) {
+            runMatchLoop(matchId, workerId);
         } catch (Exception e) {
             log.error("Unexpected error during match {} execution", matchId, e);
-            abortMatchOnError(matchId);
+            matchProgressService.abortMatch(matchId, workerId);
         }
 
         return CompletableFuture.completedFuture(null);
@@ -78,137 +69,133 @@ public class MatchExecutorService {
 
     /**
      * Main game loop that processes moves until the match ends.
-     * Runs within a transaction and delegates to game-specific executors.
+     * <p>
+     * The match, its bots and its game state are loaded once into a {@link MatchSession}. Each turn then consists of:
+     * <ol>
+     *   <li>building the move request from the in-memory state</li>
+     *   <li>the bot call, made without any transaction open</li>
+     *   <li>a short write transaction that validates, applies and records the move</li>
+     * </ol>
+     * Aborting the match stops the session through the {@link MatchSessionRegistry}, without the loop polling the database.
+     * The loop also stops as soon as a write finds that the node no longer holds the lease of the match.
      */
-    @Transactional
-    protected void runMatchLoop(Long matchId) {
-        Match match = fetchMatch(matchId);
-
-        if (match.getStatus() != MatchStatus.IN_PROGRESS) {
-            log.warn("Match {} is not in progress (status: {}), skipping execution", matchId, match.getStatus());
+    protected void runMatchLoop(Long matchId, String workerId) {
+        MatchSession session = matchProgressService.openSession(matchId, workerId);
+        if (session == null) {
+            log.warn("Match {} is not in progress, skipping execution", matchId);
             return;
         }
 
-        GameMatchExecutor executor = getExecutorForGame(match.getGame());
-        int moveCount = 0;
+        matchSessionRegistry.register(session);
+        liveMatchBroadcaster.open(session);
+        try {
+            playMatch(session);
+        } finally {
+            matchSessionRegistry.unregister(session);
+            liveMatchBroadcaster.close(matchId);
+        }
+    }
+
+    private void playMatch(MatchSession session) {
+        Long matchId = session.getMatchId();
+        // A resumed match continues with the moves it has left
+        int moveCount = session.getPreviousMoves().size();
 
         while (moveCount < maxMovesPerGame) {
-            // Refresh match state to check for external changes (e.g., abort)
-            match = fetchMatch(matchId);
-            if (match.getStatus() != MatchStatus.IN_PROGRESS) {
+            if (session.isStopped()) {
                 log.info("Match {} is no longer in progress, stopping execution", matchId);
-                break;
+                return;
             }
 
-            try {
-                GameResult result = executor.executeSingleMove(match);
-                if (result != null) {
-                    finishMatch(match, result);
-                    break;
-                }
-                moveCount++;
-            } catch (BotCommunicationException e) {
-                handleBotCommunicationError(match, executor, e);
-                break;
-            } catch (IllegalArgumentException e) {
-                handleInvalidMove(match, executor, e);
-                break;
+            MatchTurn turn = session.getExecutor().prepareTurn(session);
+            if (turn instanceof MatchTurn.Finished(GameResult result)) {
+                onMatchCompleted(session, matchProgressService.finishMatch(session, result));
+                return;
             }
-        }
 
-        if (moveCount >= maxMovesPerGame && match.getStatus() == MatchStatus.IN_PROGRESS) {
-            log.warn("Match {} exceeded maximum moves ({}), ending as draw", matchId, maxMovesPerGame);
-            endMatchAsDraw(match);
+            if (!playTurn(session, (MatchTurn.Pending) turn)) {
+                return;
+            }
+            moveCount++;
         }
 
-        log.info("Match {} execution completed with status {}", matchId, match.getStatus());
+        log.warn("Match {} exceeded maximum moves ({}), ending as draw", matchId, maxMovesPerGame);
+        onMatchCompleted(session, matchProgressService.endMatchAsDraw(session));
     }
 
-    private Match fetchMatch(Long matchId) {
-        return matchRepository.findByIdWithParticipants(matchId)
-                .orElseThrow(() -> new IllegalStateException("Match not found: " + matchId));
-    }
+    /**
+     * Requests a move from the current bot outside any transaction and applies it in a short write transaction.
+     *
+     * @return true if the match continues, false if it has ended
+     */
+    private boolean playTurn(MatchSession session, MatchTurn.Pending turn) {
+        Long matchId = session.getMatchId();
+        BotMoveResponse response;
+        try {
+            response = botClientService.requestMove(turn.bot(), turn.request());
+        } catch (BotCommunicationException e) {
+            if (session.isStopped()) {
+                return false;
+            }
+            handleBotCommunicationError(session, turn.playerIndex(), e);
+            return false;
+        }
 
-    private GameMatchExecutor getExecutorForGame(Game game) {
-        GameMatchExecutor executor = executorsByGame.get(game);
-        if (executor == null) {
-            throw new UnsupportedOperationException("No executor registered for game: " + game);
+        if (session.isStopped()) {
+            log.info("Match {} was stopped while waiting for a move, discarding it", matchId);
+            return false;
         }
-        return executor;
+
+        GameResult result;
+        try {
+            result = matchProgressService.applyMove(session, turn.playerIndex(), response.move().trim());
+        } catch (IllegalArgumentException e) {
+            handleInvalidMove(session, turn.playerIndex(), e);
+            return false;
+        }
+
+        if (result != null) {
+            onMatchCompleted(session, matchProgressService.finishMatch(session, result));
+            return false;
+        }
+        return !session.isStopped();
     }
 
     /**
      * Handles bot communication failures (timeout, connection error).
      * The opponent wins by forfeit.
      */
-    private void handleBotCommunicationError(Match match, GameMatchExecutor executor, BotCommunicationException e) {
+    private void handleBotCommunicationError(MatchSession session, int failedPlayerIndex, BotCommunicationException e) {
+        Long matchId = session.getMatchId();
         log.warn("Bot communication error in match {}: {} (reason: {})",
-                match.getId(), e.getMessage(), e.getReason());
+                matchId, e.getMessage(), e.getReason());
 
-        int failedPlayerIndex = executor.getCurrentPlayerIndex(match);
-        forfeitMatch(match, failedPlayerIndex, e.getReason());
+        onMatchCompleted(session, matchProgressService.forfeitMatch(session, failedPlayerIndex, e.getReason()));
     }
 
     /**
      * Handles invalid moves returned by bots.
      * The opponent wins by forfeit.
      */
-    private void handleInvalidMove(Match match, GameMatchExecutor executor, Exception e) {
-        log.warn("Invalid move in match {}: {}", match.getId(), e.getMessage());
+    private void handleInvalidMove(MatchSession session, int failedPlayerIndex, Exception e) {
+        Long matchId = session.getMatchId();
+        log.warn("Invalid move in match {}: {}", matchId, e.getMessage());
 
-        int failedPlayerIndex = executor.getCurrentPlayerIndex(match);
-        forfeitMatch(match, failedPlayerIndex, "INVALID_MOVE");
+        onMatchCompleted(session, matchProgressService.forfeitMatch(session, failedPlayerIndex, "INVALID_MOVE"));
     }
 
-    private void forfeitMatch(Match match, int forfeitingPlayerIndex, String reason) {
-        int winnerIndex = 1 - forfeitingPlayerIndex;
-        match.forfeit(reason);
-
-        for (MatchParticipant p : match.getParticipants()) {
-            p.recordScore(p.getPlayerIndex() == winnerIndex ? 1.0 : 0.0);
-        }
-
-        matchRepository.save(match);
-
-        // Update bot ELO ratings after forfeit
-        ratingUpdateService.updateRatingsAfterMatch(match);
-    }
-
-    private void finishMatch(Match match, GameResult result) {
-        match.finish();
-
-        for (MatchParticipant p : match.getParticipants()) {
-            Double score = result.scores().getScore(p.getPlayerIndex());
-            p.recordScore(score);
-        }
-
-        matchRepository.save(match);
-
-        // Update bot ELO ratings after match completes
-        ratingUpdateService.updateRatingsAfterMatch(match);
-    }
-
-    private void endMatchAsDraw(Match match) {
-        match.finish();
-
-        for (MatchParticipant p : match.getParticipants()) {
-            p.recordScore(0.5);
+    /**
+     * Updates bot ELO ratings once the completing transaction has committed and sends the result to live viewers.
+     *
+     * @param session the session of the match
+     * @param match   the completed match, or null if it had already been stopped elsewhere
+     */
+    private void onMatchCompleted(MatchSession session, @Nullable Match match) {
+        if (match == null) {
+            return;
         }
-
-        matchRepository.save(match);
-
-        // Update bot ELO ratings after draw
+        log.info("Match {} execution completed with status {}", match.getId(), match.getStatus());
         ratingUpdateService.updateRatingsAfterMatch(match);
-    }
-
-    @Transactional
-    protected void abortMatchOnError(Long matchId) {
-        matchRepository.findById(matchId).ifPresent(match -> {
-            if (match.getStatus() == MatchStatus.IN_PROGRESS) {
-                log.warn("Aborting match {} due to unexpected error", matchId);
-                match.abort();
-                matchRepository.save(match);
-            }
-        });
+        liveMatchBroadcaster.publishEnd(match, session.getState(AbstractGameState.class));
     }
 }
@@ -0,0 +1,130 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Game;
+import com.algorena.games.data.MatchMoveLogRepository;
+import com.algorena.games.domain.AbstractMatchMove;
+import com.algorena.games.domain.Match;
+import com.algorena.games.domain.MatchMoveLog;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads and writes the compact move log of a match: one {@code match_move_logs} row per match instead of
+ * two rows per move. Loading a replay is then a single primary key read.
+ * <p>
+ * A log has two byte columns, both in play order: {@code moves} holds one {@link MoveLogCodec} encoding per move,
+ * all of the same width, and {@code move_times} the milliseconds between the start of the match and each move,
+ * as unsigned LEB128 varints (7 bits per byte, least significant group first, high bit set on all but the last
+ * byte). The move of ply n can be found directly, its time only by reading the n varints before it.
+ */
+@Service
+public class MatchMoveLogService {
+
+    private final MatchMoveLogRepository matchMoveLogRepository;
+    private final Map<Game, MoveLogCodec> codecsByGame;
+
+    public MatchMoveLogService(MatchMoveLogRepository matchMoveLogRepository, List<MoveLogCodec> codecs) {
+        this.matchMoveLogRepository = matchMoveLogRepository;
+        this.codecsByGame = codecs.stream()
+                .collect(Collectors.toMap(MoveLogCodec::getGameType, Function.identity()));
+    }
+
+    /**
+     * Appends moves, in the order they were played, to the log of their match.
+     * Must be called within a transaction.
+     */
+    public void append(Match match, List<AbstractMatchMove> moves) {
+        MoveLogCodec codec = getCodec(match.getGame());
+        ByteBuffer encoded = ByteBuffer.allocate(moves.size() * codec.bytesPerMove());
+        ByteArrayOutputStream times = new ByteArrayOutputStream(moves.size() * 3);
+        for (AbstractMatchMove move : moves) {
+            codec.encode(move, encoded);
+            writeVarint(times, Math.max(0, Duration.between(match.getStartedAt(), move.getPlayedAt()).toMillis()));
+        }
+        matchMoveLogRepository.appendMoves(match.getId(), moves.size(), encoded.array(), times.toByteArray());
+    }
+
+    /**
+     * @return the moves of the match in play order, or empty if the match has no compact move log
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<AbstractMatchMove>> read(Match match) {
+        List<AbstractMatchMove> moves = new ArrayList<>();
+        return forEach(match, 0, null, moves::add) ? Optional.of(moves) : Optional.empty();
+    }
+
+    /**
+     * Decodes a range of plies one move at a time and passes them to the action in play order,
+     * so that no list of moves is built.
+     *
+     * @param fromPly the first ply, 0-based
+     * @param toPly   the ply to stop before, or null to read to the end of the log
+     * @return false if the match has no compact move log
+     */
+    @Transactional(readOnly = true)
+    public boolean forEach(Match match, int fromPly, @Nullable Integer toPly, Consumer<AbstractMatchMove> action) {
+        Optional<MatchMoveLog> log = matchMoveLogRepository.findById(match.getId());
+        log.ifPresent(l -> decode(match, l, fromPly, toPly, action));
+        return log.isPresent();
+    }
+
+    private void decode(Match match, MatchMoveLog log, int fromPly, @Nullable Integer toPly,
+                        Consumer<AbstractMatchMove> action) {
+        MoveLogCodec codec = getCodec(match.getGame());
+        int endPly = toPly != null ? Math.min(toPly, log.getMoveCount()) : log.getMoveCount();
+        if (fromPly >= endPly) {
+            return;
+        }
+        // Moves have a fixed size, but their times are varints and have to be read from the start
+        ByteBuffer encoded = ByteBuffer.wrap(log.getMoves()).position(fromPly * codec.bytesPerMove());
+        ByteBuffer times = ByteBuffer.wrap(log.getMoveTimes());
+        for (int ply = 0; ply < fromPly; ply++) {
+            readVarint(times);
+        }
+        for (int ply = fromPly; ply < endPly; ply++) {
+            AbstractMatchMove move = codec.decode(encoded, match, ply % 2);
+            move.setPlayedAt(match.getStartedAt().plus(Duration.ofMillis(readVarint(times))));
+            action.accept(move);
+        }
+    }
+
+    private MoveLogCodec getCodec(Game game) {
+        MoveLogCodec codec = codecsByGame.get(game);
+        if (codec == null) {
+            throw new UnsupportedOperationException("No move log codec registered for game: " + game);
+        }
+        return codec;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,10 @@
+package com.algorena.games.application;
+
+/**
+ * Two bots to be matched against each other, found by matchmaking.
+ *
+ * @param bot1Id the bot playing first (white in chess)
+ * @param bot2Id the bot playing second
+ */
+public record MatchPairing(Long bot1Id, Long bot2Id) {
+}
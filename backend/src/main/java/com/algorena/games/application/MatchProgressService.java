@@ -0,0 +1,216 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Game;
+import com.algorena.games.data.MatchMoveRepository;
+import com.algorena.games.data.MatchQueueRepository;
+import com.algorena.games.data.MatchRepository;
+import com.algorena.games.domain.AbstractMatchMove;
+import com.algorena.games.domain.Match;
+import com.algorena.games.domain.MatchParticipant;
+import com.algorena.games.domain.MatchStatus;
+import com.algorena.games.engine.GameResult;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Short, self-contained transactions used by {@link MatchExecutorService} to progress a match.
+ * <p>
+ * Each method opens and commits its own transaction, so that the match loop never holds a
+ * database connection while it is waiting for a bot to respond.
+ * <p>
+ * Each move is written in the same transaction as the board state it leads to, so the persisted moves always
+ * match the persisted board, and a match resumed after a crash knows every ply that was played.
+ * With {@code algorena.match.move-log.compact=true} they are appended to the match's compact move log
+ * instead of being inserted as one row per move.
+ * <p>
+ * The node running a match only writes it while it holds the match's lease in the match queue: a move or a
+ * result of a node whose lease was taken over by another node is discarded, and the session is stopped.
+ */
+@Service
+@Slf4j
+public class MatchProgressService {
+
+    private final MatchRepository matchRepository;
+    private final MatchMoveRepository matchMoveRepository;
+    private final MatchMoveLogService matchMoveLogService;
+    private final MatchQueueRepository matchQueueRepository;
+    private final LiveMatchBroadcaster liveMatchBroadcaster;
+    private final Map<Game, GameMatchExecutor> executorsByGame;
+    private final boolean compactMoveLog;
+
+    public MatchProgressService(MatchRepository matchRepository,
+                                MatchMoveRepository matchMoveRepository,
+                                MatchMoveLogService matchMoveLogService,
+                                MatchQueueRepository matchQueueRepository,
+                                LiveMatchBroadcaster liveMatchBroadcaster,
+                                List<GameMatchExecutor> executors,
+                                @Value("${algorena.match.move-log.compact:false}") boolean compactMoveLog) {
+        this.matchRepository = matchRepository;
+        this.matchMoveRepository = matchMoveRepository;
+        this.matchMoveLogService = matchMoveLogService;
+        this.matchQueueRepository = matchQueueRepository;
+        this.liveMatchBroadcaster = liveMatchBroadcaster;
+        this.compactMoveLog = compactMoveLog;
+        this.executorsByGame = executors.stream()
+                .collect(Collectors.toMap(GameMatchExecutor::getGameType, Function.identity()));
+    }
+
+    /**
+     * Loads a running match, its participants, bots, game state and the moves played so far into a new session.
+     *
+     * @param matchId  the ID of the match
+     * @param workerId the ID of the node that holds the lease of the match
+     * @return the session, or null if the match is not in progress
+     */
+    @Transactional(readOnly = true)
+    public @Nullable MatchSession openSession(Long matchId, String workerId) {
+        Match match = fetchMatch(matchId);
+        if (match.getStatus() != MatchStatus.IN_PROGRESS) {
+            log.warn("Match {} is not in progress (status: {})", matchId, match.getStatus());
+            return null;
+        }
+        GameMatchExecutor executor = getExecutorForGame(match.getGame());
+        // Matches played with the compact move log have no move rows
+        List<AbstractMatchMove> previousMoves = matchMoveLogService.read(match)
+                .orElseGet(() -> matchMoveRepository.findByMatchIdOrderByPlayedAtAsc(matchId));
+        return new MatchSession(match, workerId, executor, executor.loadState(match), previousMoves);
+    }
+
+    /**
+     * Validates, applies and records a move returned by a bot.
+     * If the match was stopped or its lease was lost while the bot was thinking, the move is discarded and the
+     * session is stopped.
+     * The move is written together with the new board state. Live viewers get it once the transaction commits.
+     *
+     * @param session     the session of the running match
+     * @param playerIndex the index of the player who made the move
+     * @param move        the move as returned by the bot
+     * @return the game result if the game has ended, null otherwise
+     * @throws IllegalArgumentException if the move is invalid (the transaction is rolled back)
+     */
+    @Transactional
+    public @Nullable GameResult applyMove(MatchSession session, int playerIndex, String move) {
+        int pendingMoveCount = session.getPendingMoveCount();
+        GameResult result = session.getExecutor().applyMove(session, playerIndex, move);
+        AbstractMatchMove lastMove = session.getLastPendingMove();
+        if (session.getPendingMoveCount() > pendingMoveCount && lastMove != null) {
+            liveMatchBroadcaster.publishMoveAfterCommit(session, lastMove);
+        }
+        saveMoves(session);
+        return result;
+    }
+
+    /**
+     * Finishes the match with the scores from the game result.
+     *
+     * @return the finished match, or null if it was no longer in progress or its lease was lost
+     */
+    @Transactional
+    public @Nullable Match finishMatch(MatchSession session, GameResult result) {
+        return complete(session, match -> {
+            match.finish();
+            for (MatchParticipant p : match.getParticipants()) {
+                p.recordScore(result.scores().getScore(p.getPlayerIndex()));
+            }
+        });
+    }
+
+    /**
+     * Forfeits the match. The opponent of the forfeiting player wins.
+     *
+     * @return the forfeited match, or null if it was no longer in progress or its lease was lost
+     */
+    @Transactional
+    public @Nullable Match forfeitMatch(MatchSession session, int forfeitingPlayerIndex, String reason) {
+        int winnerIndex = 1 - forfeitingPlayerIndex;
+        return complete(session, match -> {
+            match.forfeit(reason);
+            for (MatchParticipant p : match.getParticipants()) {
+                p.recordScore(p.getPlayerIndex() == winnerIndex ? 1.0 : 0.0);
+            }
+        });
+    }
+
+    /**
+     * Finishes the match as a draw.
+     *
+     * @return the finished match, or null if it was no longer in progress or its lease was lost
+     */
+    @Transactional
+    public @Nullable Match endMatchAsDraw(MatchSession session) {
+        return complete(session, match -> {
+            match.finish();
+            for (MatchParticipant p : match.getParticipants()) {
+                p.recordScore(0.5);
+            }
+        });
+    }
+
+    /**
+     * Aborts the match if it is still in progress and the node still holds its lease.
+     */
+    @Transactional
+    public void abortMatch(Long matchId, String workerId) {
+        if (!matchQueueRepository.lockLease(matchId, workerId)) {
+            log.info("Lost the lease of match {}, not aborting it", matchId);
+            return;
+        }
+        matchRepository.findById(matchId).ifPresent(match -> {
+            if (match.getStatus() == MatchStatus.IN_PROGRESS) {
+                log.warn("Aborting match {} due to unexpected error", matchId);
+                match.abort();
+                matchRepository.save(match);
+            }
+        });
+    }
+
+    private void saveMoves(MatchSession session) {
+        List<AbstractMatchMove> moves = session.drainPendingMoves();
+        if (moves.isEmpty()) {
+            return;
+        }
+        if (compactMoveLog) {
+            matchMoveLogService.append(session.getMatch(), moves);
+        } else {
+            matchMoveRepository.saveAll(moves);
+        }
+    }
+
+    private @Nullable Match complete(MatchSession session, Consumer<Match> completion) {
+        Long matchId = session.getMatchId();
+        if (!matchQueueRepository.lockLease(matchId, session.getWorkerId())) {
+            log.info("Lost the lease of match {}, not completing it", matchId);
+            session.stop();
+            return null;
+        }
+        Match match = fetchMatch(matchId);
+        if (match.getStatus() != MatchStatus.IN_PROGRESS) {
+            log.info("Match {} is no longer in progress, not completing it", matchId);
+            return null;
+        }
+        completion.accept(match);
+        return matchRepository.save(match);
+    }
+
+    private GameMatchExecutor getExecutorForGame(Game game) {
+        GameMatchExecutor executor = executorsByGame.get(game);
+        if (executor == null) {
+            throw new UnsupportedOperationException("No executor registered for game: " + game);
+        }
+        return executor;
+    }
+
+    private Match fetchMatch(Long matchId) {
+        return matchRepository.findByIdWithParticipants(matchId)
+                .orElseThrow(() -> new IllegalStateException("Match not found: " + matchId));
+    }
+}
@@ -0,0 +1,160 @@
+package com.algorena.games.application;
+
+import com.algorena.games.data.MatchQueueRepository;
+import com.algorena.games.data.MatchRepository;
+import com.algorena.games.data.WorkerNodeRepository;
+import com.algorena.games.domain.MatchQueueEntry;
+import com.algorena.games.domain.MatchStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Transactions on the match queue and the worker node registry, used by {@link MatchWorker}.
+ * <p>
+ * A lease lasts {@code algorena.match.queue.lease-ms} and should span several heartbeats, so that a node that misses
+ * a heartbeat keeps its matches. Lease times are taken from the database clock, so the clocks of the nodes do not
+ * need to agree.
+ */
+@Service
+public class MatchQueueService {
+
+    private final MatchQueueRepository matchQueueRepository;
+    private final WorkerNodeRepository workerNodeRepository;
+    private final MatchRepository matchRepository;
+    private final long leaseMs;
+
+    public MatchQueueService(MatchQueueRepository matchQueueRepository,
+                             WorkerNodeRepository workerNodeRepository,
+                             MatchRepository matchRepository,
+                             @Value("${algorena.match.queue.lease-ms:30000}") long leaseMs) {
+        this.matchQueueRepository = matchQueueRepository;
+        this.workerNodeRepository = workerNodeRepository;
+        this.matchRepository = matchRepository;
+        this.leaseMs = leaseMs;
+    }
+
+    /**
+     * Queues a match for the next node with capacity left.
+     */
+    @Transactional
+    public void enqueue(Long matchId, Long userId) {
+        matchQueueRepository.enqueue(matchId, userId);
+    }
+
+    /**
+     * Queues a match that the given node starts right away.
+     */
+    @Transactional
+    public void enqueueClaimed(Long matchId, Long userId, String workerId) {
+        matchQueueRepository.enqueueClaimed(matchId, userId, workerId, leaseMs);
+    }
+
+    /**
+     * Queues up to {@code limit} in-progress matches that no node is running: matches that are not in the queue and
+     * whose game state has not changed for {@code staleMs}.
+     *
+     * @return the number of queued matches
+     */
+    @Transactional
+    public int enqueueOrphaned(long staleMs, int limit) {
+        return matchQueueRepository.enqueueOrphaned(staleMs, limit);
+    }
+
+    /**
+     * Claims up to {@code limit} matches that are not leased by any node.
+     *
+     * @return the claimed matches, in queue order
+     */
+    @Transactional
+    public List<ClaimedMatch> claim(String workerId, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<MatchQueueEntry> entries = matchQueueRepository.lockClaimable(limit);
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        matchQueueRepository.claim(entries.stream().map(MatchQueueEntry::getMatchId).toList(), workerId, leaseMs);
+        return entries.stream()
+                .map(entry -> new ClaimedMatch(entry.getMatchId(), entry.getUserId(), entry.getAttempts() + 1))
+                .toList();
+    }
+
+    /**
+     * Extends the leases of the matches running on a node.
+     *
+     * @param matchIds the matches the node is running
+     * @return the matches the node holds a lease for; a running match that is missing has been claimed by another node
+     */
+    @Transactional
+    public Set<Long> renewLeases(String workerId, Collection<Long> matchIds) {
+        if (!matchIds.isEmpty()) {
+            matchQueueRepository.renewLeases(workerId, matchIds, leaseMs);
+        }
+        return new HashSet<>(matchQueueRepository.findMatchIdsByWorkerId(workerId));
+    }
+
+    /**
+     * Gives up the lease of a match that the node did not run, or stopped running while the match was still in
+     * progress. The match can be claimed again after the delay, and the claim does not count as an attempt.
+     */
+    @Transactional
+    public void release(Long matchId, String workerId, long delayMs) {
+        matchQueueRepository.release(matchId, workerId, delayMs);
+    }
+
+    /**
+     * Called once a node has stopped running a match: removes the match from the queue if it is no longer in
+     * progress, otherwise releases it so that another node resumes it.
+     */
+    @Transactional
+    public void finish(Long matchId, String workerId) {
+        boolean inProgress = matchRepository.findById(matchId)
+                .map(match -> match.getStatus() == MatchStatus.IN_PROGRESS)
+                .orElse(false);
+        if (inProgress) {
+            matchQueueRepository.release(matchId, workerId, 0);
+        } else {
+            matchQueueRepository.deleteClaimed(matchId, workerId);
+        }
+    }
+
+    /**
+     * Records that a node is alive, registering it again if it was removed as stale.
+     */
+    @Transactional
+    public void heartbeat(String workerId, String hostname, int runningMatches) {
+        if (workerNodeRepository.heartbeat(workerId, runningMatches) == 0) {
+            workerNodeRepository.register(workerId, hostname, runningMatches);
+        }
+    }
+
+    @Transactional
+    public void deregister(String workerId) {
+        workerNodeRepository.deregister(workerId);
+    }
+
+    /**
+     * Removes the nodes that have not sent a heartbeat for a whole lease: their leases have expired.
+     *
+     * @return the number of removed nodes
+     */
+    @Transactional
+    public int removeStaleWorkers() {
+        return workerNodeRepository.deleteStale(leaseMs);
+    }
+
+    /**
+     * A match claimed by a node.
+     *
+     * @param attempts the number of times the match was claimed, including this time
+     */
+    public record ClaimedMatch(Long matchId, Long userId, int attempts) {
+    }
+}
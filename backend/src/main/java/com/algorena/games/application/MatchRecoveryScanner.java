@@ -0,0 +1,67 @@
+package com.algorena.games.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Puts in-progress matches that no node is running back into the match queue, where {@link MatchWorker}s resume
+ * them from their persisted game state.
+ * <p>
+ * Matches in the queue whose node died are resumed once their lease expires. This scanner finds the matches that
+ * never made it into the queue: matches started before the queue existed, by nodes of an older version during a
+ * rolling deploy, or by a node that died right after creating them. A match counts as orphaned once its game
+ * state has not changed for {@code algorena.match.recovery.stale-after-ms}, which must be well above the bot timeout,
+ * so that matches still run by an older node are left alone.
+ * <p>
+ * The scan runs when the application is ready and then every {@code algorena.match.recovery.interval-ms}, and queues
+ * at most {@code algorena.match.recovery.batch-size} matches per run, so that a large backlog is resumed gradually
+ * rather than all at once.
+ */
+@Component
+@Slf4j
+public class MatchRecoveryScanner {
+
+    private final MatchQueueService matchQueueService;
+    private final boolean enabled;
+    private final long staleAfterMs;
+    private final int batchSize;
+
+    public MatchRecoveryScanner(
+            MatchQueueService matchQueueService,
+            @Value("${algorena.match.recovery.enabled:true}") boolean enabled,
+            @Value("${algorena.match.recovery.stale-after-ms:120000}") long staleAfterMs,
+            @Value("${algorena.match.recovery.batch-size:100}") int batchSize
+    ) {
+        this.matchQueueService = matchQueueService;
+        this.enabled = enabled;
+        this.staleAfterMs = staleAfterMs;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverOnStartup() {
+        recover();
+    }
+
+    /**
+     * Queues the next batch of orphaned matches.
+     *
+     * @return the number of queued matches
+     */
+    @Scheduled(fixedDelayString = "${algorena.match.recovery.interval-ms:10000}",
+            initialDelayString = "${algorena.match.recovery.interval-ms:10000}")
+    public int recover() {
+        if (!enabled) {
+            return 0;
+        }
+        int queued = matchQueueService.enqueueOrphaned(staleAfterMs, batchSize);
+        if (queued > 0) {
+            log.info("Queued {} orphaned in-progress matches to be resumed", queued);
+        }
+        return queued;
+    }
+}
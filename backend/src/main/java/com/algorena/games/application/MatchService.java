@@ -1,10 +1,17 @@
 package com.algorena.games.application;
 
+import com.algorena.bots.domain.Game;
+import com.algorena.games.domain.MatchStatus;
 import com.algorena.games.dto.CreateMatchRequest;
 import com.algorena.games.dto.MatchDTO;
 import com.algorena.games.dto.MatchMoveDTO;
+import com.algorena.games.dto.MatchSliceDTO;
+import org.jspecify.annotations.Nullable;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface MatchService {
     /**
@@ -16,6 +23,16 @@ public interface MatchService {
      */
     MatchDTO createMatch(CreateMatchRequest request);
 
+    /**
+     * Creates matches between pairs of bots found by matchmaking, in one transaction, and queues them for any node
+     * to run. The bots are expected to play the game; the matches are run for the owner of the first bot.
+     *
+     * @param game      The game of the matches.
+     * @param pairings  The bots to match.
+     * @return The IDs of the created matches.
+     */
+    List<Long> createQueuedMatches(Game game, List<MatchPairing> pairings);
+
     /**
      * Retrieves a match by its ID.
      *
@@ -33,19 +50,40 @@ public interface MatchService {
     List<MatchMoveDTO> getMatchMoves(Long matchId);
 
     /**
-     * Retrieves matches played by a specific bot.
+     * Passes a range of moves of a match to the consumer in play order, one move at a time,
+     * without loading the whole history into memory.
      *
-     * @param botId The ID of the bot.
-     * @return List of MatchDTO.
+     * @param matchId  The ID of the match.
+     * @param fromPly  The first ply to return, 0-based.
+     * @param toPly    The ply to stop before, or null to return all moves from fromPly on.
+     * @param consumer Receives each move, e.g. to write it to the response.
      */
-    List<MatchDTO> getMatchesForBot(Long botId);
+    void streamMatchMoves(Long matchId, int fromPly, @Nullable Integer toPly, Consumer<MatchMoveDTO> consumer);
 
     /**
-     * Retrieves all matches for the current user's bots.
+     * Opens a Server-Sent Events stream of a match: a snapshot of the match and its moves, then each new move
+     * and the result, pushed as they happen. Matches that are not running on this node get a single event:
+     * the result if the match has ended, otherwise a snapshot read from the database and a reconnect delay.
      *
-     * @return List of MatchDTO.
+     * @param matchId The ID of the match.
+     * @return The event stream.
+     */
+    SseEmitter streamLiveMatch(Long matchId);
+
+    /**
+     * Retrieves a slice of the match history of a bot, or of all bots of the current user, newest first.
+     *
+     * @param botId         The ID of the bot, or null for the current user's bots.
+     * @param opponentBotId Only matches this bot also played in, if not null.
+     * @param statuses      Only matches with one of these statuses, if not null or empty.
+     * @param game          Only matches of this game, if not null.
+     * @param cursor        The cursor returned with the previous slice, or null for the first slice.
+     * @param size          Maximum number of matches to return, up to 100.
+     * @return MatchSliceDTO.
      */
-    List<MatchDTO> getCurrentUserMatches();
+    MatchSliceDTO getMatchHistory(@Nullable Long botId, @Nullable Long opponentBotId,
+                                  @Nullable Collection<MatchStatus> statuses,
+                                  @Nullable Game game, @Nullable String cursor, int size);
 
     /**
      * Retrieves recent matches across the platform.
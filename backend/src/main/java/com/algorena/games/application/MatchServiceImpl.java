@@ -13,14 +13,18 @@ import com.algorena.games.connect4.data.Connect4GameStateRepository;
 import com.algorena.games.connect4.domain.Connect4GameState;
 import com.algorena.games.connect4.engine.Connect4GameEngine;
 import com.algorena.games.data.MatchMoveRepository;
+import com.algorena.games.data.MatchMoveStreamRepository;
 import com.algorena.games.data.MatchRepository;
 import com.algorena.games.domain.AbstractGameState;
+import com.algorena.games.domain.AbstractMatchMove;
 import com.algorena.games.domain.Match;
 import com.algorena.games.domain.MatchParticipant;
 import com.algorena.games.domain.MatchStatus;
 import com.algorena.games.dto.CreateMatchRequest;
+import com.algorena.games.dto.LiveMatchSnapshotDTO;
 import com.algorena.games.dto.MatchDTO;
 import com.algorena.games.dto.MatchMoveDTO;
+import com.algorena.games.dto.MatchSliceDTO;
 import com.algorena.games.engine.GameEngine;
 import com.algorena.games.engine.GameEngineFactory;
 import com.algorena.games.mapper.MatchMapper;
@@ -28,33 +32,61 @@ import com.algorena.security.CurrentUser;
 import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class MatchServiceImpl implements MatchService {
 
+    private static final int MAX_HISTORY_SLICE_SIZE = 100;
+
     private final MatchRepository matchRepository;
     private final MatchMoveRepository matchMoveRepository;
+    private final MatchMoveLogService matchMoveLogService;
+    private final MatchMoveStreamRepository matchMoveStreamRepository;
     private final ChessGameStateRepository chessGameStateRepository;
     private final Connect4GameStateRepository connect4GameStateRepository;
     private final GameEngineFactory gameEngineFactory;
     private final BotRepository botRepository;
     private final CurrentUser currentUser;
-    private final MatchExecutorService matchExecutorService;
+    private final MatchWorker matchWorker;
+    private final MatchQueueService matchQueueService;
+    private final MatchAdmissionService matchAdmissionService;
+    private final MatchSessionRegistry matchSessionRegistry;
+    private final LiveMatchBroadcaster liveMatchBroadcaster;
     private final MatchMapper matchMapper;
 
     @Override
     public MatchDTO createMatch(CreateMatchRequest request) {
-        MatchDTO matchDTO = createMatchInTransaction(request);
-
-        // Start async match execution after transaction commits
-        matchExecutorService.executeMatch(matchDTO.id());
-
-        return matchDTO;
+        // Reserve capacity before creating anything, so rejected matches leave no trace
+        MatchAdmissionService.Permit permit = matchAdmissionService.admit(currentUser.id());
+        try {
+            MatchDTO matchDTO = createMatchInTransaction(request);
+
+            // Queue the match as claimed by this node and start it; another node resumes it if this one goes down
+            matchWorker.run(matchDTO.id(), currentUser.id(), permit);
+
+            return matchDTO;
+        } catch (RuntimeException e) {
+            permit.close();
+            throw e;
+        }
     }
 
     @Transactional
@@ -68,8 +100,45 @@ public class MatchServiceImpl implements MatchService {
             throw new BadRequestException("Both bots must play " + request.game());
         }
 
+        Match match = startMatch(request.game(), bot1, bot2);
+
+        // Initialize Game State
+        AbstractGameState gameState = initializeGameState(match);
+
+        // Build DTO while still in transaction (to access lazy-loaded collections)
+        return matchMapper.toDTO(match, gameState);
+    }
+
+    @Override
+    @Transactional
+    public List<Long> createQueuedMatches(Game game, List<MatchPairing> pairings) {
+        Set<Long> botIds = new HashSet<>();
+        pairings.forEach(pairing -> {
+            botIds.add(pairing.bot1Id());
+            botIds.add(pairing.bot2Id());
+        });
+        Map<Long, Bot> bots = botRepository.findAllById(botIds).stream()
+                .collect(Collectors.toMap(Bot::getId, Function.identity()));
+
+        Map<Long, Long> userIdsByMatchId = new LinkedHashMap<>();
+        for (MatchPairing pairing : pairings) {
+            Bot bot1 = bots.get(pairing.bot1Id());
+            Bot bot2 = bots.get(pairing.bot2Id());
+            if (bot1 == null || bot2 == null) {
+                throw new DataNotFoundException("Bot not found for pairing " + pairing);
+            }
+            Match match = startMatch(game, bot1, bot2);
+            initializeGameState(match);
+            userIdsByMatchId.put(match.getId(), bot1.getUserId());
+        }
+        // Queued once all matches are created: the first insert flushes them in JDBC batches
+        userIdsByMatchId.forEach(matchQueueService::enqueue);
+        return List.copyOf(userIdsByMatchId.keySet());
+    }
+
+    private Match startMatch(Game game, Bot bot1, Bot bot2) {
         Match match = Match.builder()
-                .game(request.game())
+                .game(game)
                 .status(MatchStatus.IN_PROGRESS)
                 .build();
         match.start();
@@ -89,13 +158,7 @@ public class MatchServiceImpl implements MatchService {
         match.addParticipant(p1);
         match.addParticipant(p2);
 
-        matchRepository.save(match);
-
-        // Initialize Game State
-        AbstractGameState gameState = initializeGameState(match);
-
-        // Build DTO while still in transaction (to access lazy-loaded collections)
-        return matchMapper.toDTO(match, gameState);
+        return matchRepository.save(match);
     }
 
     /**
@@ -132,34 +195,84 @@ public class MatchServiceImpl implements MatchService {
     public List<MatchMoveDTO> getMatchMoves(Long matchId) {
         Match match = matchRepository.findById(matchId)
                 .orElseThrow(() -> new DataNotFoundException("Match not found"));
-
-        return matchMoveRepository.findByMatchIdOrderByCreatedAsc(matchId).stream()
-                .map(matchMapper::toMoveDTO)
-                .toList();
+        return readMoves(match);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<MatchDTO> getMatchesForBot(Long botId) {
-        return matchRepository.findByParticipants_Bot_Id(botId).stream()
-                .map(this::toMatchDTO)
-                .toList();
+    public void streamMatchMoves(Long matchId, int fromPly, @Nullable Integer toPly,
+                                 Consumer<MatchMoveDTO> consumer) {
+        if (fromPly < 0 || toPly != null && toPly < fromPly) {
+            throw new BadRequestException("Invalid ply range: " + fromPly + " to " + toPly);
+        }
+        Match match = matchRepository.findById(matchId)
+                .orElseThrow(() -> new DataNotFoundException("Match not found"));
+
+        // Matches played with the compact move log have no move rows
+        boolean logged = matchMoveLogService.forEach(match, fromPly, toPly,
+                move -> consumer.accept(matchMapper.toMoveDTO(move)));
+        if (!logged) {
+            matchMoveStreamRepository.forEach(matchId, match.getGame(), fromPly, toPly, consumer);
+        }
+    }
+
+    @Override
+    public SseEmitter streamLiveMatch(Long matchId) {
+        // Not transactional: viewers of a match running on this node are served from memory
+        SseEmitter emitter = liveMatchBroadcaster.subscribe(matchId);
+        if (emitter != null) {
+            return emitter;
+        }
+
+        Match match = matchRepository.findByIdWithParticipants(matchId)
+                .orElseThrow(() -> new DataNotFoundException("Match not found"));
+        MatchDTO matchDTO = matchMapper.toDTO(match, getGameState(match));
+        if (match.getStatus() != MatchStatus.IN_PROGRESS) {
+            return liveMatchBroadcaster.sendOnce(LiveMatchBroadcaster.END, matchDTO, false);
+        }
+        // Running on another node, or not started yet: the client reconnects and may land on the right node
+        return liveMatchBroadcaster.sendOnce(LiveMatchBroadcaster.SNAPSHOT,
+                new LiveMatchSnapshotDTO(matchDTO, readMoves(match)), true);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<MatchDTO> getCurrentUserMatches() {
-        return matchRepository.findByUserIdOrderByCreatedDesc(currentUser.id()).stream()
-                .map(this::toMatchDTO)
-                .toList();
+    public MatchSliceDTO getMatchHistory(@Nullable Long botId, @Nullable Long opponentBotId,
+                                         @Nullable Collection<MatchStatus> statuses, @Nullable Game game,
+                                         @Nullable String cursor, int size) {
+        if (size < 1 || size > MAX_HISTORY_SLICE_SIZE) {
+            throw new BadRequestException("Size must be between 1 and " + MAX_HISTORY_SLICE_SIZE + ", got: " + size);
+        }
+        MatchCursor after = cursor != null ? MatchCursor.decode(cursor) : null;
+        List<Long> botIds = botId != null ? List.of(botId) : botRepository.findIdsByUserId(currentUser.id());
+        if (botIds.isEmpty()) {
+            return new MatchSliceDTO(List.of(), null);
+        }
+
+        Collection<MatchStatus> statusFilter = statuses == null || statuses.isEmpty()
+                ? EnumSet.allOf(MatchStatus.class)
+                : statuses;
+
+        // Fetch one extra row to know whether there is a next slice
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Match> matches = after == null
+                ? matchRepository.findHistoryFirst(botIds, opponentBotId, statusFilter, game, limit)
+                : matchRepository.findHistoryAfter(botIds, opponentBotId, statusFilter, game,
+                after.created(), after.id(), limit);
+
+        String nextCursor = null;
+        if (matches.size() > size) {
+            matches = matches.subList(0, size);
+            Match last = matches.getLast();
+            nextCursor = new MatchCursor(last.getCreated(), last.getId()).encode();
+        }
+        return new MatchSliceDTO(toMatchDTOs(matches), nextCursor);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<MatchDTO> getRecentMatches(int limit) {
-        return matchRepository.findRecentMatches(PageRequest.of(0, limit)).stream()
-                .map(this::toMatchDTO)
-                .toList();
+        return toMatchDTOs(matchRepository.findRecentMatches(PageRequest.of(0, limit)));
     }
 
     @Override
@@ -182,6 +295,9 @@ public class MatchServiceImpl implements MatchService {
 
         match.abort();
         matchRepository.save(match);
+
+        // Stop the running match loop once the abort is committed
+        matchSessionRegistry.signalStop(matchId);
     }
 
     @Override
@@ -218,11 +334,53 @@ public class MatchServiceImpl implements MatchService {
     }
 
     /**
-     * Helper method to convert Match to DTO with game state lookup.
+     * Maps a list of matches with a fixed number of queries: one for the participants and bots of all matches,
+     * and one per game type for the game states.
      */
-    private MatchDTO toMatchDTO(Match match) {
-        AbstractGameState gameState = getGameState(match);
-        return matchMapper.toDTO(match, gameState);
+    private List<MatchDTO> toMatchDTOs(List<Match> matches) {
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        List<Long> matchIds = matches.stream().map(Match::getId).toList();
+        Map<Long, Match> matchesWithParticipants = matchRepository.findAllWithParticipantsByIdIn(matchIds).stream()
+                .collect(Collectors.toMap(Match::getId, Function.identity()));
+        Map<Long, AbstractGameState> gameStates = getGameStates(matches);
+
+        return matches.stream()
+                .map(match -> matchMapper.toDTO(
+                        matchesWithParticipants.getOrDefault(match.getId(), match),
+                        gameStates.get(match.getId())))
+                .toList();
+    }
+
+    /**
+     * Fetches the game states of several matches, with one query per game type.
+     *
+     * @return the game states by match ID
+     */
+    private Map<Long, AbstractGameState> getGameStates(List<Match> matches) {
+        Map<Game, List<Long>> matchIdsByGame = matches.stream()
+                .collect(Collectors.groupingBy(Match::getGame, () -> new EnumMap<>(Game.class),
+                        Collectors.mapping(Match::getId, Collectors.toList())));
+
+        Map<Long, AbstractGameState> gameStates = new HashMap<>();
+        matchIdsByGame.forEach((game, matchIds) -> {
+            List<? extends AbstractGameState> states = switch (game) {
+                case CHESS -> chessGameStateRepository.findByMatchIdIn(matchIds);
+                case CONNECT_FOUR -> connect4GameStateRepository.findByMatchIdIn(matchIds);
+            };
+            states.forEach(state -> gameStates.put(state.getMatch().getId(), state));
+        });
+        return gameStates;
+    }
+
+    private List<MatchMoveDTO> readMoves(Match match) {
+        // Matches played with the compact move log have no move rows
+        List<AbstractMatchMove> moves = matchMoveLogService.read(match)
+                .orElseGet(() -> matchMoveRepository.findByMatchIdOrderByPlayedAtAsc(match.getId()));
+        return moves.stream()
+                .map(matchMapper::toMoveDTO)
+                .toList();
     }
 
     /**
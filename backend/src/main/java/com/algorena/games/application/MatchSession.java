@@ -0,0 +1,161 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Bot;
+import com.algorena.bots.domain.Game;
+import com.algorena.games.domain.AbstractGameState;
+import com.algorena.games.domain.AbstractMatchMove;
+import com.algorena.games.domain.Match;
+import com.algorena.games.domain.MatchParticipant;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory state of a running match, kept for as long as its match loop runs.
+ * <p>
+ * The match, its participants and bots and the game state are loaded once
+ * when the session is opened, so the loop does not have to read them back from the database on every move.
+ * Sessions are only used by the thread running the match, except for {@link #stop()}, which may be
+ * called from any thread to make the loop stop at its next step.
+ */
+public class MatchSession {
+
+    private final Match match;
+    private final String workerId;
+    private final GameMatchExecutor executor;
+    private final Map<Integer, Bot> botsByPlayerIndex;
+    private final List<AbstractMatchMove> previousMoves;
+    private AbstractGameState state;
+    private @Nullable Object position;
+    private final List<AbstractMatchMove> pendingMoves = new ArrayList<>();
+    private volatile boolean stopped;
+
+    /**
+     * @param match         the match, with participants and bots loaded
+     * @param workerId      the ID of the node running the match, which must hold its lease in the match queue
+     * @param executor      the executor for the match's game
+     * @param state         the persisted game state of the match
+     * @param previousMoves the moves persisted before the session was opened, in play order; only a match that is
+     *                      resumed, e.g. on another node after its lease expired, has any
+     */
+    public MatchSession(Match match, String workerId, GameMatchExecutor executor, AbstractGameState state,
+                        List<AbstractMatchMove> previousMoves) {
+        this.match = match;
+        this.workerId = workerId;
+        this.executor = executor;
+        this.state = state;
+        this.previousMoves = List.copyOf(previousMoves);
+        this.botsByPlayerIndex = match.getParticipants().stream()
+                .collect(Collectors.toUnmodifiableMap(MatchParticipant::getPlayerIndex, MatchParticipant::getBot));
+    }
+
+    public Long getMatchId() {
+        return match.getId();
+    }
+
+    /**
+     * @return the ID of the node running the match; its state is only written while this node holds the lease
+     */
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    public Game getGame() {
+        return match.getGame();
+    }
+
+    /**
+     * @return the match as loaded when the session was opened; only used as a reference, its status is not kept up to date
+     */
+    public Match getMatch() {
+        return match;
+    }
+
+    public GameMatchExecutor getExecutor() {
+        return executor;
+    }
+
+    public Bot getBot(int playerIndex) {
+        Bot bot = botsByPlayerIndex.get(playerIndex);
+        if (bot == null) {
+            throw new IllegalStateException("Participant not found for index " + playerIndex);
+        }
+        return bot;
+    }
+
+    /**
+     * @return the moves persisted before the session was opened, in play order
+     */
+    public List<AbstractMatchMove> getPreviousMoves() {
+        return previousMoves;
+    }
+
+    public <S extends AbstractGameState> S getState(Class<S> type) {
+        return type.cast(state);
+    }
+
+    public void setState(AbstractGameState state) {
+        this.state = state;
+    }
+
+    /**
+     * Returns the game-specific live representation of the state (e.g. a chess board), creating it on first use.
+     * It is kept for the rest of the match, so executors can play moves on it incrementally.
+     *
+     * @param type    the type of the position
+     * @param factory creates the position from the current state
+     * @return the position
+     */
+    public <P> P getPosition(Class<P> type, Supplier<P> factory) {
+        if (position == null) {
+            position = factory.get();
+        }
+        return type.cast(position);
+    }
+
+    /**
+     * Buffers a played move until {@link MatchProgressService} writes it, in the transaction that applied it,
+     * stamped with the time it was played.
+     */
+    public void addPendingMove(AbstractMatchMove move) {
+        move.setPlayedAt(LocalDateTime.now());
+        pendingMoves.add(move);
+    }
+
+    public int getPendingMoveCount() {
+        return pendingMoves.size();
+    }
+
+    /**
+     * @return the move buffered last, or null if the buffer is empty
+     */
+    public @Nullable AbstractMatchMove getLastPendingMove() {
+        return pendingMoves.isEmpty() ? null : pendingMoves.getLast();
+    }
+
+    /**
+     * @return the buffered moves in the order they were played; the buffer is empty afterwards
+     */
+    public List<AbstractMatchMove> drainPendingMoves() {
+        List<AbstractMatchMove> moves = List.copyOf(pendingMoves);
+        pendingMoves.clear();
+        return moves;
+    }
+
+    /**
+     * Signals the match loop to stop, e.g. because the match was aborted or its lease was lost.
+     */
+    public void stop() {
+        this.stopped = true;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+}
@@ -0,0 +1,68 @@
+package com.algorena.games.application;
+
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the {@link MatchSession}s of matches running on this node,
+ * so that other parts of the application can signal them without going through the database.
+ */
+@Component
+@Slf4j
+public class MatchSessionRegistry {
+
+    private final Map<Long, MatchSession> sessions = new ConcurrentHashMap<>();
+
+    public void register(MatchSession session) {
+        sessions.put(session.getMatchId(), session);
+    }
+
+    public void unregister(MatchSession session) {
+        sessions.remove(session.getMatchId(), session);
+    }
+
+    public @Nullable MatchSession get(Long matchId) {
+        return sessions.get(matchId);
+    }
+
+    /**
+     * @return the number of matches running on this node
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Tells the match loop of a running match to stop.
+     * When called inside a transaction, the signal is sent after the transaction commits,
+     * so the loop only stops once the new match status is visible.
+     *
+     * @param matchId the ID of the match
+     */
+    public void signalStop(Long matchId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stopSession(matchId);
+                }
+            });
+        } else {
+            stopSession(matchId);
+        }
+    }
+
+    private void stopSession(Long matchId) {
+        MatchSession session = sessions.get(matchId);
+        if (session != null) {
+            log.info("Signalling match {} to stop", matchId);
+            session.stop();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Bot;
+import com.algorena.games.dto.BotMoveRequest;
+import com.algorena.games.engine.GameResult;
+
+/**
+ * Outcome of preparing a turn from the current game state.
+ * Either the game is already over, or a bot has to be asked for its next move.
+ */
+public sealed interface MatchTurn {
+
+    /**
+     * The game has ended before a new move was requested.
+     *
+     * @param result the final result of the game
+     */
+    record Finished(GameResult result) implements MatchTurn {
+    }
+
+    /**
+     * The game continues and the given bot has to provide the next move.
+     *
+     * @param playerIndex the index of the player to move
+     * @param bot         the bot playing for that player
+     * @param request     the move request to send to the bot
+     */
+    record Pending(int playerIndex, Bot bot, BotMoveRequest request) implements MatchTurn {
+    }
+}
@@ -0,0 +1,239 @@
+package com.algorena.games.application;
+
+import com.algorena.common.exception.ConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Runs matches from the match queue on this node, so that any number of backend nodes share the matches.
+ * <p>
+ * Matches created on this node are claimed by it and start right away. Every
+ * {@code algorena.match.queue.poll-interval-ms}, the worker also claims up to {@code algorena.match.queue.claim-batch-size}
+ * matches that no node holds a lease for, as far as {@link MatchAdmissionService} has capacity left: matches queued
+ * for any node, and matches whose node stopped renewing its lease, e.g. because it crashed. The latter are resumed
+ * from their persisted game state. A match claimed more than {@code algorena.match.queue.max-attempts} times is
+ * aborted instead, so that a match that keeps failing does not take down node after node.
+ * <p>
+ * Every {@code algorena.match.queue.heartbeat-interval-ms}, the worker renews the registration of the node and the
+ * leases of its matches, and stops the matches whose lease was taken over by another node. On shutdown it stops
+ * its matches and releases them, so that other nodes resume them without waiting for the leases to expire.
+ */
+@Component
+@Slf4j
+public class MatchWorker {
+
+    private static final int MAX_HOSTNAME_LENGTH = 48;
+
+    private final MatchQueueService matchQueueService;
+    private final MatchExecutorService matchExecutorService;
+    private final MatchProgressService matchProgressService;
+    private final MatchAdmissionService matchAdmissionService;
+    private final MatchSessionRegistry matchSessionRegistry;
+    private final long pollIntervalMs;
+    private final int claimBatchSize;
+    private final int maxAttempts;
+    private final long shutdownTimeoutMs;
+    private final String hostname = hostname();
+    private final String workerId =
+            hostname + "-" + Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private final Set<Long> runningMatchIds = ConcurrentHashMap.newKeySet();
+    private volatile boolean accepting;
+
+    public MatchWorker(
+            MatchQueueService matchQueueService,
+            MatchExecutorService matchExecutorService,
+            MatchProgressService matchProgressService,
+            MatchAdmissionService matchAdmissionService,
+            MatchSessionRegistry matchSessionRegistry,
+            @Value("${algorena.match.queue.poll-interval-ms:1000}") long pollIntervalMs,
+            @Value("${algorena.match.queue.claim-batch-size:20}") int claimBatchSize,
+            @Value("${algorena.match.queue.max-attempts:5}") int maxAttempts,
+            @Value("${algorena.match.queue.shutdown-timeout-ms:15000}") long shutdownTimeoutMs
+    ) {
+        this.matchQueueService = matchQueueService;
+        this.matchExecutorService = matchExecutorService;
+        this.matchProgressService = matchProgressService;
+        this.matchAdmissionService = matchAdmissionService;
+        this.matchSessionRegistry = matchSessionRegistry;
+        this.pollIntervalMs = pollIntervalMs;
+        this.claimBatchSize = claimBatchSize;
+        this.maxAttempts = maxAttempts;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+    }
+
+    /**
+     * @return the ID of this node in the match queue
+     */
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    /**
+     * Queues a match claimed by this node and starts it.
+     *
+     * @param permit the admission permit obtained for the match, released once the match stops running
+     */
+    public void run(Long matchId, Long userId, MatchAdmissionService.Permit permit) {
+        matchQueueService.enqueueClaimed(matchId, userId, workerId);
+        try {
+            execute(matchId, permit);
+        } catch (RuntimeException e) {
+            matchQueueService.release(matchId, workerId, 0);
+            throw e;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        matchQueueService.heartbeat(workerId, hostname, 0);
+        accepting = true;
+        log.info("Registered match worker {}", workerId);
+    }
+
+    /**
+     * Claims and starts the matches that are not running on any node, as far as this node has capacity.
+     */
+    @Scheduled(fixedDelayString = "${algorena.match.queue.poll-interval-ms:1000}")
+    public void poll() {
+        if (!accepting) {
+            return;
+        }
+        int limit = Math.min(claimBatchSize, matchAdmissionService.availableCapacity());
+        for (MatchQueueService.ClaimedMatch claimed : matchQueueService.claim(workerId, limit)) {
+            start(claimed);
+        }
+    }
+
+    /**
+     * Renews the registration of this node and the leases of its matches.
+     */
+    @Scheduled(fixedDelayString = "${algorena.match.queue.heartbeat-interval-ms:5000}")
+    public void heartbeat() {
+        if (!accepting) {
+            return;
+        }
+        // Matches started after this copy are not checked, their lease may not be visible yet
+        Set<Long> running = Set.copyOf(runningMatchIds);
+        matchQueueService.heartbeat(workerId, hostname, running.size());
+        Set<Long> leased = matchQueueService.renewLeases(workerId, running);
+        for (Long matchId : running) {
+            if (!leased.contains(matchId)) {
+                log.warn("Lost the lease of match {} to another node, stopping it", matchId);
+                matchSessionRegistry.signalStop(matchId);
+            }
+        }
+
+        int removed = matchQueueService.removeStaleWorkers();
+        if (removed > 0) {
+            log.info("Removed {} match workers that stopped sending heartbeats", removed);
+        }
+    }
+
+    /**
+     * Stops the matches running on this node and hands them over to the other nodes.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void shutdown() {
+        if (!accepting) {
+            return;
+        }
+        accepting = false;
+        Set<Long> running = Set.copyOf(runningMatchIds);
+        if (!running.isEmpty()) {
+            log.info("Stopping {} matches before shutdown", running.size());
+            running.forEach(matchSessionRegistry::signalStop);
+            awaitRunningMatches();
+        }
+        try {
+            matchQueueService.deregister(workerId);
+        } catch (RuntimeException e) {
+            log.warn("Could not deregister match worker {}", workerId, e);
+        }
+    }
+
+    private void start(MatchQueueService.ClaimedMatch claimed) {
+        Long matchId = claimed.matchId();
+        if (claimed.attempts() > maxAttempts) {
+            log.warn("Aborting match {} after {} attempts to run it", matchId, maxAttempts);
+            matchProgressService.abortMatch(matchId, workerId);
+            matchQueueService.finish(matchId, workerId);
+            return;
+        }
+
+        MatchAdmissionService.Permit permit;
+        try {
+            permit = matchAdmissionService.admit(claimed.userId());
+        } catch (ConflictException e) {
+            // The user has too many matches running here, leave it to the next poll or to another node
+            matchQueueService.release(matchId, workerId, pollIntervalMs);
+            return;
+        }
+
+        log.info("Claimed match {} from the queue (attempt {})", matchId, claimed.attempts());
+        try {
+            execute(matchId, permit);
+        } catch (RuntimeException e) {
+            permit.close();
+            matchQueueService.release(matchId, workerId, pollIntervalMs);
+            log.warn("Could not start match {}, releasing it", matchId, e);
+        }
+    }
+
+    private void execute(Long matchId, MatchAdmissionService.Permit permit) {
+        runningMatchIds.add(matchId);
+        try {
+            matchExecutorService.executeMatch(matchId, workerId, permit)
+                    .whenComplete((result, e) -> onMatchStopped(matchId));
+        } catch (RuntimeException e) {
+            runningMatchIds.remove(matchId);
+            throw e;
+        }
+    }
+
+    private void onMatchStopped(Long matchId) {
+        try {
+            matchQueueService.finish(matchId, workerId);
+        } catch (RuntimeException e) {
+            // The lease expires and another node finishes up
+            log.warn("Could not remove match {} from the queue", matchId, e);
+        } finally {
+            runningMatchIds.remove(matchId);
+        }
+    }
+
+    private void awaitRunningMatches() {
+        long deadline = System.nanoTime() + shutdownTimeoutMs * 1_000_000;
+        try {
+            while (!runningMatchIds.isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!runningMatchIds.isEmpty()) {
+            log.warn("{} matches still running at shutdown, they will be resumed once their leases expire",
+                    runningMatchIds.size());
+        }
+    }
+
+    private static String hostname() {
+        String hostname;
+        try {
+            hostname = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            hostname = "unknown";
+        }
+        return hostname.length() > MAX_HOSTNAME_LENGTH ? hostname.substring(0, MAX_HOSTNAME_LENGTH) : hostname;
+    }
+}
@@ -0,0 +1,99 @@
+package com.algorena.games.application;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * The bots of one game waiting to be paired, bucketed by ELO.
+ * <p>
+ * Bots are sorted by ELO bucket, and randomly within a bucket, so that bots of similar strength do not meet the
+ * same opponent every time. Each bot is then paired with the first of the next {@value #CANDIDATES_PER_BOT} bots
+ * that is still unpaired, at most {@code maxEloGap} ELO away, owned by another user and not excluded, e.g. because
+ * the two bots met recently. Pairing n bots costs O(n log n) for the sort and O(n) for the scan.
+ * <p>
+ * Not thread-safe: a pool is built, paired and discarded within one matchmaking run.
+ */
+final class MatchmakingPool {
+
+    private static final int CANDIDATES_PER_BOT = 16;
+
+    private final int bucketWidth;
+    private final int maxEloGap;
+    private final RandomGenerator random;
+    private final List<Entry> entries = new ArrayList<>();
+    private final Set<BotPair> excludedPairs = new HashSet<>();
+
+    MatchmakingPool(int bucketWidth, int maxEloGap, RandomGenerator random) {
+        if (bucketWidth <= 0) {
+            throw new IllegalArgumentException("Bucket width must be positive: " + bucketWidth);
+        }
+        this.bucketWidth = bucketWidth;
+        this.maxEloGap = maxEloGap;
+        this.random = random;
+    }
+
+    void add(long botId, long userId, int eloRating) {
+        entries.add(new Entry(botId, userId, eloRating, Math.floorDiv(eloRating, bucketWidth), random.nextInt()));
+    }
+
+    /**
+     * Prevents two bots from being paired, in either order.
+     */
+    void exclude(long botId1, long botId2) {
+        excludedPairs.add(BotPair.of(botId1, botId2));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * @param limit the maximum number of pairings
+     * @return the pairings, each bot in at most one; who plays first is random
+     */
+    List<MatchPairing> pair(int limit) {
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparingInt(Entry::bucket).thenComparingInt(Entry::shuffle));
+
+        List<MatchPairing> pairings = new ArrayList<>();
+        boolean[] paired = new boolean[sorted.size()];
+        for (int i = 0; i < sorted.size() && pairings.size() < limit; i++) {
+            if (paired[i]) {
+                continue;
+            }
+            Entry bot = sorted.get(i);
+            int end = Math.min(sorted.size(), i + 1 + CANDIDATES_PER_BOT);
+            for (int j = i + 1; j < end; j++) {
+                Entry opponent = sorted.get(j);
+                if (!paired[j] && canPlay(bot, opponent)) {
+                    paired[i] = true;
+                    paired[j] = true;
+                    pairings.add(random.nextBoolean()
+                            ? new MatchPairing(bot.botId(), opponent.botId())
+                            : new MatchPairing(opponent.botId(), bot.botId()));
+                    break;
+                }
+            }
+        }
+        return pairings;
+    }
+
+    private boolean canPlay(Entry bot, Entry opponent) {
+        return Math.abs(bot.eloRating() - opponent.eloRating()) <= maxEloGap
+                && bot.userId() != opponent.userId()
+                && !excludedPairs.contains(BotPair.of(bot.botId(), opponent.botId()));
+    }
+
+    private record Entry(long botId, long userId, int eloRating, int bucket, int shuffle) {
+    }
+
+    private record BotPair(long lowId, long highId) {
+        static BotPair of(long botId1, long botId2) {
+            return new BotPair(Math.min(botId1, botId2), Math.max(botId1, botId2));
+        }
+    }
+}
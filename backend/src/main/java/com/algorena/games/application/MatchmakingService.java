@@ -0,0 +1,137 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.data.BotRepository;
+import com.algorena.bots.domain.Game;
+import com.algorena.games.data.BotRatingRepository;
+import com.algorena.games.data.MatchQueueRepository;
+import com.algorena.games.data.MatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * Pairs the active bots of each game by rating and queues matches between them, so that an arena keeps playing
+ * without users starting every match.
+ * <p>
+ * Every {@code algorena.matchmaking.interval-ms}, one node takes the active, non-deleted bots of each game that have
+ * fewer than {@code algorena.matchmaking.max-concurrent-matches-per-bot} matches in progress and pairs them in a
+ * {@link MatchmakingPool}: by ELO proximity, at most {@code algorena.matchmaking.max-elo-gap} apart, never two bots
+ * of the same user, and never two bots that met within {@code algorena.elo.rematch-cooldown-hours}, since the
+ * rematch would not be rated. Up to {@code algorena.matchmaking.max-matches-per-run} matches per game are created in
+ * one transaction and queued; the {@link MatchWorker}s of all nodes start them as their admission limits allow.
+ * <p>
+ * Disabled unless {@code algorena.matchmaking.enabled} is true.
+ */
+@Service
+@Slf4j
+public class MatchmakingService {
+
+    /** Key of the advisory lock held by the node running matchmaking. */
+    private static final long LOCK_KEY = 0x6d617463686d616bL;
+    /** The rating of a bot that has not played a rated match yet, see {@code BotRating}. */
+    private static final int UNRATED_ELO = 1200;
+
+    private final BotRepository botRepository;
+    private final BotRatingRepository botRatingRepository;
+    private final MatchRepository matchRepository;
+    private final MatchQueueRepository matchQueueRepository;
+    private final MatchService matchService;
+    private final boolean enabled;
+    private final int maxMatchesPerRun;
+    private final int maxEloGap;
+    private final int bucketWidth;
+    private final int maxConcurrentMatchesPerBot;
+    private final int rematchCooldownHours;
+
+    public MatchmakingService(
+            BotRepository botRepository,
+            BotRatingRepository botRatingRepository,
+            MatchRepository matchRepository,
+            MatchQueueRepository matchQueueRepository,
+            MatchService matchService,
+            @Value("${algorena.matchmaking.enabled:false}") boolean enabled,
+            @Value("${algorena.matchmaking.max-matches-per-run:200}") int maxMatchesPerRun,
+            @Value("${algorena.matchmaking.max-elo-gap:200}") int maxEloGap,
+            @Value("${algorena.matchmaking.bucket-width:50}") int bucketWidth,
+            @Value("${algorena.matchmaking.max-concurrent-matches-per-bot:1}") int maxConcurrentMatchesPerBot,
+            @Value("${algorena.elo.rematch-cooldown-hours:1}") int rematchCooldownHours
+    ) {
+        this.botRepository = botRepository;
+        this.botRatingRepository = botRatingRepository;
+        this.matchRepository = matchRepository;
+        this.matchQueueRepository = matchQueueRepository;
+        this.matchService = matchService;
+        this.enabled = enabled;
+        this.maxMatchesPerRun = maxMatchesPerRun;
+        this.maxEloGap = maxEloGap;
+        this.bucketWidth = bucketWidth;
+        this.maxConcurrentMatchesPerBot = maxConcurrentMatchesPerBot;
+        this.rematchCooldownHours = rematchCooldownHours;
+    }
+
+    /**
+     * Pairs the available bots of every game and queues the matches.
+     * Does nothing if matchmaking is disabled or already running on another node.
+     *
+     * @return the number of queued matches
+     */
+    @Scheduled(fixedDelayString = "${algorena.matchmaking.interval-ms:30000}",
+            initialDelayString = "${algorena.matchmaking.interval-ms:30000}")
+    @Transactional
+    public int runMatchmaking() {
+        if (!enabled) {
+            return 0;
+        }
+        if (!matchQueueRepository.tryAdvisoryLock(LOCK_KEY)) {
+            log.debug("Matchmaking is running on another node");
+            return 0;
+        }
+        int queued = 0;
+        for (Game game : Game.values()) {
+            queued += matchmake(game);
+        }
+        return queued;
+    }
+
+    private int matchmake(Game game) {
+        List<BotRepository.BotOwner> bots = botRepository.findActiveByGame(game);
+        if (bots.size() < 2) {
+            return 0;
+        }
+        Map<Long, Integer> eloByBot = botRatingRepository.findGlobalEloRatingsByGame(game).stream()
+                .collect(Collectors.toMap(BotRatingRepository.GlobalEloRating::getBotId,
+                        BotRatingRepository.GlobalEloRating::getEloRating));
+        Map<Long, Long> runningByBot = matchRepository.countInProgressMatchesByBot(game).stream()
+                .collect(Collectors.toMap(MatchRepository.BotMatchCount::getBotId,
+                        MatchRepository.BotMatchCount::getMatches));
+
+        MatchmakingPool pool = new MatchmakingPool(bucketWidth, maxEloGap, ThreadLocalRandom.current());
+        for (BotRepository.BotOwner bot : bots) {
+            if (runningByBot.getOrDefault(bot.getId(), 0L) < maxConcurrentMatchesPerBot) {
+                pool.add(bot.getId(), bot.getUserId(), eloByBot.getOrDefault(bot.getId(), UNRATED_ELO));
+            }
+        }
+        if (pool.size() < 2) {
+            return 0;
+        }
+        LocalDateTime cooldownThreshold = LocalDateTime.now().minusHours(rematchCooldownHours);
+        matchRepository.findBotPairsSince(game, cooldownThreshold)
+                .forEach(pair -> pool.exclude(pair.getBot1Id(), pair.getBot2Id()));
+
+        List<MatchPairing> pairings = pool.pair(maxMatchesPerRun);
+        if (pairings.isEmpty()) {
+            return 0;
+        }
+        matchService.createQueuedMatches(game, pairings);
+        log.info("Matchmaking queued {} {} matches for {} available bots", pairings.size(), game, pool.size());
+        return pairings.size();
+    }
+}
@@ -0,0 +1,31 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Game;
+import com.algorena.games.domain.AbstractMatchMove;
+import com.algorena.games.domain.Match;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Game-specific binary encoding of moves for the compact move log.
+ * <p>
+ * Every move of a game takes the same number of bytes, so that batches of moves can be appended to the log
+ * in the database and ply {@code n} can be found at offset {@code n * bytesPerMove()}.
+ * The player is not encoded, it follows from the ply (player 0 moves first in every game).
+ */
+public interface MoveLogCodec {
+
+    Game getGameType();
+
+    int bytesPerMove();
+
+    /**
+     * Writes exactly {@link #bytesPerMove()} bytes for the move.
+     */
+    void encode(AbstractMatchMove move, ByteBuffer target);
+
+    /**
+     * Reads exactly {@link #bytesPerMove()} bytes and rebuilds the move. The move is not persisted and has no ID.
+     */
+    AbstractMatchMove decode(ByteBuffer source, Match match, int playerIndex);
+}
@@ -4,12 +4,10 @@ import com.algorena.bots.domain.Game;
 import com.algorena.games.data.BotRatingRepository;
 import com.algorena.games.data.MatchRepository;
 import com.algorena.games.data.RatingHistoryRepository;
-import com.algorena.games.data.UserRankingRepository;
 import com.algorena.games.domain.*;
 import lombok.extern.slf4j.Slf4j;
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,23 +24,35 @@ public class RatingUpdateServiceImpl implements RatingUpdateService {
 
     private final BotRatingRepository botRatingRepository;
     private final RatingHistoryRepository ratingHistoryRepository;
-    private final UserRankingRepository userRankingRepository;
+    private final UserRankingService userRankingService;
+    private final UserRankingRefreshScheduler userRankingRefreshScheduler;
+    private final BotLeaderboardIndex botLeaderboardIndex;
+    private final LeaderboardVersion leaderboardVersion;
     private final MatchRepository matchRepository;
     private final EloService eloService;
 
     @Value("${algorena.elo.rematch-cooldown-hours:1}")
     private int rematchCooldownHours;
 
+    @Value("${algorena.rankings.incremental:true}")
+    private boolean incrementalRankings;
+
     public RatingUpdateServiceImpl(
             BotRatingRepository botRatingRepository,
             RatingHistoryRepository ratingHistoryRepository,
-            UserRankingRepository userRankingRepository,
+            UserRankingService userRankingService,
+            UserRankingRefreshScheduler userRankingRefreshScheduler,
+            BotLeaderboardIndex botLeaderboardIndex,
+            LeaderboardVersion leaderboardVersion,
             MatchRepository matchRepository,
             EloService eloService
     ) {
         this.botRatingRepository = botRatingRepository;
         this.ratingHistoryRepository = ratingHistoryRepository;
-        this.userRankingRepository = userRankingRepository;
+        this.userRankingService = userRankingService;
+        this.userRankingRefreshScheduler = userRankingRefreshScheduler;
+        this.botLeaderboardIndex = botLeaderboardIndex;
+        this.leaderboardVersion = leaderboardVersion;
         this.matchRepository = matchRepository;
         this.eloService = eloService;
     }
@@ -78,7 +88,12 @@ public class RatingUpdateServiceImpl implements RatingUpdateService {
 
         try {
             updateGlobalRatings(match, participants);
-            refreshUserRankingsAsync();
+            if (incrementalRankings) {
+                userRankingService.updateRankings(match.getGame(), List.of(owner1, owner2));
+            } else {
+                userRankingRefreshScheduler.requestRefresh();
+            }
+            leaderboardVersion.incrementAfterCommit(match.getGame());
 
             log.info("Successfully updated ratings for match {}", match.getId());
         } catch (Exception e) {
@@ -114,6 +129,7 @@ public class RatingUpdateServiceImpl implements RatingUpdateService {
         rating2.recordMatchResult(getMatchResult(p2.getScore()));
 
         botRatingRepository.saveAll(List.of(rating1, rating2));
+        botLeaderboardIndex.updateAfterCommit(List.of(rating1, rating2));
     }
 
     private BotRating getOrCreateBotRating(com.algorena.bots.domain.Bot bot, Game game, @Nullable Long leaderboardId) {
@@ -181,19 +197,4 @@ public class RatingUpdateServiceImpl implements RatingUpdateService {
 
         return hasRecentMatch;
     }
-
-    /**
-     * Refresh user rankings materialized view asynchronously.
-     * This can be slow on large databases, so run it in the background.
-     */
-    @Async
-    @Transactional
-    protected void refreshUserRankingsAsync() {
-        try {
-            userRankingRepository.refresh();
-            log.debug("User rankings materialized view refreshed");
-        } catch (Exception e) {
-            log.error("Failed to refresh user rankings materialized view", e);
-        }
-    }
 }
@@ -0,0 +1,113 @@
+package com.algorena.games.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.Nullable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coalesces requests for a full rebuild of the user rankings.
+ * <p>
+ * Requests only mark the rankings dirty. At most one rebuild runs per {@code algorena.rankings.refresh-interval-ms},
+ * however many requests were made in between, so the rebuild cost scales with time rather than with the number of
+ * finished matches. Rebuilds never overlap: not on this node (a lock), and not across nodes (a Postgres advisory
+ * lock in {@link UserRankingService#rebuild()}).
+ * <p>
+ * Metrics: {@code algorena.rankings.staleness} is the time in seconds since the oldest request that has not been
+ * applied yet (0 when the rankings are up to date), {@code algorena.rankings.refresh} times the rebuilds.
+ */
+@Component
+@Slf4j
+public class UserRankingRefreshScheduler {
+
+    private final UserRankingService userRankingService;
+    private final LeaderboardVersion leaderboardVersion;
+    private final Clock clock;
+    private final Timer refreshTimer;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicReference<@Nullable Instant> dirtySince = new AtomicReference<>();
+
+    public UserRankingRefreshScheduler(UserRankingService userRankingService, LeaderboardVersion leaderboardVersion,
+                                       MeterRegistry meterRegistry) {
+        this(userRankingService, leaderboardVersion, meterRegistry, Clock.systemUTC());
+    }
+
+    UserRankingRefreshScheduler(UserRankingService userRankingService, LeaderboardVersion leaderboardVersion,
+                                MeterRegistry meterRegistry, Clock clock) {
+        this.userRankingService = userRankingService;
+        this.leaderboardVersion = leaderboardVersion;
+        this.clock = clock;
+        this.refreshTimer = Timer.builder("algorena.rankings.refresh")
+                .description("Duration of full user ranking rebuilds")
+                .register(meterRegistry);
+        Gauge.builder("algorena.rankings.staleness", this, scheduler -> scheduler.getStaleness().toMillis() / 1000.0)
+                .description("Time since the oldest ranking change that is not reflected in the user rankings yet")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Marks the rankings dirty. Cheap enough to call after every rated match.
+     */
+    public void requestRefresh() {
+        requestCount.incrementAndGet();
+        dirtySince.compareAndSet(null, clock.instant());
+    }
+
+    /**
+     * @return how long the rankings have been out of date, zero if no refresh is pending
+     */
+    public Duration getStaleness() {
+        Instant since = dirtySince.get();
+        return since == null ? Duration.ZERO : Duration.between(since, clock.instant());
+    }
+
+    @Scheduled(cron = "${algorena.rankings.repair-cron:0 0 * * * *}")
+    public void requestRepair() {
+        requestRefresh();
+    }
+
+    /**
+     * Rebuilds the rankings if they are dirty.
+     *
+     * @return true if a rebuild ran
+     */
+    @Scheduled(fixedDelayString = "${algorena.rankings.refresh-interval-ms:30000}")
+    public boolean refreshIfDirty() {
+        if (dirtySince.get() == null || !refreshLock.tryLock()) {
+            return false;
+        }
+        try {
+            long requestsBefore = requestCount.get();
+            Instant startedAt = clock.instant();
+            boolean rebuilt = Boolean.TRUE.equals(refreshTimer.recordCallable(userRankingService::rebuild));
+            if (!rebuilt) {
+                log.debug("User rankings are being rebuilt by another node, retrying later");
+                return false;
+            }
+            dirtySince.set(null);
+            leaderboardVersion.incrementAll();
+            // Changes requested during the rebuild may have been missed by it
+            if (requestCount.get() != requestsBefore) {
+                dirtySince.compareAndSet(null, startedAt);
+            }
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to rebuild user rankings", e);
+            return false;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
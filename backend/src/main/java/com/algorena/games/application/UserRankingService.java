@@ -0,0 +1,69 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Game;
+import com.algorena.games.data.UserRankingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * Maintains the {@code user_rankings} table.
+ * <p>
+ * After a rated match only the rankings of the owners of the two bots are recomputed, so the cost of a
+ * rating update does not depend on the total number of ratings. Recomputations of the same user are serialized
+ * by a lock on the user's row, so two matches of the same user rated concurrently cannot overwrite each other's
+ * ranking with stale aggregates. A full rebuild repairs any remaining drift; requests for it are coalesced by
+ * {@link UserRankingRefreshScheduler}.
+ */
+@Service
+@Slf4j
+public class UserRankingService {
+
+    /** Advisory lock key held while rebuilding, so that only one node rebuilds at a time. */
+    private static final long REBUILD_LOCK_KEY = 0x75736572_72616e6bL;
+
+    private final UserRankingRepository userRankingRepository;
+
+    public UserRankingService(UserRankingRepository userRankingRepository) {
+        this.userRankingRepository = userRankingRepository;
+    }
+
+    /**
+     * Recomputes the rankings of the given users, as part of the transaction that updated their bot ratings.
+     *
+     * @param game    the game of the updated ratings
+     * @param userIds the owners of the bots whose ratings changed
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void updateRankings(Game game, Collection<Long> userIds) {
+        // Always lock the users in the same order, so concurrent updates cannot deadlock
+        userIds.stream()
+                .distinct()
+                .sorted()
+                .forEach(userId -> {
+                    // The upsert is a new statement and, once the lock is held, sees the ratings committed by the
+                    // previous holder
+                    userRankingRepository.lockUser(userId);
+                    userRankingRepository.upsertForUser(userId, game.name());
+                });
+    }
+
+    /**
+     * Recomputes the rankings of all users in one transaction. Readers see the old rankings until it commits.
+     *
+     * @return false if another node is already rebuilding the rankings
+     */
+    @Transactional
+    public boolean rebuild() {
+        if (!userRankingRepository.tryAdvisoryTransactionLock(REBUILD_LOCK_KEY)) {
+            return false;
+        }
+        userRankingRepository.deleteAllRankings();
+        userRankingRepository.insertAllRankings();
+        log.debug("User rankings rebuilt");
+        return true;
+    }
+}
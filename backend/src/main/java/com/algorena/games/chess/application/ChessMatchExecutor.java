@@ -1,22 +1,19 @@
 package com.algorena.games.chess.application;
 
-import com.algorena.bots.domain.Bot;
 import com.algorena.bots.domain.Game;
-import com.algorena.games.application.BotClientService;
 import com.algorena.games.application.GameMatchExecutor;
+import com.algorena.games.application.MatchSession;
+import com.algorena.games.application.MatchTurn;
 import com.algorena.games.chess.data.ChessGameStateRepository;
 import com.algorena.games.chess.domain.ChessGameState;
 import com.algorena.games.chess.domain.ChessMatchMove;
 import com.algorena.games.chess.engine.ChessGameEngine;
-import com.algorena.games.data.MatchMoveRepository;
+import com.algorena.games.chess.engine.ChessPosition;
 import com.algorena.games.domain.Match;
-import com.algorena.games.domain.MatchParticipant;
 import com.algorena.games.dto.BotMoveRequest;
-import com.algorena.games.dto.BotMoveResponse;
 import com.algorena.games.dto.ChessGameStateDTO;
 import com.algorena.games.engine.GameResult;
 import com.github.bhlangonijr.chesslib.Piece;
-import com.github.bhlangonijr.chesslib.Side;
 import com.github.bhlangonijr.chesslib.move.Move;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -36,9 +33,7 @@ import java.util.List;
 public class ChessMatchExecutor implements GameMatchExecutor {
 
     private final ChessGameStateRepository gameStateRepository;
-    private final MatchMoveRepository matchMoveRepository;
     private final ChessGameEngine gameEngine;
-    private final BotClientService botClientService;
 
     @Override
     public Game getGameType() {
@@ -46,83 +41,81 @@ public class ChessMatchExecutor implements GameMatchExecutor {
     }
 
     @Override
-    public @Nullable GameResult executeSingleMove(Match match) {
-        ChessGameState state = gameStateRepository.findByMatchId(match.getId())
+    public ChessGameState loadState(Match match) {
+        return gameStateRepository.findByMatchId(match.getId())
                 .orElseThrow(() -> new IllegalStateException("Chess game state not found for match: " + match.getId()));
+    }
+
+    @Override
+    public MatchTurn prepareTurn(MatchSession session) {
+        ChessGameState state = session.getState(ChessGameState.class);
+        ChessPosition position = position(session);
 
         // Check if game is already over
-        GameResult result = gameEngine.checkResult(state);
+        GameResult result = position.result();
         if (result != null) {
-            return result;
+            return new MatchTurn.Finished(result);
         }
 
         // Determine current player and get their bot
-        int currentPlayerIndex = getCurrentPlayerIndex(state);
-        MatchParticipant currentParticipant = getParticipantByIndex(match, currentPlayerIndex);
-        Bot bot = currentParticipant.getBot();
+        int currentPlayerIndex = position.currentPlayerIndex();
 
-        // Get legal moves for the request
-        List<String> legalMoves = gameEngine.getLegalMoves(state);
+        // Legal moves are cached by the position and reused to validate the answer
+        List<String> legalMoves = position.legalMoves();
 
-        // Build and send request to bot
-        BotMoveRequest request = buildMoveRequest(match, state, currentPlayerIndex, legalMoves);
-        BotMoveResponse response = botClientService.requestMove(bot, request);
-        String moveNotation = response.move().trim();
+        BotMoveRequest request = buildMoveRequest(session.getMatchId(), state, currentPlayerIndex, legalMoves);
+        return new MatchTurn.Pending(currentPlayerIndex, session.getBot(currentPlayerIndex), request);
+    }
 
-        log.debug("Chess bot {} responded with move: {}", bot.getName(), moveNotation);
+    @Override
+    public @Nullable GameResult applyMove(MatchSession session, int playerIndex, String moveNotation) {
+        ChessGameState state = session.getState(ChessGameState.class);
+        ChessPosition position = position(session);
 
-        // Validate and apply move
-        ChessGameState newState = gameEngine.applyMove(state, moveNotation, currentPlayerIndex);
+        log.debug("Applying chess move {} for player {} in match {}", moveNotation, playerIndex, session.getMatchId());
 
-        // Update persisted state
-        state.updateBoardState(newState.getFen(), newState.getHalfMoveClock(), newState.getFullMoveNumber());
-        gameStateRepository.save(state);
+        // Validate and apply move
+        Move move = position.play(moveNotation, playerIndex);
+
+        // Update persisted state, unless the match has been stopped or taken over by another node in the meantime
+        String fen = position.fen();
+        int updated = gameStateRepository.updateBoardStateIfInProgress(state.getId(), session.getMatchId(),
+                session.getWorkerId(), fen, position.halfMoveClock(), position.fullMoveNumber());
+        if (updated == 0) {
+            log.info("Match {} is no longer in progress or its lease was lost, discarding move {}",
+                    session.getMatchId(), moveNotation);
+            session.stop();
+            return null;
+        }
+        state.updateBoardState(fen, position.halfMoveClock(), position.fullMoveNumber());
 
         // Record the move
-        recordMove(match, currentPlayerIndex, moveNotation);
+        recordMove(session, playerIndex, moveNotation, move);
 
         // Check for game end after move
-        return gameEngine.checkResult(state);
-    }
-
-    @Override
-    public int getCurrentPlayerIndex(Match match) {
-        ChessGameState state = gameStateRepository.findByMatchId(match.getId())
-                .orElseThrow(() -> new IllegalStateException("Chess game state not found for match: " + match.getId()));
-        return getCurrentPlayerIndex(state);
-    }
-
-    private int getCurrentPlayerIndex(ChessGameState state) {
-        // FEN format: "pieces activeColor castling enPassant halfmove fullmove"
-        // activeColor is 'w' for white (player 0) or 'b' for black (player 1)
-        String fen = state.getFen();
-        String[] parts = fen.split(" ");
-        return parts[1].equals("w") ? 0 : 1;
+        return position.result();
     }
 
-    private MatchParticipant getParticipantByIndex(Match match, int playerIndex) {
-        return match.getParticipants().stream()
-                .filter(p -> p.getPlayerIndex() == playerIndex)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Participant not found for index " + playerIndex));
+    private ChessPosition position(MatchSession session) {
+        return session.getPosition(ChessPosition.class,
+                () -> gameEngine.openPosition(session.getState(ChessGameState.class)));
     }
 
-    private BotMoveRequest buildMoveRequest(Match match, ChessGameState state, int playerIndex, List<String> legalMoves) {
+    private BotMoveRequest buildMoveRequest(Long matchId, ChessGameState state, int playerIndex, List<String> legalMoves) {
         ChessGameStateDTO stateDTO = new ChessGameStateDTO(
                 state.getFen(),
                 state.getPgn(),
                 state.getHalfMoveClock(),
                 state.getFullMoveNumber()
         );
-        return new BotMoveRequest(match.getId(), Game.CHESS, playerIndex, stateDTO, legalMoves);
+        return new BotMoveRequest(matchId, Game.CHESS, playerIndex, stateDTO, legalMoves);
     }
 
-    private void recordMove(Match match, int playerIndex, String moveNotation) {
-        Move move = new Move(moveNotation, Side.WHITE);
+    private void recordMove(MatchSession session, int playerIndex, String moveNotation, Move move) {
         String promotion = move.getPromotion().equals(Piece.NONE) ? null : move.getPromotion().value();
 
         ChessMatchMove matchMove = ChessMatchMove.builder()
-                .match(match)
+                .match(session.getMatch())
                 .playerIndex(playerIndex)
                 .moveNotation(moveNotation)
                 .fromSquare(move.getFrom().value())
@@ -130,6 +123,6 @@ public class ChessMatchExecutor implements GameMatchExecutor {
                 .promotionPiece(promotion)
                 .build();
 
-        matchMoveRepository.save(matchMove);
+        session.addPendingMove(matchMove);
     }
 }
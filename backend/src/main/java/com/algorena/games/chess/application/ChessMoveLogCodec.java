@@ -0,0 +1,98 @@
+package com.algorena.games.chess.application;
+
+import com.algorena.bots.domain.Game;
+import com.algorena.games.application.MoveLogCodec;
+import com.algorena.games.chess.domain.ChessMatchMove;
+import com.algorena.games.domain.AbstractMatchMove;
+import com.algorena.games.domain.Match;
+import org.jspecify.annotations.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Encodes a chess move in 16 bits: the from square (6 bits), the to square (6 bits) and the promotion piece (3 bits).
+ * <p>
+ * Squares are numbered from A1 (0) to H8 (63). Decoded moves use UCI notation (e.g. "e7e8q"), and the same
+ * square and promotion piece names as {@link ChessMatchExecutor} stores (e.g. "E7", "WHITE_QUEEN").
+ */
+@Component
+public class ChessMoveLogCodec implements MoveLogCodec {
+
+    /** Promotion piece types by their code, 0 means no promotion. */
+    private static final List<String> PROMOTION_TYPES = List.of("", "KNIGHT", "BISHOP", "ROOK", "QUEEN");
+    private static final String PROMOTION_NOTATION = " nbrq";
+
+    @Override
+    public Game getGameType() {
+        return Game.CHESS;
+    }
+
+    @Override
+    public int bytesPerMove() {
+        return 2;
+    }
+
+    @Override
+    public void encode(AbstractMatchMove move, ByteBuffer target) {
+        ChessMatchMove chessMove = (ChessMatchMove) move;
+        int encoded = squareIndex(chessMove.getFromSquare()) << 9
+                | squareIndex(chessMove.getToSquare()) << 3
+                | promotionCode(chessMove.getPromotionPiece());
+        target.putShort((short) encoded);
+    }
+
+    @Override
+    public AbstractMatchMove decode(ByteBuffer source, Match match, int playerIndex) {
+        int encoded = source.getShort() & 0xFFFF;
+        String from = squareName(encoded >>> 9);
+        String to = squareName((encoded >>> 3) & 0x3F);
+        int promotionCode = encoded & 0x7;
+
+        String notation = (from + to).toLowerCase(Locale.ROOT);
+        String promotion = null;
+        if (promotionCode != 0) {
+            notation += PROMOTION_NOTATION.charAt(promotionCode);
+            promotion = (playerIndex == 0 ? "WHITE_" : "BLACK_") + PROMOTION_TYPES.get(promotionCode);
+        }
+
+        return ChessMatchMove.builder()
+                .match(match)
+                .playerIndex(playerIndex)
+                .moveNotation(notation)
+                .fromSquare(from)
+                .toSquare(to)
+                .promotionPiece(promotion)
+                .build();
+    }
+
+    private static int squareIndex(String square) {
+        if (square.length() != 2) {
+            throw new IllegalArgumentException("Invalid square: " + square);
+        }
+        int file = Character.toUpperCase(square.charAt(0)) - 'A';
+        int rank = square.charAt(1) - '1';
+        if (file < 0 || file > 7 || rank < 0 || rank > 7) {
+            throw new IllegalArgumentException("Invalid square: " + square);
+        }
+        return rank * 8 + file;
+    }
+
+    private static String squareName(int index) {
+        return String.valueOf((char) ('A' + index % 8)) + (char) ('1' + index / 8);
+    }
+
+    private static int promotionCode(@Nullable String promotionPiece) {
+        if (promotionPiece == null) {
+            return 0;
+        }
+        int separator = promotionPiece.indexOf('_');
+        int code = PROMOTION_TYPES.indexOf(promotionPiece.substring(separator + 1));
+        if (code <= 0) {
+            throw new IllegalArgumentException("Invalid promotion piece: " + promotionPiece);
+        }
+        return code;
+    }
+}
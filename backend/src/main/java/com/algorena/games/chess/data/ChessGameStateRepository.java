@@ -2,11 +2,44 @@ package com.algorena.games.chess.data;
 
 import com.algorena.games.chess.domain.ChessGameState;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ChessGameStateRepository extends JpaRepository<ChessGameState, Long> {
     Optional<ChessGameState> findByMatchId(Long matchId);
+
+    List<ChessGameState> findByMatchIdIn(Collection<Long> matchIds);
+
+    /**
+     * Writes the board of a running match without loading the state first.
+     * Nothing is written if the match is no longer in progress or the node no longer holds its lease in the match
+     * queue. The lease is locked until the transaction ends, so that no other node can claim the match before the
+     * board is committed. The last update time of the game state is set as well, which tells the recovery scan
+     * that the match is still running.
+     *
+     * @return the number of updated rows, 0 if the match is no longer in progress or its lease was lost
+     */
+    @Modifying
+    @Query(value = """
+                WITH touched AS (
+                    UPDATE game_states
+                    SET last_updated = now()
+                    WHERE id = :stateId
+                    AND EXISTS (SELECT 1 FROM matches m WHERE m.id = :matchId AND m.status = 'IN_PROGRESS')
+                    AND EXISTS (SELECT 1 FROM match_queue q
+                                WHERE q.match_id = :matchId AND q.worker_id = :workerId AND q.lease_expires_at > now()
+                                FOR SHARE)
+                    RETURNING id
+                )
+                UPDATE chess_game_states
+                SET fen = :fen, half_move_clock = :halfMoveClock, full_move_number = :fullMoveNumber
+                WHERE id IN (SELECT id FROM touched)
+            """, nativeQuery = true)
+    int updateBoardStateIfInProgress(Long stateId, Long matchId, String workerId, String fen, int halfMoveClock, int fullMoveNumber);
 }
@@ -4,73 +4,61 @@ import com.algorena.games.chess.domain.ChessGameState;
 import com.algorena.games.engine.GameEngine;
 import com.algorena.games.engine.GameResult;
 import com.github.bhlangonijr.chesslib.Board;
-import com.github.bhlangonijr.chesslib.Side;
-import com.github.bhlangonijr.chesslib.move.Move;
 import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 
+/**
+ * Chess rules backed by chesslib.
+ * <p>
+ * The {@link GameEngine} methods are stateless and parse the FEN of the given state on every call.
+ * Running matches should use {@link #openPosition(ChessGameState)} instead, which keeps a live board
+ * across moves.
+ */
 @Component
 public class ChessGameEngine implements GameEngine<ChessGameState, String> {
 
     @Override
     public ChessGameState startNewGame() {
         Board board = new Board();
-        return createGameState(board);
+        ChessGameState state = new ChessGameState();
+        state.updateBoardState(board.getFen(), board.getHalfMoveCounter(), board.getMoveCounter());
+        return state;
+    }
+
+    /**
+     * Opens a live position from a persisted state.
+     *
+     * @param state the persisted state
+     * @return a position that can be played move by move
+     */
+    public ChessPosition openPosition(ChessGameState state) {
+        return ChessPosition.fromFen(state.getFen());
     }
 
     @Override
     public ChessGameState applyMove(ChessGameState state, String moveNotation, int playerIndex) {
-        Board board = new Board();
-        board.loadFromFen(state.getFen());
-
-        // Validate turn
-        Side turn = board.getSideToMove();
-        Side playerSide = (playerIndex == 0) ? Side.WHITE : Side.BLACK;
-        if (turn != playerSide) {
-            throw new IllegalArgumentException("It is not player " + playerIndex + "'s turn.");
-        }
-
-        Move move = new Move(moveNotation, turn);
-        // Use legalMoves() instead of isMoveLegal() as the latter has bugs with some invalid moves (e.g. e8e5 for king)
-        if (!board.legalMoves().contains(move)) {
-             throw new IllegalArgumentException("Illegal move: " + moveNotation);
-        }
-        
-        board.doMove(move);
-        return createGameState(board);
+        ChessPosition position = openPosition(state);
+        position.play(moveNotation, playerIndex);
+        return toGameState(position);
     }
 
     @Override
     public @Nullable GameResult checkResult(ChessGameState state) {
-        Board board = new Board();
-        board.loadFromFen(state.getFen());
-
-        if (board.isMated()) {
-            // If White is mated (turn is White), Black (index 1) wins.
-            // If Black is mated (turn is Black), White (index 0) wins.
-            return board.getSideToMove() == Side.WHITE 
-                    ? GameResult.winner(1, 0) 
-                    : GameResult.winner(0, 1);
-        } else if (board.isDraw() || board.isStaleMate()) {
-            return GameResult.draw();
-        }
-
-        return null; // Game is ongoing
+        return openPosition(state).result();
     }
 
     public List<String> getLegalMoves(ChessGameState state) {
-        Board board = new Board();
-        board.loadFromFen(state.getFen());
-        return board.legalMoves().stream()
-                .map(Move::toString)
-                .toList();
+        return openPosition(state).legalMoves();
     }
 
-    private ChessGameState createGameState(Board board) {
+    /**
+     * Serializes a live position into a new, unsaved game state.
+     */
+    public ChessGameState toGameState(ChessPosition position) {
         ChessGameState state = new ChessGameState();
-        state.updateBoardState(board.getFen(), board.getHalfMoveCounter(), board.getMoveCounter());
+        state.updateBoardState(position.fen(), position.halfMoveClock(), position.fullMoveNumber());
         return state;
     }
 }
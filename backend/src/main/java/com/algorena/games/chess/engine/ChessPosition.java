@@ -0,0 +1,137 @@
+package com.algorena.games.chess.engine;
+
+import com.algorena.games.engine.GameResult;
+import com.github.bhlangonijr.chesslib.Board;
+import com.github.bhlangonijr.chesslib.Side;
+import com.github.bhlangonijr.chesslib.move.Move;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A live chess position for a running match.
+ * <p>
+ * Keeps one chesslib {@link Board} and applies moves to it incrementally, instead of parsing the FEN
+ * again for every operation. The legal moves and the result of the current position are computed at most
+ * once per position. Because the board keeps its move history, threefold repetition is detected for moves
+ * played through the same position object.
+ * <p>
+ * Not thread-safe: a position belongs to the thread running its match.
+ */
+public class ChessPosition {
+
+    private final Board board;
+    private @Nullable List<Move> legalMoves;
+    private @Nullable List<String> legalMoveNotations;
+    private @Nullable GameResult result;
+    private boolean resultChecked;
+
+    private ChessPosition(Board board) {
+        this.board = board;
+    }
+
+    public static ChessPosition fromFen(String fen) {
+        Board board = new Board();
+        board.loadFromFen(fen);
+        return new ChessPosition(board);
+    }
+
+    /**
+     * @return the index of the player to move: 0 for white, 1 for black
+     */
+    public int currentPlayerIndex() {
+        return board.getSideToMove() == Side.WHITE ? 0 : 1;
+    }
+
+    /**
+     * @return the legal moves in UCI notation (e.g. "e2e4", "e7e8q")
+     */
+    public List<String> legalMoves() {
+        if (legalMoveNotations == null) {
+            legalMoveNotations = moves().stream()
+                    .map(Move::toString)
+                    .toList();
+        }
+        return legalMoveNotations;
+    }
+
+    /**
+     * Validates a move and plays it.
+     *
+     * @param moveNotation the move in UCI notation
+     * @param playerIndex  the index of the player making the move
+     * @return the move that was played
+     * @throws IllegalArgumentException if it is not the player's turn or the move is illegal
+     */
+    public Move play(String moveNotation, int playerIndex) {
+        Side turn = board.getSideToMove();
+        Side playerSide = (playerIndex == 0) ? Side.WHITE : Side.BLACK;
+        if (turn != playerSide) {
+            throw new IllegalArgumentException("It is not player " + playerIndex + "'s turn.");
+        }
+
+        Move move = new Move(moveNotation, turn);
+        // Check against the legal move list, Board.isMoveLegal() has bugs with some invalid moves (e.g. e8e5 for king)
+        if (!moves().contains(move)) {
+            throw new IllegalArgumentException("Illegal move: " + moveNotation);
+        }
+
+        board.doMove(move);
+        legalMoves = null;
+        legalMoveNotations = null;
+        result = null;
+        resultChecked = false;
+        return move;
+    }
+
+    /**
+     * @return the result if the game has ended in this position, null if it is still ongoing
+     */
+    public @Nullable GameResult result() {
+        if (!resultChecked) {
+            result = computeResult();
+            resultChecked = true;
+        }
+        return result;
+    }
+
+    /**
+     * Serializes the position. Only needed when the position is persisted or sent to a bot.
+     */
+    public String fen() {
+        return board.getFen();
+    }
+
+    public int halfMoveClock() {
+        return board.getHalfMoveCounter();
+    }
+
+    public int fullMoveNumber() {
+        return board.getMoveCounter();
+    }
+
+    private List<Move> moves() {
+        if (legalMoves == null) {
+            legalMoves = board.legalMoves();
+        }
+        return legalMoves;
+    }
+
+    private @Nullable GameResult computeResult() {
+        if (moves().isEmpty()) {
+            if (board.isKingAttacked()) {
+                // If White is mated (turn is White), Black (index 1) wins.
+                // If Black is mated (turn is Black), White (index 0) wins.
+                return board.getSideToMove() == Side.WHITE
+                        ? GameResult.winner(1, 0)
+                        : GameResult.winner(0, 1);
+            }
+            // Stalemate
+            return GameResult.draw();
+        }
+        if (board.isDraw()) {
+            return GameResult.draw();
+        }
+        return null; // Game is ongoing
+    }
+}
@@ -1,18 +1,16 @@
 package com.algorena.games.connect4.application;
 
-import com.algorena.bots.domain.Bot;
 import com.algorena.bots.domain.Game;
-import com.algorena.games.application.BotClientService;
 import com.algorena.games.application.GameMatchExecutor;
+import com.algorena.games.application.MatchSession;
+import com.algorena.games.application.MatchTurn;
 import com.algorena.games.connect4.data.Connect4GameStateRepository;
 import com.algorena.games.connect4.domain.Connect4GameState;
 import com.algorena.games.connect4.domain.Connect4MatchMove;
+import com.algorena.games.connect4.engine.Connect4Bitboard;
 import com.algorena.games.connect4.engine.Connect4GameEngine;
-import com.algorena.games.data.MatchMoveRepository;
 import com.algorena.games.domain.Match;
-import com.algorena.games.domain.MatchParticipant;
 import com.algorena.games.dto.BotMoveRequest;
-import com.algorena.games.dto.BotMoveResponse;
 import com.algorena.games.dto.Connect4GameStateDTO;
 import com.algorena.games.engine.GameResult;
 import lombok.RequiredArgsConstructor;
@@ -32,12 +30,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class Connect4MatchExecutor implements GameMatchExecutor {
 
-    private static final char EMPTY_CELL = '0';
-
     private final Connect4GameStateRepository gameStateRepository;
-    private final MatchMoveRepository matchMoveRepository;
     private final Connect4GameEngine gameEngine;
-    private final BotClientService botClientService;
 
     @Override
     public Game getGameType() {
@@ -45,76 +39,77 @@ public class Connect4MatchExecutor implements GameMatchExecutor {
     }
 
     @Override
-    public @Nullable GameResult executeSingleMove(Match match) {
-        Connect4GameState state = gameStateRepository.findByMatchId(match.getId())
+    public Connect4GameState loadState(Match match) {
+        return gameStateRepository.findByMatchId(match.getId())
                 .orElseThrow(() -> new IllegalStateException("Connect4 game state not found for match: " + match.getId()));
+    }
+
+    @Override
+    public MatchTurn prepareTurn(MatchSession session) {
+        Connect4GameState state = session.getState(Connect4GameState.class);
+        Connect4Bitboard position = position(session);
 
         // Check if game is already over
-        GameResult result = gameEngine.checkResult(state);
+        GameResult result = position.result();
         if (result != null) {
-            return result;
+            return new MatchTurn.Finished(result);
         }
 
         // Determine current player and get their bot
-        int currentPlayerIndex = getCurrentPlayerIndex(state);
-        MatchParticipant currentParticipant = getParticipantByIndex(match, currentPlayerIndex);
-        Bot bot = currentParticipant.getBot();
+        int currentPlayerIndex = position.currentPlayerIndex();
 
         // Get legal moves (available columns)
-        List<String> legalMoves = gameEngine.getLegalMoves(state).stream()
+        List<String> legalMoves = position.legalMoves().stream()
                 .map(String::valueOf)
                 .toList();
 
-        // Build and send request to bot
-        BotMoveRequest request = buildMoveRequest(match, state, currentPlayerIndex, legalMoves);
-        BotMoveResponse response = botClientService.requestMove(bot, request);
-        String moveString = response.move().trim();
+        BotMoveRequest request = buildMoveRequest(session.getMatchId(), state, currentPlayerIndex, legalMoves);
+        return new MatchTurn.Pending(currentPlayerIndex, session.getBot(currentPlayerIndex), request);
+    }
+
+    @Override
+    public @Nullable GameResult applyMove(MatchSession session, int playerIndex, String moveString) {
+        Connect4GameState state = session.getState(Connect4GameState.class);
+        Connect4Bitboard position = position(session);
 
-        log.debug("Connect4 bot {} responded with column: {}", bot.getName(), moveString);
+        log.debug("Applying Connect4 column {} for player {} in match {}", moveString, playerIndex, session.getMatchId());
 
         // Parse and validate move
         int columnIndex = parseColumnIndex(moveString);
 
         // Apply move
-        Connect4GameState newState = gameEngine.applyMove(state, columnIndex, currentPlayerIndex);
-
-        // Update persisted state
-        state.updateBoardState(newState.getBoard(), newState.getLastMoveColumn());
-        gameStateRepository.save(state);
+        position.play(columnIndex, playerIndex);
+
+        // Update persisted state, unless the match has been stopped or taken over by another node in the meantime
+        String board = position.toBoardString();
+        int updated = gameStateRepository.updateBoardStateIfInProgress(state.getId(), session.getMatchId(),
+                session.getWorkerId(), board, columnIndex);
+        if (updated == 0) {
+            log.info("Match {} is no longer in progress or its lease was lost, discarding move {}",
+                    session.getMatchId(), moveString);
+            session.stop();
+            return null;
+        }
+        state.updateBoardState(board, columnIndex);
 
         // Record the move
-        recordMove(match, currentPlayerIndex, moveString, columnIndex);
+        recordMove(session, playerIndex, moveString, columnIndex);
 
         // Check for game end after move
-        return gameEngine.checkResult(state);
-    }
-
-    @Override
-    public int getCurrentPlayerIndex(Match match) {
-        Connect4GameState state = gameStateRepository.findByMatchId(match.getId())
-                .orElseThrow(() -> new IllegalStateException("Connect4 game state not found for match: " + match.getId()));
-        return getCurrentPlayerIndex(state);
-    }
-
-    private int getCurrentPlayerIndex(Connect4GameState state) {
-        // Player 1 moves on even counts (0, 2, 4...), Player 2 on odd counts (1, 3, 5...)
-        long movesPlayed = state.getBoard().chars().filter(c -> c != EMPTY_CELL).count();
-        return (int) (movesPlayed % 2);
+        return position.result();
     }
 
-    private MatchParticipant getParticipantByIndex(Match match, int playerIndex) {
-        return match.getParticipants().stream()
-                .filter(p -> p.getPlayerIndex() == playerIndex)
-                .findFirst()
-                .orElseThrow(() -> new IllegalStateException("Participant not found for index " + playerIndex));
+    private Connect4Bitboard position(MatchSession session) {
+        return session.getPosition(Connect4Bitboard.class,
+                () -> gameEngine.openPosition(session.getState(Connect4GameState.class)));
     }
 
-    private BotMoveRequest buildMoveRequest(Match match, Connect4GameState state, int playerIndex, List<String> legalMoves) {
+    private BotMoveRequest buildMoveRequest(Long matchId, Connect4GameState state, int playerIndex, List<String> legalMoves) {
         Connect4GameStateDTO stateDTO = new Connect4GameStateDTO(
                 state.getBoard(),
                 state.getLastMoveColumn()
         );
-        return new BotMoveRequest(match.getId(), Game.CONNECT_FOUR, playerIndex, stateDTO, legalMoves);
+        return new BotMoveRequest(matchId, Game.CONNECT_FOUR, playerIndex, stateDTO, legalMoves);
     }
 
     private int parseColumnIndex(String moveString) {
@@ -129,14 +124,14 @@ public class Connect4MatchExecutor implements GameMatchExecutor {
         }
     }
 
-    private void recordMove(Match match, int playerIndex, String moveNotation, int columnIndex) {
+    private void recordMove(MatchSession session, int playerIndex, String moveNotation, int columnIndex) {
         Connect4MatchMove matchMove = Connect4MatchMove.builder()
-                .match(match)
+                .match(session.getMatch())
                 .playerIndex(playerIndex)
                 .moveNotation(moveNotation)
                 .columnIndex(columnIndex)
                 .build();
 
-        matchMoveRepository.save(matchMove);
+        session.addPendingMove(matchMove);
     }
 }
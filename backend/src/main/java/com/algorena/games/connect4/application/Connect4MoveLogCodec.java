@@ -0,0 +1,43 @@
+package com.algorena.games.connect4.application;
+
+import com.algorena.bots.domain.Game;
+import com.algorena.games.application.MoveLogCodec;
+import com.algorena.games.connect4.domain.Connect4MatchMove;
+import com.algorena.games.domain.AbstractMatchMove;
+import com.algorena.games.domain.Match;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes a Connect4 move as its column index in a single byte.
+ */
+@Component
+public class Connect4MoveLogCodec implements MoveLogCodec {
+
+    @Override
+    public Game getGameType() {
+        return Game.CONNECT_FOUR;
+    }
+
+    @Override
+    public int bytesPerMove() {
+        return 1;
+    }
+
+    @Override
+    public void encode(AbstractMatchMove move, ByteBuffer target) {
+        target.put((byte) ((Connect4MatchMove) move).getColumnIndex());
+    }
+
+    @Override
+    public AbstractMatchMove decode(ByteBuffer source, Match match, int playerIndex) {
+        int columnIndex = source.get();
+        return Connect4MatchMove.builder()
+                .match(match)
+                .playerIndex(playerIndex)
+                .moveNotation(String.valueOf(columnIndex))
+                .columnIndex(columnIndex)
+                .build();
+    }
+}
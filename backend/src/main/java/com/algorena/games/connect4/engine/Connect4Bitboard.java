@@ -0,0 +1,267 @@
+package com.algorena.games.connect4.engine;
+
+import com.algorena.games.engine.GameResult;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.algorena.games.connect4.engine.Connect4GameEngine.COLS;
+import static com.algorena.games.connect4.engine.Connect4GameEngine.ROWS;
+
+/**
+ * Bitboard representation of a Connect4 position.
+ * <p>
+ * Each player's discs are stored in a {@code long}, using {@value #COLUMN_BITS} bits per column: bit
+ * {@code col * 7 + row} is set if the player has a disc at that cell, and the top bit of each column is always
+ * empty so that shifts never wrap into the next column. Four in a row is detected with shift-and-AND in
+ * each of the four directions, and whose turn it is follows from the move count.
+ * Playing a move and checking the result do not allocate.
+ * <p>
+ * Converts to and from the 42-character board string of {@code Connect4GameState} at the persistence boundary.
+ * Not thread-safe: a position belongs to the thread running its match.
+ */
+public class Connect4Bitboard {
+
+    private static final int COLUMN_BITS = ROWS + 1;
+    private static final int CELLS = ROWS * COLS;
+    /** Shifts for the vertical, horizontal and both diagonal directions. */
+    private static final int[] DIRECTIONS = {1, COLUMN_BITS, COLUMN_BITS - 1, COLUMN_BITS + 1};
+    /** The cells of one column, without its always empty top bit. */
+    private static final long COLUMN_MASK = (1L << ROWS) - 1;
+    /** Bit of each cell of the board string, by string index. */
+    private static final long[] CELL_BITS = new long[CELLS];
+    /** All cells of the board. */
+    private static final long FULL_BOARD;
+
+    static {
+        long fullBoard = 0;
+        for (int index = 0; index < CELLS; index++) {
+            CELL_BITS[index] = 1L << ((index % COLS) * COLUMN_BITS + index / COLS);
+            fullBoard |= CELL_BITS[index];
+        }
+        FULL_BOARD = fullBoard;
+    }
+
+    private static final char EMPTY = '0';
+    private static final char PLAYER_1 = '1';
+    private static final char PLAYER_2 = '2';
+
+    private static final GameResult PLAYER_1_WINS = GameResult.winner(0, 1);
+    private static final GameResult PLAYER_2_WINS = GameResult.winner(1, 0);
+    private static final GameResult DRAW = GameResult.draw();
+
+    private final long[] discs = new long[2];
+    private final int[] heights = new int[COLS];
+    private int moveCount;
+    private int winnerIndex = -1;
+
+    /**
+     * @return an empty board
+     */
+    public static Connect4Bitboard empty() {
+        return new Connect4Bitboard();
+    }
+
+    /**
+     * Parses a board string, where index {@code row * 7 + col} holds '0' (empty), '1' (player 1) or '2' (player 2)
+     * and row 0 is the bottom row.
+     *
+     * @param board the 42-character board string
+     * @return the position
+     * @throws IllegalArgumentException if the string is not a valid board
+     */
+    public static Connect4Bitboard fromBoardString(String board) {
+        Connect4Bitboard bitboard = new Connect4Bitboard();
+        readDiscs(board, bitboard.discs);
+        long occupied = bitboard.discs[0] | bitboard.discs[1];
+        for (int col = 0; col < COLS; col++) {
+            bitboard.heights[col] = Long.bitCount((occupied >>> (col * COLUMN_BITS)) & COLUMN_MASK);
+        }
+        bitboard.moveCount = Long.bitCount(occupied);
+        if (hasFour(bitboard.discs[0])) {
+            bitboard.winnerIndex = 0;
+        } else if (hasFour(bitboard.discs[1])) {
+            bitboard.winnerIndex = 1;
+        }
+        return bitboard;
+    }
+
+    /**
+     * Reads the result of a board string without building a position.
+     *
+     * @param board the 42-character board string
+     * @return the result if the game has ended, null if it is still ongoing
+     * @throws IllegalArgumentException if the string is not a valid board
+     */
+    public static @Nullable GameResult resultOf(String board) {
+        long[] discs = new long[2];
+        readDiscs(board, discs);
+        if (hasFour(discs[0])) {
+            return PLAYER_1_WINS;
+        }
+        if (hasFour(discs[1])) {
+            return PLAYER_2_WINS;
+        }
+        return (discs[0] | discs[1]) == FULL_BOARD ? DRAW : null;
+    }
+
+    /**
+     * Reads the legal moves of a board string without parsing the whole board: a column is playable while its top
+     * cell is empty.
+     *
+     * @param board the 42-character board string
+     * @return the columns that are not full yet, in ascending order
+     */
+    public static List<Integer> legalMovesOf(String board) {
+        if (board.length() != CELLS) {
+            throw new IllegalArgumentException("Board must have " + CELLS + " cells, got: " + board.length());
+        }
+        List<Integer> legalMoves = new ArrayList<>(COLS);
+        for (int col = 0; col < COLS; col++) {
+            if (board.charAt((ROWS - 1) * COLS + col) == EMPTY) {
+                legalMoves.add(col);
+            }
+        }
+        return legalMoves;
+    }
+
+    /**
+     * @return the index of the player to move: 0 for player 1, 1 for player 2
+     */
+    public int currentPlayerIndex() {
+        return moveCount & 1;
+    }
+
+    public int moveCount() {
+        return moveCount;
+    }
+
+    public boolean canPlay(int columnIndex) {
+        return heights[columnIndex] < ROWS;
+    }
+
+    /**
+     * @return the columns that are not full yet, in ascending order
+     */
+    public List<Integer> legalMoves() {
+        List<Integer> legalMoves = new ArrayList<>(COLS);
+        for (int col = 0; col < COLS; col++) {
+            if (canPlay(col)) {
+                legalMoves.add(col);
+            }
+        }
+        return legalMoves;
+    }
+
+    /**
+     * Drops a disc in the given column.
+     *
+     * @param columnIndex the column, 0 to 6
+     * @param playerIndex the index of the player making the move
+     * @throws IllegalArgumentException if the column is out of bounds or full, or it is not the player's turn
+     */
+    public void play(int columnIndex, int playerIndex) {
+        if (columnIndex < 0 || columnIndex >= COLS) {
+            throw new IllegalArgumentException("Column index out of bounds: " + columnIndex);
+        }
+        if (currentPlayerIndex() != playerIndex) {
+            throw new IllegalArgumentException("It is not player " + playerIndex + "'s turn.");
+        }
+        if (!canPlay(columnIndex)) {
+            throw new IllegalArgumentException("Column " + columnIndex + " is full");
+        }
+
+        discs[playerIndex] |= 1L << (columnIndex * COLUMN_BITS + heights[columnIndex]);
+        heights[columnIndex]++;
+        moveCount++;
+
+        // Only the player who just moved can have completed a line
+        if (winnerIndex < 0 && hasFour(discs[playerIndex])) {
+            winnerIndex = playerIndex;
+        }
+    }
+
+    /**
+     * Drops a disc in the given column and returns the board string of the new position. The string is derived
+     * from the board string of this position by setting the one cell that changed, rather than converted as a whole.
+     *
+     * @param board       the board string of this position
+     * @param columnIndex the column, 0 to 6
+     * @param playerIndex the index of the player making the move
+     * @return the board string after the move
+     * @throws IllegalArgumentException if the move is not legal, see {@link #play(int, int)}
+     */
+    public String playOnBoardString(String board, int columnIndex, int playerIndex) {
+        play(columnIndex, playerIndex);
+        char[] cells = board.toCharArray();
+        cells[(heights[columnIndex] - 1) * COLS + columnIndex] = playerIndex == 0 ? PLAYER_1 : PLAYER_2;
+        return new String(cells);
+    }
+
+    /**
+     * @return the result if the game has ended, null if it is still ongoing
+     */
+    public @Nullable GameResult result() {
+        if (winnerIndex == 0) {
+            return PLAYER_1_WINS;
+        }
+        if (winnerIndex == 1) {
+            return PLAYER_2_WINS;
+        }
+        return moveCount == CELLS ? DRAW : null;
+    }
+
+    /**
+     * @return the position as a 42-character board string
+     */
+    public String toBoardString() {
+        char[] board = new char[CELLS];
+        for (int col = 0; col < COLS; col++) {
+            for (int row = 0; row < ROWS; row++) {
+                long bit = 1L << (col * COLUMN_BITS + row);
+                char cell = EMPTY;
+                if ((discs[0] & bit) != 0) {
+                    cell = PLAYER_1;
+                } else if ((discs[1] & bit) != 0) {
+                    cell = PLAYER_2;
+                }
+                board[row * COLS + col] = cell;
+            }
+        }
+        return new String(board);
+    }
+
+    /**
+     * Reads the discs of both players from a board string in one pass.
+     */
+    private static void readDiscs(String board, long[] discs) {
+        if (board.length() != CELLS) {
+            throw new IllegalArgumentException("Board must have " + CELLS + " cells, got: " + board.length());
+        }
+        long player1Discs = 0;
+        long player2Discs = 0;
+        for (int index = 0; index < CELLS; index++) {
+            char cell = board.charAt(index);
+            if (cell == PLAYER_1) {
+                player1Discs |= CELL_BITS[index];
+            } else if (cell == PLAYER_2) {
+                player2Discs |= CELL_BITS[index];
+            } else if (cell != EMPTY) {
+                throw new IllegalArgumentException("Invalid cell '" + cell + "' in board");
+            }
+        }
+        discs[0] = player1Discs;
+        discs[1] = player2Discs;
+    }
+
+    private static boolean hasFour(long playerDiscs) {
+        for (int shift : DIRECTIONS) {
+            long pairs = playerDiscs & (playerDiscs >> shift);
+            if ((pairs & (pairs >> (2 * shift))) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,8 +1,11 @@
 package com.algorena.games.controllers;
 
 import com.algorena.bots.domain.Game;
+import com.algorena.games.application.LeaderboardPageCache;
 import com.algorena.games.application.LeaderboardService;
+import com.algorena.games.application.LeaderboardVersion;
 import com.algorena.games.dto.BotLeaderboardEntryDTO;
+import com.algorena.games.dto.LeaderboardSliceDTO;
 import com.algorena.games.dto.RatingHistoryDTO;
 import com.algorena.games.dto.UserLeaderboardEntryDTO;
 import io.swagger.v3.oas.annotations.Operation;
@@ -13,8 +16,11 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -24,13 +30,21 @@ import java.util.List;
  *
  * <p>Note: These endpoints are public (no authentication required) to allow
  * anyone to view the leaderboards.
+ *
+ * <p>Leaderboard pages carry an ETag derived from {@link LeaderboardVersion}. A request with a matching
+ * {@code If-None-Match} header gets a 304 without the page being loaded.
  */
 @RestController
 @RequestMapping("/api/v1/leaderboard")
 @AllArgsConstructor
 @Tag(name = "Leaderboard", description = "Bot and user leaderboard rankings")
 public class LeaderboardController {
+    /** Clients may keep leaderboard pages, but must revalidate them with the ETag before each use. */
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
     private final LeaderboardService leaderboardService;
+    private final LeaderboardPageCache leaderboardPageCache;
+    private final LeaderboardVersion leaderboardVersion;
 
     // ===== Bot Leaderboard Endpoints =====
 
@@ -39,9 +53,31 @@ public class LeaderboardController {
     public ResponseEntity<Page<BotLeaderboardEntryDTO>> getBotLeaderboard(
             @Parameter(description = "Game type", required = true)
             @RequestParam Game game,
-            @ParameterObject @PageableDefault(size = 50) Pageable pageable
+            @ParameterObject @PageableDefault(size = 50) Pageable pageable,
+            WebRequest request
+    ) {
+        long version = leaderboardVersion.get(game);
+        String eTag = leaderboardVersion.getETag(game, version);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CACHE_CONTROL).build();
+        }
+        Page<BotLeaderboardEntryDTO> page = leaderboardPageCache.getBotPage(game, version, pageable,
+                () -> leaderboardService.getBotLeaderboard(game, pageable));
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CACHE_CONTROL).body(page);
+    }
+
+    @GetMapping("/bots/slice")
+    @Operation(summary = "Get bot leaderboard slice",
+            description = "Returns bots ranked by ELO rating for a specific game, using cursor-based pagination")
+    public ResponseEntity<LeaderboardSliceDTO<BotLeaderboardEntryDTO>> getBotLeaderboardSlice(
+            @Parameter(description = "Game type", required = true)
+            @RequestParam Game game,
+            @Parameter(description = "Cursor returned with the previous slice, omit for the first slice")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of entries, up to 100")
+            @RequestParam(defaultValue = "50") int size
     ) {
-        return ResponseEntity.ok(leaderboardService.getBotLeaderboard(game, pageable));
+        return ResponseEntity.ok(leaderboardService.getBotLeaderboardSlice(game, cursor, size));
     }
 
     @GetMapping("/bots/{botId}")
@@ -75,9 +111,31 @@ public class LeaderboardController {
     public ResponseEntity<Page<UserLeaderboardEntryDTO>> getUserLeaderboard(
             @Parameter(description = "Game type", required = true)
             @RequestParam Game game,
-            @ParameterObject @PageableDefault(size = 50) Pageable pageable
+            @ParameterObject @PageableDefault(size = 50) Pageable pageable,
+            WebRequest request
+    ) {
+        long version = leaderboardVersion.get(game);
+        String eTag = leaderboardVersion.getETag(game, version);
+        if (request.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).cacheControl(CACHE_CONTROL).build();
+        }
+        Page<UserLeaderboardEntryDTO> page = leaderboardPageCache.getUserPage(game, version, pageable,
+                () -> leaderboardService.getUserLeaderboard(game, pageable));
+        return ResponseEntity.ok().eTag(eTag).cacheControl(CACHE_CONTROL).body(page);
+    }
+
+    @GetMapping("/users/slice")
+    @Operation(summary = "Get user leaderboard slice",
+            description = "Returns users ranked by their best bot's ELO rating, using cursor-based pagination")
+    public ResponseEntity<LeaderboardSliceDTO<UserLeaderboardEntryDTO>> getUserLeaderboardSlice(
+            @Parameter(description = "Game type", required = true)
+            @RequestParam Game game,
+            @Parameter(description = "Cursor returned with the previous slice, omit for the first slice")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of entries, up to 100")
+            @RequestParam(defaultValue = "50") int size
     ) {
-        return ResponseEntity.ok(leaderboardService.getUserLeaderboard(game, pageable));
+        return ResponseEntity.ok(leaderboardService.getUserLeaderboardSlice(game, cursor, size));
     }
 
     @GetMapping("/users/{userId}")
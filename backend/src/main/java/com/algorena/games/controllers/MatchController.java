@@ -1,16 +1,26 @@
 package com.algorena.games.controllers;
 
+import com.algorena.bots.domain.Game;
 import com.algorena.games.application.MatchService;
+import com.algorena.games.domain.MatchStatus;
 import com.algorena.games.dto.CreateMatchRequest;
 import com.algorena.games.dto.MatchDTO;
 import com.algorena.games.dto.MatchMoveDTO;
+import com.algorena.games.dto.MatchSliceDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -19,14 +29,18 @@ import java.util.List;
 public class MatchController {
 
     private final MatchService matchService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
-    public ResponseEntity<List<MatchDTO>> getMatches(@RequestParam(required = false) Long botId) {
-        if (botId != null) {
-            return ResponseEntity.ok(matchService.getMatchesForBot(botId));
-        }
-        // Return current user's matches if no botId specified
-        return ResponseEntity.ok(matchService.getCurrentUserMatches());
+    public ResponseEntity<MatchSliceDTO> getMatches(
+            @RequestParam(required = false) Long botId,
+            @RequestParam(required = false) Long opponentBotId,
+            @RequestParam(required = false) List<MatchStatus> status,
+            @RequestParam(required = false) Game game,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") @Valid @Min(1) @Max(100) int size) {
+        // Returns the current user's matches if no botId specified
+        return ResponseEntity.ok(matchService.getMatchHistory(botId, opponentBotId, status, game, cursor, size));
     }
 
     @GetMapping("/recent")
@@ -51,6 +65,36 @@ public class MatchController {
         return ResponseEntity.ok(matchService.getMatchMoves(matchId));
     }
 
+    /**
+     * Streams the moves as newline-delimited JSON, one move per line, while they are read from the database.
+     * Replays of any length are served without building the list of moves.
+     */
+    @GetMapping("/{matchId}/moves/stream")
+    public void streamMatchMoves(
+            @PathVariable Long matchId,
+            @RequestParam(defaultValue = "0") @Valid @Min(0) int fromPly,
+            @RequestParam(required = false) @Valid @Min(0) Integer toPly,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        OutputStream out = response.getOutputStream();
+        matchService.streamMatchMoves(matchId, fromPly, toPly, move -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(move));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Pushes the moves and the result of a running match as Server-Sent Events, instead of clients polling it.
+     */
+    @GetMapping(value = "/{matchId}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLiveMatch(@PathVariable Long matchId) {
+        return matchService.streamLiveMatch(matchId);
+    }
+
     @GetMapping("/{matchId}/legal-moves")
     public ResponseEntity<List<String>> getLegalMoves(@PathVariable Long matchId) {
         return ResponseEntity.ok(matchService.getLegalMoves(matchId));
@@ -6,10 +6,14 @@ import com.algorena.games.domain.BotRating;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -36,7 +40,7 @@ public interface BotRatingRepository extends JpaRepository<BotRating, Long> {
     );
 
     /**
-     * Find all bot ratings for a game and leaderboard, ordered by ELO descending.
+     * Find all bot ratings for a game and leaderboard, ordered by ELO descending and then by ID.
      * For global leaderboard, pass leaderboardId = null.
      */
     @Query("""
@@ -44,14 +48,87 @@ public interface BotRatingRepository extends JpaRepository<BotRating, Long> {
         WHERE br.game = :game
         AND (:leaderboardId IS NULL AND br.leaderboardId IS NULL
              OR br.leaderboardId = :leaderboardId)
-        ORDER BY br.eloRating DESC
+        ORDER BY br.eloRating DESC, br.id ASC
     """)
+    @EntityGraph(attributePaths = "bot")
     Page<BotRating> findByGameAndLeaderboardOrderByEloRatingDesc(
         Game game,
         @Nullable Long leaderboardId,
         Pageable pageable
     );
 
+    /**
+     * Find the first global bot ratings for a game, in leaderboard order.
+     * Only the requested rows are read, no count query is issued.
+     */
+    @Query("""
+        SELECT br FROM BotRating br
+        JOIN FETCH br.bot
+        WHERE br.game = :game
+        AND br.leaderboardId IS NULL
+        ORDER BY br.eloRating DESC, br.id ASC
+    """)
+    List<BotRating> findGlobalFirst(Game game, Pageable pageable);
+
+    /**
+     * Find the global bot ratings for a game that come after the given position, in leaderboard order.
+     * Seeks on the (game, elo_rating DESC, id) index, so deep slices cost the same as the first one.
+     */
+    @Query("""
+        SELECT br FROM BotRating br
+        JOIN FETCH br.bot
+        WHERE br.game = :game
+        AND br.leaderboardId IS NULL
+        AND (br.eloRating < :eloRating OR br.eloRating = :eloRating AND br.id > :id)
+        ORDER BY br.eloRating DESC, br.id ASC
+    """)
+    List<BotRating> findGlobalAfter(Game game, int eloRating, long id, Pageable pageable);
+
+    /**
+     * Find the global bot ratings of the given bots for a game. The order of the result is undefined.
+     */
+    @Query("""
+        SELECT br FROM BotRating br
+        JOIN FETCH br.bot
+        WHERE br.game = :game
+        AND br.leaderboardId IS NULL
+        AND br.bot.id IN :botIds
+    """)
+    List<BotRating> findGlobalByBotIds(Game game, Collection<Long> botIds);
+
+    /**
+     * Find the ELO of every bot on the global leaderboards of all games.
+     * Used to load the in-memory leaderboard index.
+     */
+    @Query("""
+        SELECT br.bot.id AS botId, br.game AS game, br.eloRating AS eloRating
+        FROM BotRating br
+        WHERE br.leaderboardId IS NULL
+    """)
+    List<GlobalEloRating> findAllGlobalEloRatings();
+
+    /**
+     * Find the global ratings of all games that were changed at or after the given time.
+     * Used to pick up rating changes made on other nodes.
+     */
+    @Query("""
+        SELECT br.bot.id AS botId, br.game AS game, br.eloRating AS eloRating, br.lastUpdated AS lastUpdated
+        FROM BotRating br
+        WHERE br.leaderboardId IS NULL AND br.lastUpdated >= :since
+    """)
+    List<ChangedEloRating> findGlobalEloRatingsUpdatedSince(LocalDateTime since);
+
+    /**
+     * Find the ELO of every bot on the global leaderboard of a game.
+     * Used by matchmaking.
+     */
+    @Query("""
+        SELECT br.bot.id AS botId, br.game AS game, br.eloRating AS eloRating
+        FROM BotRating br
+        WHERE br.game = :game AND br.leaderboardId IS NULL
+    """)
+    List<GlobalEloRating> findGlobalEloRatingsByGame(Game game);
+
     /**
      * Count bots with higher ELO than the given rating.
      * Used to calculate rank.
@@ -84,4 +161,22 @@ public interface BotRatingRepository extends JpaRepository<BotRating, Long> {
         Game game,
         @Nullable Long leaderboardId
     );
+
+    /**
+     * Projection of a bot's global ELO rating.
+     */
+    interface GlobalEloRating {
+        Long getBotId();
+
+        Game getGame();
+
+        Integer getEloRating();
+    }
+
+    /**
+     * Projection of a bot's global ELO rating and the time it last changed.
+     */
+    interface ChangedEloRating extends GlobalEloRating {
+        LocalDateTime getLastUpdated();
+    }
 }
@@ -0,0 +1,27 @@
+package com.algorena.games.data;
+
+import com.algorena.games.domain.MatchMoveLog;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MatchMoveLogRepository extends JpaRepository<MatchMoveLog, Long> {
+
+    /**
+     * Appends encoded moves to the log of a match, creating the log on the first call.
+     * The existing log is extended in the database, without reading it first.
+     */
+    @Modifying
+    @Query(value = """
+                INSERT INTO match_move_logs (match_id, move_count, moves, move_times, created, last_updated)
+                VALUES (:matchId, :moveCount, :moves, :moveTimes, now(), now())
+                ON CONFLICT (match_id) DO UPDATE
+                SET move_count = match_move_logs.move_count + EXCLUDED.move_count,
+                    moves = match_move_logs.moves || EXCLUDED.moves,
+                    move_times = match_move_logs.move_times || EXCLUDED.move_times,
+                    last_updated = now()
+            """, nativeQuery = true)
+    void appendMoves(Long matchId, int moveCount, byte[] moves, byte[] moveTimes);
+}
@@ -2,11 +2,17 @@ package com.algorena.games.data;
 
 import com.algorena.games.domain.AbstractMatchMove;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface MatchMoveRepository extends JpaRepository<AbstractMatchMove, Long> {
-    List<AbstractMatchMove> findByMatchIdOrderByCreatedAsc(Long matchId);
+
+    /**
+     * Moves played within the same microsecond keep the order of their IDs.
+     */
+    @Query("SELECT m FROM AbstractMatchMove m WHERE m.match.id = :matchId ORDER BY m.playedAt ASC, m.id ASC")
+    List<AbstractMatchMove> findByMatchIdOrderByPlayedAtAsc(Long matchId);
 }
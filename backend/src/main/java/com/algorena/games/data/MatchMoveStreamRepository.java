@@ -0,0 +1,94 @@
+package com.algorena.games.data;
+
+import com.algorena.bots.domain.Game;
+import com.algorena.games.dto.MatchMoveDTO;
+import org.jspecify.annotations.Nullable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * Streams the move rows of a match with a JDBC cursor, for matches played before the compact move log.
+ * <p>
+ * Rows are fetched {@value #FETCH_SIZE} at a time and mapped one by one, so a replay never holds all of its moves
+ * in memory. Only the move table of the match's game is joined, instead of the outer join to every subclass table
+ * that loading {@link com.algorena.games.domain.AbstractMatchMove} entities issues. Postgres only uses a cursor
+ * inside a transaction, so callers must run in one.
+ */
+@Repository
+public class MatchMoveStreamRepository {
+
+    private static final int FETCH_SIZE = 500;
+
+    private static final String CHESS_MOVES = """
+                SELECT mm.id, mm.player_index, mm.move_notation, mm.played_at,
+                       cm.from_square, cm.to_square, cm.promotion_piece
+                FROM match_moves mm
+                JOIN chess_match_moves cm ON cm.id = mm.id
+                WHERE mm.match_id = ?
+                ORDER BY mm.played_at, mm.id
+                OFFSET ?
+            """;
+
+    private static final String CONNECT4_MOVES = """
+                SELECT mm.id, mm.player_index, mm.move_notation, mm.played_at,
+                       cm.column_index
+                FROM match_moves mm
+                JOIN connect4_match_moves cm ON cm.id = mm.id
+                WHERE mm.match_id = ?
+                ORDER BY mm.played_at, mm.id
+                OFFSET ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MatchMoveStreamRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+    }
+
+    /**
+     * Passes a range of plies of a match to the action in play order. Moves played within the same microsecond
+     * keep the order of their IDs.
+     *
+     * @param fromPly the first ply, 0-based
+     * @param toPly   the ply to stop before, or null to read to the last move
+     */
+    public void forEach(Long matchId, Game game, int fromPly, @Nullable Integer toPly,
+                        Consumer<MatchMoveDTO> action) {
+        String sql = switch (game) {
+            case CHESS -> CHESS_MOVES;
+            case CONNECT_FOUR -> CONNECT4_MOVES;
+        };
+        RowCallbackHandler handler = rs -> action.accept(switch (game) {
+            case CHESS -> toMoveDTO(rs, rs.getString("from_square"), rs.getString("to_square"),
+                    rs.getString("promotion_piece"));
+            case CONNECT_FOUR -> toMoveDTO(rs, null, String.valueOf(rs.getInt("column_index")), null);
+        });
+
+        if (toPly == null) {
+            jdbcTemplate.query(sql, handler, matchId, fromPly);
+        } else {
+            jdbcTemplate.query(sql + " LIMIT ?", handler, matchId, fromPly, Math.max(0, toPly - fromPly));
+        }
+    }
+
+    private static MatchMoveDTO toMoveDTO(ResultSet rs, @Nullable String from, @Nullable String to,
+                                          @Nullable String promotion) throws SQLException {
+        return new MatchMoveDTO(
+                rs.getLong("id"),
+                rs.getInt("player_index"),
+                rs.getString("move_notation"),
+                rs.getObject("played_at", LocalDateTime.class),
+                from,
+                to,
+                promotion
+        );
+    }
+}
@@ -0,0 +1,147 @@
+package com.algorena.games.data;
+
+import com.algorena.games.domain.MatchQueueEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Durable queue of matches to run, shared by all backend nodes. Times are taken from the database clock,
+ * so that the leases of all nodes are compared against the same clock.
+ */
+@Repository
+public interface MatchQueueRepository extends JpaRepository<MatchQueueEntry, Long> {
+
+    /**
+     * Adds a match that any node may claim.
+     */
+    @Modifying
+    @Query(value = """
+                INSERT INTO match_queue (match_id, user_id, available_at, attempts, created, last_updated)
+                VALUES (:matchId, :userId, now(), 0, now(), now())
+            """, nativeQuery = true)
+    void enqueue(Long matchId, Long userId);
+
+    /**
+     * Adds a match that is already claimed by the given node.
+     */
+    @Modifying
+    @Query(value = """
+                INSERT INTO match_queue (match_id, user_id, available_at, worker_id, lease_expires_at, attempts,
+                                         created, last_updated)
+                VALUES (:matchId, :userId, now(), :workerId, now() + :leaseMs * INTERVAL '1 millisecond', 1,
+                        now(), now())
+            """, nativeQuery = true)
+    void enqueueClaimed(Long matchId, Long userId, String workerId, long leaseMs);
+
+    /**
+     * Queues in-progress matches that are not in the queue and whose game state has not changed for the given time,
+     * e.g. matches that were running when their node crashed before they were queued. Every board write sets the
+     * last update time of the game state, so a match that is still being played is not queued. The match is queued
+     * for the owner of the first player's bot.
+     *
+     * @return the number of queued matches, at most {@code limit}
+     */
+    @Modifying
+    @Query(value = """
+                INSERT INTO match_queue (match_id, user_id, available_at, attempts, created, last_updated)
+                SELECT m.id, b.user_id, now(), 0, now(), now()
+                FROM matches m
+                JOIN match_participants p ON p.match_id = m.id AND p.player_index = 0
+                JOIN bots b ON b.id = p.bot_id
+                LEFT JOIN game_states gs ON gs.match_id = m.id
+                WHERE m.status = 'IN_PROGRESS'
+                  AND COALESCE(gs.last_updated, m.last_updated) < now() - :staleMs * INTERVAL '1 millisecond'
+                  AND NOT EXISTS (SELECT 1 FROM match_queue q WHERE q.match_id = m.id)
+                ORDER BY m.id
+                LIMIT :limit
+                ON CONFLICT (match_id) DO NOTHING
+            """, nativeQuery = true)
+    int enqueueOrphaned(long staleMs, int limit);
+
+    /**
+     * Locks the next matches that are available and not leased by a live node.
+     * Rows locked by other transactions are skipped, so concurrent nodes never claim the same match.
+     * Must be called in the transaction that claims them.
+     */
+    @Query(value = """
+                SELECT * FROM match_queue
+                WHERE available_at <= now()
+                  AND (lease_expires_at IS NULL OR lease_expires_at < now())
+                ORDER BY available_at
+                LIMIT :limit
+                FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<MatchQueueEntry> lockClaimable(int limit);
+
+    @Modifying
+    @Query(value = """
+                UPDATE match_queue
+                SET worker_id = :workerId,
+                    lease_expires_at = now() + :leaseMs * INTERVAL '1 millisecond',
+                    attempts = attempts + 1,
+                    last_updated = now()
+                WHERE match_id IN (:matchIds)
+            """, nativeQuery = true)
+    void claim(Collection<Long> matchIds, String workerId, long leaseMs);
+
+    /**
+     * Extends the leases of matches held by a node.
+     */
+    @Modifying
+    @Query(value = """
+                UPDATE match_queue
+                SET lease_expires_at = now() + :leaseMs * INTERVAL '1 millisecond', last_updated = now()
+                WHERE worker_id = :workerId AND match_id IN (:matchIds)
+            """, nativeQuery = true)
+    int renewLeases(String workerId, Collection<Long> matchIds, long leaseMs);
+
+    /**
+     * Checks that a node holds an unexpired lease of a match. The lease is locked until the transaction ends,
+     * so that no other node can claim the match in the meantime.
+     */
+    @Query(value = """
+                SELECT EXISTS (SELECT 1 FROM match_queue
+                               WHERE match_id = :matchId AND worker_id = :workerId AND lease_expires_at > now()
+                               FOR SHARE)
+            """, nativeQuery = true)
+    boolean lockLease(Long matchId, String workerId);
+
+    @Query("SELECT q.matchId FROM MatchQueueEntry q WHERE q.workerId = :workerId")
+    List<Long> findMatchIdsByWorkerId(String workerId);
+
+    /**
+     * Gives up the lease of a match held by a node, so that it can be claimed again after the delay.
+     * The claim is not counted as an attempt.
+     */
+    @Modifying
+    @Query(value = """
+                UPDATE match_queue
+                SET worker_id = NULL,
+                    lease_expires_at = NULL,
+                    available_at = now() + :delayMs * INTERVAL '1 millisecond',
+                    attempts = attempts - 1,
+                    last_updated = now()
+                WHERE match_id = :matchId AND worker_id = :workerId
+            """, nativeQuery = true)
+    int release(Long matchId, String workerId, long delayMs);
+
+    /**
+     * Removes a match held by a node. Does nothing if another node has claimed the match in the meantime.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM match_queue WHERE match_id = :matchId AND worker_id = :workerId", nativeQuery = true)
+    int deleteClaimed(Long matchId, String workerId);
+
+    /**
+     * Takes a transaction-scoped advisory lock, e.g. so that a periodic job runs on one node at a time.
+     *
+     * @return false if another transaction holds the lock
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryLock(long key);
+}
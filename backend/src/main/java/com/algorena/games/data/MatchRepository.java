@@ -3,20 +3,47 @@ package com.algorena.games.data;
 import com.algorena.bots.domain.Game;
 import com.algorena.games.domain.Match;
 import com.algorena.games.domain.MatchStatus;
+import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface MatchRepository extends JpaRepository<Match, Long> {
-    List<Match> findByParticipants_Bot_Id(Long botId);
+    // Count a bot's finished matches and results per game, optionally only those finished since a given time
+    @Query("SELECT m.game AS game, " +
+            "COUNT(p) AS totalMatches, " +
+            "SUM(CASE WHEN p.score = 1.0 THEN 1 ELSE 0 END) AS wins, " +
+            "SUM(CASE WHEN p.score = 0.0 THEN 1 ELSE 0 END) AS losses, " +
+            "SUM(CASE WHEN p.score = 0.5 THEN 1 ELSE 0 END) AS draws " +
+            "FROM MatchParticipant p " +
+            "JOIN p.match m " +
+            "WHERE p.bot.id = :botId " +
+            "AND m.status = com.algorena.games.domain.MatchStatus.FINISHED " +
+            "AND (:since IS NULL OR m.finishedAt >= :since) " +
+            "GROUP BY m.game")
+    List<GameMatchStats> countFinishedMatchResultsByGame(Long botId, @Nullable LocalDateTime since);
 
-    List<Match> findByParticipants_Bot_IdAndStatus(Long botId, MatchStatus status);
+    // Count a bot's finished matches and results per period, unit is a Postgres date_trunc unit (day, week, month)
+    @Query(value = "SELECT date_trunc(:unit, m.finished_at) AS periodStart, " +
+            "COUNT(*) AS totalMatches, " +
+            "COUNT(*) FILTER (WHERE p.score = 1.0) AS wins, " +
+            "COUNT(*) FILTER (WHERE p.score = 0.0) AS losses, " +
+            "COUNT(*) FILTER (WHERE p.score = 0.5) AS draws " +
+            "FROM match_participants p " +
+            "JOIN matches m ON m.id = p.match_id " +
+            "WHERE p.bot_id = :botId " +
+            "AND m.status = 'FINISHED' " +
+            "AND m.finished_at >= :since " +
+            "GROUP BY 1 " +
+            "ORDER BY 1", nativeQuery = true)
+    List<PeriodMatchStats> countFinishedMatchResultsByPeriod(Long botId, String unit, LocalDateTime since);
 
     // Eagerly fetch match with participants and bots for executor
     @Query("SELECT m FROM Match m " +
@@ -25,24 +52,49 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
             "WHERE m.id = :id")
     Optional<Match> findByIdWithParticipants(Long id);
 
-    // Find matches where any bot owned by the user is participating
+    // Eagerly fetch participants and bots of several matches at once, for mapping match lists
     @Query("SELECT DISTINCT m FROM Match m " +
-            "JOIN m.participants p " +
-            "WHERE p.bot.userId = :userId " +
-            "ORDER BY m.created DESC")
-    List<Match> findByUserIdOrderByCreatedDesc(Long userId);
+            "LEFT JOIN FETCH m.participants p " +
+            "LEFT JOIN FETCH p.bot " +
+            "WHERE m.id IN :ids")
+    List<Match> findAllWithParticipantsByIdIn(Collection<Long> ids);
+
+    // First page of the match history of some bots, newest first.
+    // EXISTS instead of a DISTINCT join, so rows can be read in (created, id) order and the scan stops at the limit
+    @Query("SELECT m FROM Match m " +
+            "WHERE EXISTS (SELECT 1 FROM MatchParticipant p WHERE p.match = m AND p.bot.id IN :botIds) " +
+            "AND (:opponentBotId IS NULL OR EXISTS " +
+            "(SELECT 1 FROM MatchParticipant o WHERE o.match = m AND o.bot.id = :opponentBotId)) " +
+            "AND m.status IN :statuses " +
+            "AND (:game IS NULL OR m.game = :game) " +
+            "ORDER BY m.created DESC, m.id DESC")
+    List<Match> findHistoryFirst(Collection<Long> botIds,
+                                 @Nullable Long opponentBotId,
+                                 Collection<MatchStatus> statuses,
+                                 @Nullable Game game,
+                                 Pageable pageable);
+
+    // Page of the match history of some bots that comes after the given (created, id) position, newest first
+    @Query("SELECT m FROM Match m " +
+            "WHERE EXISTS (SELECT 1 FROM MatchParticipant p WHERE p.match = m AND p.bot.id IN :botIds) " +
+            "AND (:opponentBotId IS NULL OR EXISTS " +
+            "(SELECT 1 FROM MatchParticipant o WHERE o.match = m AND o.bot.id = :opponentBotId)) " +
+            "AND m.status IN :statuses " +
+            "AND (:game IS NULL OR m.game = :game) " +
+            "AND (m.created < :created OR m.created = :created AND m.id < :id) " +
+            "ORDER BY m.created DESC, m.id DESC")
+    List<Match> findHistoryAfter(Collection<Long> botIds,
+                                 @Nullable Long opponentBotId,
+                                 Collection<MatchStatus> statuses,
+                                 @Nullable Game game,
+                                 LocalDateTime created,
+                                 long id,
+                                 Pageable pageable);
 
     // Get recent matches with limit (using Pageable for efficiency)
     @Query("SELECT m FROM Match m ORDER BY m.created DESC")
     List<Match> findRecentMatches(Pageable pageable);
 
-    // Find matches by multiple bot IDs (for user's bots)
-    @Query("SELECT DISTINCT m FROM Match m " +
-            "JOIN m.participants p " +
-            "WHERE p.bot.id IN :botIds " +
-            "ORDER BY m.created DESC")
-    List<Match> findByBotIdsOrderByCreatedDesc(List<Long> botIds);
-
     /**
      * Check if there's a recent finished match between two specific bots.
      * Used for ELO protection to prevent rematch farming.
@@ -74,4 +126,54 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
             LocalDateTime since,
             Long excludeMatchId
     );
+
+    // Count the in-progress matches of each bot of a game, used to cap the concurrent matches per bot
+    @Query("SELECT p.bot.id AS botId, COUNT(p) AS matches " +
+            "FROM MatchParticipant p " +
+            "JOIN p.match m " +
+            "WHERE m.status = com.algorena.games.domain.MatchStatus.IN_PROGRESS " +
+            "AND m.game = :game " +
+            "GROUP BY p.bot.id")
+    List<BotMatchCount> countInProgressMatchesByBot(Game game);
+
+    // Find the bots that met in a match of a game created since a given time, whatever the outcome
+    @Query("SELECT p1.bot.id AS bot1Id, p2.bot.id AS bot2Id " +
+            "FROM Match m " +
+            "JOIN m.participants p1 " +
+            "JOIN m.participants p2 " +
+            "WHERE m.game = :game " +
+            "AND m.created >= :since " +
+            "AND p1.playerIndex = 0 " +
+            "AND p2.playerIndex = 1")
+    List<BotPair> findBotPairsSince(Game game, LocalDateTime since);
+
+    interface BotMatchCount {
+        Long getBotId();
+
+        Long getMatches();
+    }
+
+    interface BotPair {
+        Long getBot1Id();
+
+        Long getBot2Id();
+    }
+
+    interface MatchResultCounts {
+        Long getTotalMatches();
+
+        Long getWins();
+
+        Long getLosses();
+
+        Long getDraws();
+    }
+
+    interface GameMatchStats extends MatchResultCounts {
+        Game getGame();
+    }
+
+    interface PeriodMatchStats extends MatchResultCounts {
+        LocalDateTime getPeriodStart();
+    }
 }
@@ -4,32 +4,60 @@ import com.algorena.bots.domain.Game;
 import com.algorena.games.domain.UserRanking;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
- * Repository for user rankings (materialized view).
+ * Repository for user rankings, kept up to date by {@code UserRankingService}.
  */
 @Repository
 public interface UserRankingRepository extends JpaRepository<UserRanking, UserRanking.UserRankingId> {
 
     /**
-     * Find all user rankings for a game, ordered by best bot ELO descending.
+     * Find all user rankings for a game, ordered by best bot ELO descending and then by user ID.
      */
     @Query("""
         SELECT ur FROM UserRanking ur
         WHERE ur.game = :game
-        ORDER BY ur.bestBotElo DESC
+        ORDER BY ur.bestBotElo DESC, ur.userId ASC
     """)
+    @EntityGraph(attributePaths = "user")
     Page<UserRanking> findByGameOrderByBestBotEloDesc(
         Game game,
         Pageable pageable
     );
 
+    /**
+     * Find the first user rankings for a game, in leaderboard order.
+     * Only the requested rows are read, no count query is issued.
+     */
+    @Query("""
+        SELECT ur FROM UserRanking ur
+        LEFT JOIN FETCH ur.user
+        WHERE ur.game = :game
+        ORDER BY ur.bestBotElo DESC, ur.userId ASC
+    """)
+    List<UserRanking> findFirst(Game game, Pageable pageable);
+
+    /**
+     * Find the user rankings for a game that come after the given position, in leaderboard order.
+     * Seeks on the (game, best_bot_elo DESC, user_id) index, so deep slices cost the same as the first one.
+     */
+    @Query("""
+        SELECT ur FROM UserRanking ur
+        LEFT JOIN FETCH ur.user
+        WHERE ur.game = :game
+        AND (ur.bestBotElo < :bestBotElo OR ur.bestBotElo = :bestBotElo AND ur.userId > :userId)
+        ORDER BY ur.bestBotElo DESC, ur.userId ASC
+    """)
+    List<UserRanking> findAfter(Game game, int bestBotElo, long userId, Pageable pageable);
+
     /**
      * Find user's ranking for a specific game.
      */
@@ -42,10 +70,67 @@ public interface UserRankingRepository extends JpaRepository<UserRanking, UserRa
     long countByGameAndBestBotEloGreaterThan(Game game, Integer bestBotElo);
 
     /**
-     * Refresh the materialized view.
-     * Should be called after matches complete.
+     * Locks the row of a user until the end of the transaction. {@code NO KEY UPDATE} does not block inserts of rows
+     * referencing the user.
+     *
+     * @return the ID of the user, or empty if the user does not exist
+     */
+    @Query(value = "SELECT id FROM users WHERE id = :userId FOR NO KEY UPDATE", nativeQuery = true)
+    Optional<Long> lockUser(Long userId);
+
+    /**
+     * Recomputes the ranking of one user for a game from the user's global bot ratings.
+     * Only that user's ratings are aggregated; the row is inserted if the user had no ranking yet.
+     */
+    @Modifying
+    @Query(value = """
+                INSERT INTO user_rankings (user_id, game, best_bot_elo, avg_bot_elo, total_bots, total_matches,
+                                           total_wins, total_losses, total_draws, win_rate)
+                SELECT b.user_id, br.game, MAX(br.elo_rating), AVG(br.elo_rating)::INTEGER, COUNT(DISTINCT br.bot_id),
+                       SUM(br.matches_played), SUM(br.wins), SUM(br.losses), SUM(br.draws),
+                       CASE WHEN SUM(br.matches_played) > 0 THEN SUM(br.wins)::FLOAT / SUM(br.matches_played) ELSE 0 END
+                FROM bots b
+                INNER JOIN bot_ratings br ON br.bot_id = b.id
+                WHERE b.user_id = :userId AND br.game = :game AND br.leaderboard_id IS NULL
+                GROUP BY b.user_id, br.game
+                ON CONFLICT (user_id, game) DO UPDATE
+                SET best_bot_elo = EXCLUDED.best_bot_elo,
+                    avg_bot_elo = EXCLUDED.avg_bot_elo,
+                    total_bots = EXCLUDED.total_bots,
+                    total_matches = EXCLUDED.total_matches,
+                    total_wins = EXCLUDED.total_wins,
+                    total_losses = EXCLUDED.total_losses,
+                    total_draws = EXCLUDED.total_draws,
+                    win_rate = EXCLUDED.win_rate
+            """, nativeQuery = true)
+    void upsertForUser(Long userId, String game);
+
+    /**
+     * Takes a Postgres advisory lock that is released when the current transaction ends.
+     *
+     * @return false if the lock is held by another transaction
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryTransactionLock(long key);
+
+    @Modifying
+    @Query(value = "DELETE FROM user_rankings", nativeQuery = true)
+    void deleteAllRankings();
+
+    /**
+     * Recomputes the rankings of all users. Expects an empty table, see {@link #deleteAllRankings()}.
      */
     @Modifying
-    @Query(value = "REFRESH MATERIALIZED VIEW CONCURRENTLY user_rankings", nativeQuery = true)
-    void refresh();
+    @Query(value = """
+                INSERT INTO user_rankings (user_id, game, best_bot_elo, avg_bot_elo, total_bots, total_matches,
+                                           total_wins, total_losses, total_draws, win_rate)
+                SELECT b.user_id, br.game, MAX(br.elo_rating), AVG(br.elo_rating)::INTEGER, COUNT(DISTINCT br.bot_id),
+                       SUM(br.matches_played), SUM(br.wins), SUM(br.losses), SUM(br.draws),
+                       CASE WHEN SUM(br.matches_played) > 0 THEN SUM(br.wins)::FLOAT / SUM(br.matches_played) ELSE 0 END
+                FROM bots b
+                INNER JOIN bot_ratings br ON br.bot_id = b.id
+                WHERE br.leaderboard_id IS NULL
+                GROUP BY b.user_id, br.game
+            """, nativeQuery = true)
+    void insertAllRankings();
 }
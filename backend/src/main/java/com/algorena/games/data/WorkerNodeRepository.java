@@ -0,0 +1,43 @@
+package com.algorena.games.data;
+
+import com.algorena.games.domain.WorkerNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface WorkerNodeRepository extends JpaRepository<WorkerNode, String> {
+
+    @Modifying
+    @Query(value = """
+                INSERT INTO worker_nodes (id, hostname, running_matches, started_at, last_heartbeat)
+                VALUES (:id, :hostname, :runningMatches, now(), now())
+                ON CONFLICT (id) DO UPDATE
+                SET running_matches = EXCLUDED.running_matches, last_heartbeat = now()
+            """, nativeQuery = true)
+    void register(String id, String hostname, int runningMatches);
+
+    /**
+     * @return 0 if the node is not registered, e.g. because it was removed as stale
+     */
+    @Modifying
+    @Query(value = """
+                UPDATE worker_nodes
+                SET running_matches = :runningMatches, last_heartbeat = now()
+                WHERE id = :id
+            """, nativeQuery = true)
+    int heartbeat(String id, int runningMatches);
+
+    @Modifying
+    @Query(value = "DELETE FROM worker_nodes WHERE id = :id", nativeQuery = true)
+    void deregister(String id);
+
+    /**
+     * Removes the nodes that have not sent a heartbeat for the given time.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM worker_nodes WHERE last_heartbeat < now() - :staleMs * INTERVAL '1 millisecond'",
+            nativeQuery = true)
+    int deleteStale(long staleMs);
+}
@@ -4,9 +4,12 @@ import com.algorena.common.domain.BaseEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 
 import org.jspecify.annotations.Nullable;
 
+import java.time.LocalDateTime;
+
 import static com.algorena.common.config.SuppressedWarnings.NULL_AWAY_INIT;
 
 @Entity
@@ -17,7 +20,8 @@ import static com.algorena.common.config.SuppressedWarnings.NULL_AWAY_INIT;
 public abstract class AbstractMatchMove extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_moves_id_seq")
+    @SequenceGenerator(name = "match_moves_id_seq", sequenceName = "match_moves_id_seq", allocationSize = 50)
     @Nullable
     private Long id;
 
@@ -33,10 +37,28 @@ public abstract class AbstractMatchMove extends BaseEntity {
     @SuppressWarnings(NULL_AWAY_INIT)
     private String moveNotation;
 
+    /**
+     * When the move was played. {@code created} is when the move was inserted, after its bot call and validation.
+     */
+    @Column(name = "played_at", nullable = false, updatable = false)
+    @Setter
+    @SuppressWarnings(NULL_AWAY_INIT)
+    private LocalDateTime playedAt;
+
     protected AbstractMatchMove(@Nullable Long id, Match match, int playerIndex, String moveNotation) {
         this.id = id;
         this.match = match;
         this.playerIndex = playerIndex;
         this.moveNotation = moveNotation;
     }
+
+    /**
+     * Moves saved without a {@code MatchSession} are played when they are saved.
+     */
+    @PrePersist
+    void defaultPlayedAt() {
+        if (playedAt == null) {
+            playedAt = LocalDateTime.now();
+        }
+    }
 }
@@ -19,7 +19,8 @@ import org.jspecify.annotations.Nullable;
 public class BotRating extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bot_ratings_id_seq")
+    @SequenceGenerator(name = "bot_ratings_id_seq", sequenceName = "bot_ratings_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -22,7 +22,8 @@ import java.util.List;
 public class Match extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "matches_id_seq")
+    @SequenceGenerator(name = "matches_id_seq", sequenceName = "matches_id_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,39 @@
+package com.algorena.games.domain;
+
+import com.algorena.common.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import static com.algorena.common.config.SuppressedWarnings.NULL_AWAY_INIT;
+
+/**
+ * All moves of a match, packed into a single row.
+ * <p>
+ * {@code moves} holds one fixed-width encoding per move (see {@code MoveLogCodec}), and {@code moveTimes}
+ * the time each move was played, as varint milliseconds since the match started.
+ * Rows are only appended to, through {@code MatchMoveLogRepository#appendMoves}.
+ */
+@Entity
+@Table(name = "match_move_logs")
+@Getter
+@NoArgsConstructor
+@SuppressWarnings(NULL_AWAY_INIT)
+public class MatchMoveLog extends BaseEntity {
+
+    @Id
+    @Column(name = "match_id")
+    private Long matchId;
+
+    @Column(name = "move_count", nullable = false)
+    private int moveCount;
+
+    @Column(name = "moves", nullable = false)
+    private byte[] moves;
+
+    @Column(name = "move_times", nullable = false)
+    private byte[] moveTimes;
+}
@@ -14,7 +14,8 @@ import lombok.*;
 public class MatchParticipant extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "match_participants_id_seq")
+    @SequenceGenerator(name = "match_participants_id_seq", sequenceName = "match_participants_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
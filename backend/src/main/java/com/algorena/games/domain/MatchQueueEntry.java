@@ -0,0 +1,58 @@
+package com.algorena.games.domain;
+
+import com.algorena.common.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.jspecify.annotations.Nullable;
+
+import java.time.LocalDateTime;
+
+import static com.algorena.common.config.SuppressedWarnings.NULL_AWAY_INIT;
+
+/**
+ * A match waiting to be run or running on a worker node.
+ * <p>
+ * The node holding the lease runs the match and renews the lease until the match stops. When the lease expires,
+ * e.g. because the node crashed, another node claims the match and resumes it.
+ * The table is only written with native queries, see {@code MatchQueueRepository}.
+ */
+@Entity
+@Table(name = "match_queue")
+@Immutable
+@Getter
+@NoArgsConstructor
+@SuppressWarnings(NULL_AWAY_INIT)
+public class MatchQueueEntry extends BaseEntity {
+
+    @Id
+    @Column(name = "match_id")
+    private Long matchId;
+
+    /**
+     * The user the match is run for, whose per-user limit applies on the claiming node.
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "worker_id")
+    @Nullable
+    private String workerId;
+
+    @Column(name = "lease_expires_at")
+    @Nullable
+    private LocalDateTime leaseExpiresAt;
+
+    /**
+     * The number of times the match was claimed.
+     */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+}
@@ -15,7 +15,8 @@ import java.io.Serializable;
 
 /**
  * Read-only view of user rankings computed from bot ratings.
- * Backed by a materialized view that is refreshed after matches complete.
+ * The table is only written with native queries: the rankings of both owners are recomputed after each rated
+ * match, and all rankings are rebuilt periodically by {@code UserRankingRefreshScheduler}.
  */
 @Entity
 @Table(name = "user_rankings")
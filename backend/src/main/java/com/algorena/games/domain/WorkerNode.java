@@ -0,0 +1,42 @@
+package com.algorena.games.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+import static com.algorena.common.config.SuppressedWarnings.NULL_AWAY_INIT;
+
+/**
+ * A backend node running matches from the match queue.
+ * The table is only written with native queries, see {@code WorkerNodeRepository}.
+ */
+@Entity
+@Table(name = "worker_nodes")
+@Immutable
+@Getter
+@NoArgsConstructor
+@SuppressWarnings(NULL_AWAY_INIT)
+public class WorkerNode {
+
+    @Id
+    @Column(name = "id")
+    private String id;
+
+    @Column(name = "hostname", nullable = false)
+    private String hostname;
+
+    @Column(name = "running_matches", nullable = false)
+    private int runningMatches;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "last_heartbeat", nullable = false)
+    private LocalDateTime lastHeartbeat;
+}
@@ -0,0 +1,16 @@
+package com.algorena.games.dto;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A slice of a leaderboard, fetched with keyset pagination.
+ *
+ * @param entries    the entries in rank order
+ * @param nextCursor the cursor to fetch the next slice with, null if this is the last slice
+ */
+public record LeaderboardSliceDTO<T>(
+    List<T> entries,
+    @Nullable String nextCursor
+) {}
@@ -0,0 +1,15 @@
+package com.algorena.games.dto;
+
+import java.util.List;
+
+/**
+ * First event of a live match stream: the match as it is now and the moves played so far.
+ *
+ * @param match the match, with its current state
+ * @param moves the moves played so far, in play order
+ */
+public record LiveMatchSnapshotDTO(
+        MatchDTO match,
+        List<MatchMoveDTO> moves
+) {
+}
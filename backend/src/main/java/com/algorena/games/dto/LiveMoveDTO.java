@@ -0,0 +1,17 @@
+package com.algorena.games.dto;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A move played in a live match.
+ *
+ * @param ply   the 0-based index of the move in the match
+ * @param move  the move
+ * @param state the game state after the move
+ */
+public record LiveMoveDTO(
+        int ply,
+        MatchMoveDTO move,
+        @Nullable GameStateDTO state
+) {
+}
@@ -0,0 +1,16 @@
+package com.algorena.games.dto;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A slice of a match history, fetched with keyset pagination.
+ *
+ * @param entries    the matches, newest first
+ * @param nextCursor the cursor to fetch the next slice with, null if this is the last slice
+ */
+public record MatchSliceDTO(
+    List<MatchDTO> entries,
+    @Nullable String nextCursor
+) {}
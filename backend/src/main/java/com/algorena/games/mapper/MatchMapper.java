@@ -75,7 +75,7 @@ public class MatchMapper {
                 move.getId(),
                 move.getPlayerIndex(),
                 move.getMoveNotation(),
-                move.getCreated(),
+                move.getPlayedAt(),
                 from,
                 to,
                 promotion
@@ -85,7 +85,7 @@ public class MatchMapper {
     /**
      * Converts a game state entity to the appropriate DTO.
      */
-    private @Nullable GameStateDTO toGameStateDTO(@Nullable AbstractGameState gameState) {
+    public @Nullable GameStateDTO toGameStateDTO(@Nullable AbstractGameState gameState) {
         if (gameState == null) {
             return null;
         }
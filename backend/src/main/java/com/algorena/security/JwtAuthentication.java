@@ -0,0 +1,20 @@
+package com.algorena.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The user and authorities carried by a validated JWT.
+ *
+ * @param principal   the user
+ * @param authorities the roles of the user
+ * @param expiresAt   when the token expires
+ */
+public record JwtAuthentication(
+        SimpleUserPrincipal principal,
+        List<GrantedAuthority> authorities,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,85 @@
+package com.algorena.security;
+
+import com.algorena.users.domain.Language;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Cache of validated JWTs, so that repeated requests with the same token skip the signature check and claim parsing.
+ * <p>
+ * Entries are keyed by the SHA-256 digest of the token, so tokens are not kept in memory, and expire at the
+ * token's {@code exp}: an expired token is never served from the cache and is validated (and rejected) again.
+ * At most {@code app.jwt.cache.max-size} tokens are cached.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final JwtService jwtService;
+    private final Cache<String, JwtAuthentication> authentications;
+
+    public JwtAuthenticationCache(
+            JwtService jwtService,
+            @Value("${app.jwt.cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtService = jwtService;
+        this.authentications = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<String, JwtAuthentication>creating((digest, authentication) ->
+                        Duration.between(Instant.now(), authentication.expiresAt())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, authentications, "jwt.authentications");
+    }
+
+    /**
+     * @param token the raw JWT
+     * @return the user and authorities of the token
+     * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
+     */
+    public JwtAuthentication authenticate(String token) {
+        return authentications.get(digest(token), digest -> toAuthentication(jwtService.validateAndParse(token)));
+    }
+
+    private static JwtAuthentication toAuthentication(Claims claims) {
+        String id = claims.getSubject();
+        String email = claims.get("email", String.class);
+        String name = claims.get("name", String.class);
+        String languageStr = claims.get("language", String.class);
+        Language language = Language.valueOf(languageStr != null ? languageStr : "EN");
+        List<?> roles = claims.get("roles", List.class);
+        List<GrantedAuthority> authorities = roles != null
+                ? roles.stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(String.valueOf(role)))
+                .toList()
+                : List.of();
+
+        SimpleUserPrincipal principal = new SimpleUserPrincipal(id, email, name, language);
+        return new JwtAuthentication(principal, authorities, claims.getExpiration().toInstant());
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,32 +1,26 @@
 package com.algorena.security;
 
-import com.algorena.users.domain.Language;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.jspecify.annotations.Nullable;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
 
-    public JwtAuthenticationFilter(JwtService jwtService) {
-        this.jwtService = jwtService;
+    public JwtAuthenticationFilter(JwtAuthenticationCache jwtAuthenticationCache) {
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
     }
 
     @Override
@@ -37,25 +31,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (token != null) {
             try {
-                Claims claims = jwtService.validateAndParse(token);
+                JwtAuthentication jwtAuthentication = jwtAuthenticationCache.authenticate(token);
 
-                String id = claims.getSubject();
-                String email = claims.get("email", String.class);
-                String name = claims.get("name", String.class);
-                String languageStr = claims.get("language", String.class);
-                Language language = Language.valueOf(languageStr != null ? languageStr : "EN");
-                List<String> roles = claims.get("roles", List.class);
-                List<GrantedAuthority> authorities = roles != null
-                        ? roles.stream()
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList())
-                        : new ArrayList<>();
-
-                SimpleUserPrincipal principal = new SimpleUserPrincipal(id, email, name, language);
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(principal, null, authorities);
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        jwtAuthentication.principal(), null, jwtAuthentication.authorities());
+                authentication.setDetails(authenticationDetailsSource.buildDetails(request));
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } catch (Exception e) {
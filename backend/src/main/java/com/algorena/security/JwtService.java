@@ -3,6 +3,7 @@ package com.algorena.security;
 import com.algorena.users.domain.Role;
 import com.algorena.users.domain.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -21,12 +22,17 @@ import java.util.Map;
 public class JwtService {
 
     private final SecretKey secretKey;
+    /** Parsers are immutable and thread-safe, so one is built for all tokens. */
+    private final JwtParser jwtParser;
 
     @Value("${app.jwt.expiration-ms:3600000}") // default 1 hour
     private long jwtExpirationMs;
 
     public JwtService(@Value("${app.jwt.secret:1c17e1d043766a36dd26c58b94be13cb4c2c4c78d469663f424106c99a89a84caca3b1471948458c86104c65e5935d112db71cd11497d3f9466d3b8db763201a}") String secret) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
     }
 
     public String createToken(User user) {
@@ -54,10 +60,6 @@ public class JwtService {
     }
 
     public Claims validateAndParse(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 }
@@ -0,0 +1,43 @@
+-- Replace the user_rankings materialized view with a table that is updated per user after each rated match
+DROP MATERIALIZED VIEW user_rankings;
+
+CREATE TABLE user_rankings
+(
+    user_id       BIGINT           NOT NULL REFERENCES users (id),
+    game          VARCHAR(50)      NOT NULL,
+    best_bot_elo  INTEGER          NOT NULL,
+    avg_bot_elo   INTEGER          NOT NULL,
+    total_bots    INTEGER          NOT NULL,
+    total_matches INTEGER          NOT NULL,
+    total_wins    INTEGER          NOT NULL,
+    total_losses  INTEGER          NOT NULL,
+    total_draws   INTEGER          NOT NULL,
+    win_rate      DOUBLE PRECISION NOT NULL,
+    PRIMARY KEY (user_id, game)
+);
+
+CREATE INDEX idx_user_rankings_game_elo ON user_rankings (game, best_bot_elo DESC);
+
+-- Used to aggregate the ratings of a single user
+CREATE INDEX idx_bots_user_id ON bots (user_id);
+
+INSERT INTO user_rankings (user_id, game, best_bot_elo, avg_bot_elo, total_bots, total_matches,
+                           total_wins, total_losses, total_draws, win_rate)
+SELECT b.user_id,
+       br.game,
+       MAX(br.elo_rating),
+       AVG(br.elo_rating)::INTEGER,
+       COUNT(DISTINCT br.bot_id),
+       SUM(br.matches_played),
+       SUM(br.wins),
+       SUM(br.losses),
+       SUM(br.draws),
+       CASE
+           WHEN SUM(br.matches_played) > 0
+               THEN (SUM(br.wins)::FLOAT / SUM(br.matches_played))
+           ELSE 0
+           END
+FROM bots b
+         INNER JOIN bot_ratings br ON br.bot_id = b.id
+WHERE br.leaderboard_id IS NULL -- Global leaderboard only
+GROUP BY b.user_id, br.game;
@@ -0,0 +1,7 @@
+-- Leaderboards are ordered by ELO and then by ID, so that pages are stable and can be fetched with keyset
+-- pagination. Extend the ELO indexes with the tie-breaker; they still serve the rank count queries.
+DROP INDEX idx_bot_ratings_global_game_elo;
+CREATE INDEX idx_bot_ratings_global_game_elo_id ON bot_ratings (game, elo_rating DESC, id) WHERE leaderboard_id IS NULL;
+
+DROP INDEX idx_user_rankings_game_elo;
+CREATE INDEX idx_user_rankings_game_elo_user ON user_rankings (game, best_bot_elo DESC, user_id);
@@ -0,0 +1,2 @@
+-- Bot statistics and match lists look up the participations of one bot
+CREATE INDEX idx_match_participants_bot_id ON match_participants (bot_id) INCLUDE (match_id, score);
@@ -0,0 +1,6 @@
+-- Match histories seek on (created, id), newest first
+CREATE INDEX idx_matches_created_id ON matches (created DESC, id DESC);
+
+-- Match histories probe the participations of a bot per match, bot statistics still read only the index
+DROP INDEX idx_match_participants_bot_id;
+CREATE INDEX idx_match_participants_bot_id_match_id ON match_participants (bot_id, match_id) INCLUDE (score);
@@ -0,0 +1,27 @@
+-- Backend nodes that run matches, registered at startup and kept alive by heartbeats
+CREATE TABLE worker_nodes
+(
+    id              VARCHAR(64) PRIMARY KEY,
+    hostname        VARCHAR(255) NOT NULL,
+    running_matches INTEGER      NOT NULL,
+    started_at      TIMESTAMP    NOT NULL,
+    last_heartbeat  TIMESTAMP    NOT NULL
+);
+
+-- Matches to run, claimed by a node with SELECT ... FOR UPDATE SKIP LOCKED.
+-- The claiming node renews the lease while the match runs; once it expires, any node may claim the match again
+-- and resume it from its persisted game state. The row is deleted when the match is no longer in progress.
+CREATE TABLE match_queue
+(
+    match_id         BIGINT PRIMARY KEY REFERENCES matches (id),
+    user_id          BIGINT    NOT NULL REFERENCES users (id),
+    available_at     TIMESTAMP NOT NULL,
+    worker_id        VARCHAR(64),
+    lease_expires_at TIMESTAMP,
+    attempts         INTEGER   NOT NULL,
+    created          TIMESTAMP NOT NULL,
+    last_updated     TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_match_queue_available_at ON match_queue (available_at);
+CREATE INDEX idx_match_queue_worker_id ON match_queue (worker_id);
@@ -0,0 +1,2 @@
+-- The recovery scan looks for in-progress matches only, a small fraction of all matches
+CREATE INDEX idx_matches_in_progress ON matches (id) WHERE status = 'IN_PROGRESS';
@@ -0,0 +1,5 @@
+-- Moves are buffered and inserted in batches, so created is the time of the batch insert.
+-- played_at keeps the time each move was played; moves inserted one by one were created when played.
+ALTER TABLE match_moves ADD COLUMN played_at TIMESTAMP;
+UPDATE match_moves SET played_at = created;
+ALTER TABLE match_moves ALTER COLUMN played_at SET NOT NULL;
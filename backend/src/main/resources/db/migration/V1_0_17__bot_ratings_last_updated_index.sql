@@ -0,0 +1,2 @@
+-- Rating changes of other nodes are polled by the time they were made, on the global leaderboards only
+CREATE INDEX idx_bot_ratings_global_last_updated ON bot_ratings (last_updated) WHERE leaderboard_id IS NULL;
@@ -0,0 +1,3 @@
+-- move_offsets holds the time each move was played, not offsets into the move log.
+-- Milliseconds between the start of the match and each move, one unsigned LEB128 varint per move in play order
+ALTER TABLE match_move_logs RENAME COLUMN move_offsets TO move_times;
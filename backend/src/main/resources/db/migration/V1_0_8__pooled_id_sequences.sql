@@ -0,0 +1,7 @@
+-- Let Hibernate allocate IDs in blocks of 50 (allocationSize = 50), so inserts can be batched.
+-- The sequences keep backing the BIGSERIAL defaults; IDs from plain SQL inserts simply skip ahead.
+ALTER SEQUENCE matches_id_seq INCREMENT BY 50;
+ALTER SEQUENCE match_participants_id_seq INCREMENT BY 50;
+ALTER SEQUENCE match_moves_id_seq INCREMENT BY 50;
+ALTER SEQUENCE bots_id_seq INCREMENT BY 50;
+ALTER SEQUENCE bot_ratings_id_seq INCREMENT BY 50;
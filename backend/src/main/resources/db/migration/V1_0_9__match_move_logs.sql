@@ -0,0 +1,12 @@
+-- Compact move log: all moves of a match in a single row (used when algorena.match.move-log.compact=true)
+CREATE TABLE match_move_logs
+(
+    match_id     BIGINT PRIMARY KEY REFERENCES matches (id),
+    move_count   INTEGER   NOT NULL,
+    -- Fixed-width move encodings in play order, the move of ply n starts at n * width
+    moves        BYTEA     NOT NULL,
+    -- Milliseconds since the match started, one varint per move
+    move_offsets BYTEA     NOT NULL,
+    created      TIMESTAMP NOT NULL,
+    last_updated TIMESTAMP NOT NULL
+);
@@ -0,0 +1,75 @@
+package com.algorena.bots.application;
+
+import com.algorena.bots.domain.Bot;
+import com.algorena.bots.domain.Game;
+import com.algorena.security.EncryptionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class BotApiKeyServiceTest {
+
+    private static final String TEST_ENCRYPTION_KEY = "zXf1bOvMgwonGWc/5lEKj+zRaInI13ky1Tdlo18IINU=";
+
+    private EncryptionService encryptionService;
+    private BotApiKeyService service;
+
+    @BeforeEach
+    void setUp() {
+        encryptionService = spy(new EncryptionService(TEST_ENCRYPTION_KEY));
+        service = new BotApiKeyService(encryptionService, 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void getApiKey_ShouldDecryptEachCiphertextOnce() {
+        String ciphertext = new EncryptionService(TEST_ENCRYPTION_KEY).encrypt("secret-key");
+
+        assertThat(service.getApiKey(bot(ciphertext))).isEqualTo("secret-key");
+        assertThat(service.getApiKey(bot(ciphertext))).isEqualTo("secret-key");
+
+        verify(encryptionService, times(1)).decrypt(ciphertext);
+    }
+
+    @Test
+    void getApiKey_AfterEncrypt_ShouldNotDecrypt() {
+        String ciphertext = service.encrypt("secret-key");
+
+        assertThat(service.getApiKey(bot(ciphertext))).isEqualTo("secret-key");
+
+        verify(encryptionService, never()).decrypt(anyString());
+    }
+
+    @Test
+    void getApiKey_ShouldFollowKeyChanges() {
+        String first = service.encrypt("first-key");
+        String second = service.encrypt("second-key");
+
+        assertThat(first).isNotEqualTo(second);
+        assertThat(service.getApiKey(bot(first))).isEqualTo("first-key");
+        assertThat(service.getApiKey(bot(second))).isEqualTo("second-key");
+    }
+
+    @Test
+    void getApiKey_WithoutKey_ShouldBeNull() {
+        assertThat(service.encrypt(null)).isNull();
+        assertThat(service.getApiKey(bot(null))).isNull();
+    }
+
+    private static Bot bot(@Nullable String encryptedApiKey) {
+        return Bot.builder()
+                .userId(1L)
+                .name("Bot")
+                .game(Game.CHESS)
+                .endpoint("http://localhost:8081/bot")
+                .encryptedApiKey(encryptedApiKey)
+                .build();
+    }
+}
@@ -3,16 +3,26 @@ package com.algorena.bots.application;
 import com.algorena.bots.data.BotRepository;
 import com.algorena.bots.domain.Bot;
 import com.algorena.bots.domain.Game;
+import com.algorena.bots.domain.StatsPeriod;
 import com.algorena.bots.dto.BotDTO;
+import com.algorena.bots.dto.BotPeriodStatsDTO;
+import com.algorena.bots.dto.BotStatsDTO;
 import com.algorena.bots.dto.CreateBotRequest;
 import com.algorena.common.exception.DataNotFoundException;
+import com.algorena.games.domain.Match;
+import com.algorena.games.domain.MatchParticipant;
+import com.algorena.games.domain.MatchStatus;
 import com.algorena.test.config.AbstractIntegrationTest;
 import com.algorena.users.domain.User;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -27,6 +37,9 @@ class BotServiceImplIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     void createBot_shouldCreateBotForCurrentUser() {
         // Given
@@ -167,5 +180,82 @@ class BotServiceImplIntegrationTest extends AbstractIntegrationTest {
         assertThat(botRepository.findById(savedBot.getId())).isPresent();
     }
 
-}
+    @Test
+    void getBotStats_shouldCountResultsOfFinishedMatches() {
+        // Given
+        User otherUser = createTestUser("opponent", "opponent@algorena.dev");
+        Bot bot = createTestBot(testUser, "Stats Bot", Game.CHESS, "http://localhost:8080/stats-bot");
+        Bot opponent = createTestBot(otherUser, "Opponent", Game.CHESS, "http://localhost:8080/opponent");
+        createFinishedMatch(bot, opponent, 1.0, 0.0, 0);
+        createFinishedMatch(bot, opponent, 1.0, 0.0, 0);
+        createFinishedMatch(opponent, bot, 0.5, 0.5, 0);
+        createFinishedMatch(opponent, bot, 1.0, 0.0, 0);
+
+        // When
+        BotStatsDTO stats = botService.getBotStats(bot.getId(), null);
+
+        // Then
+        assertThat(stats.totalMatches()).isEqualTo(4);
+        assertThat(stats.wins()).isEqualTo(2);
+        assertThat(stats.losses()).isEqualTo(1);
+        assertThat(stats.draws()).isEqualTo(1);
+        assertThat(stats.winRate()).isEqualTo(0.625);
+        assertThat(stats.games()).singleElement().satisfies(game -> {
+            assertThat(game.game()).isEqualTo(Game.CHESS);
+            assertThat(game.totalMatches()).isEqualTo(4);
+        });
+    }
+
+    @Test
+    void getBotStats_shouldOnlyCountMatchesFinishedSinceGivenTime() {
+        // Given
+        User otherUser = createTestUser("opponent", "opponent@algorena.dev");
+        Bot bot = createTestBot(testUser, "Stats Bot", Game.CHESS, "http://localhost:8080/stats-bot");
+        Bot opponent = createTestBot(otherUser, "Opponent", Game.CHESS, "http://localhost:8080/opponent");
+        createFinishedMatch(bot, opponent, 1.0, 0.0, 10);
+        createFinishedMatch(bot, opponent, 0.0, 1.0, 3);
+        createFinishedMatch(bot, opponent, 0.0, 1.0, 0);
+
+        // When
+        BotStatsDTO stats = botService.getBotStats(bot.getId(), LocalDateTime.now().minusDays(5));
+        List<BotPeriodStatsDTO> periods = botService.getBotStatsByPeriod(bot.getId(), StatsPeriod.DAY,
+                LocalDateTime.now().minusDays(30));
+
+        // Then
+        assertThat(stats.totalMatches()).isEqualTo(2);
+        assertThat(stats.losses()).isEqualTo(2);
+        assertThat(periods).hasSize(3);
+        assertThat(periods).extracting(BotPeriodStatsDTO::wins).containsExactly(1, 0, 0);
+        assertThat(periods.get(0).periodStart()).isBefore(periods.get(1).periodStart());
+    }
 
+    @Test
+    void getBotStats_shouldReturnZerosForBotWithoutMatches() {
+        Bot bot = createTestBot(testUser, "New Bot", Game.CHESS, "http://localhost:8080/new-bot");
+
+        BotStatsDTO stats = botService.getBotStats(bot.getId(), null);
+
+        assertThat(stats.totalMatches()).isZero();
+        assertThat(stats.winRate()).isZero();
+        assertThat(stats.games()).isEmpty();
+    }
+
+    private void createFinishedMatch(Bot bot1, Bot bot2, double score1, double score2, int daysAgo) {
+        Match match = Match.builder()
+                .game(Game.CHESS)
+                .status(MatchStatus.FINISHED)
+                .build();
+        match.finish();
+
+        MatchParticipant p1 = MatchParticipant.builder().match(match).bot(bot1).playerIndex(0).build();
+        p1.recordScore(score1);
+        match.addParticipant(p1);
+        MatchParticipant p2 = MatchParticipant.builder().match(match).bot(bot2).playerIndex(1).build();
+        p2.recordScore(score2);
+        match.addParticipant(p2);
+        match = matchRepository.save(match);
+
+        jdbcTemplate.update("UPDATE matches SET finished_at = ? WHERE id = ?",
+                LocalDateTime.now().minusDays(daysAgo), match.getId());
+    }
+}
@@ -0,0 +1,99 @@
+package com.algorena.common.config;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RestClientConfigTest {
+
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+    private PoolingHttpClientConnectionManager connectionManager;
+    private CloseableHttpClient httpClient;
+    private RestClient restClient;
+    private RestClientConfig config;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/move", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            exchange.getRequestBody().readAllBytes();
+            byte[] body = "{\"move\":\"e2e4\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        config = new RestClientConfig();
+        ReflectionTestUtils.setField(config, "botTimeoutSeconds", 5);
+        ReflectionTestUtils.setField(config, "maxConnections", 10);
+        ReflectionTestUtils.setField(config, "maxConnectionsPerHost", 2);
+        ReflectionTestUtils.setField(config, "keepAliveSeconds", 30);
+        ReflectionTestUtils.setField(config, "connectionRequestTimeoutMs", 1000L);
+
+        connectionManager = config.botConnectionManager();
+        httpClient = config.botHttpClient(connectionManager);
+        restClient = config.botRestClient(config.restClientBuilder(httpClient));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void shouldReuseConnectionAcrossSequentialMoves() {
+        String uri = "http://localhost:" + server.getAddress().getPort() + "/move";
+
+        for (int i = 0; i < 10; i++) {
+            String response = restClient.post().uri(uri).body("{}").retrieve().body(String.class);
+            assertThat(response).contains("e2e4");
+        }
+
+        assertThat(clientPorts).hasSize(1);
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+        assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+    }
+
+    @Test
+    void shouldApplyPerHostConnectionLimit() {
+        assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(2);
+        assertThat(connectionManager.getMaxTotal()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldSplitTheBotTimeoutBetweenPoolWaitAndResponse() {
+        RequestConfig requestConfig = config.botRequestConfig();
+
+        assertThat(requestConfig.getConnectionRequestTimeout().toMilliseconds()).isEqualTo(1000);
+        assertThat(requestConfig.getResponseTimeout().toMilliseconds()).isEqualTo(4000);
+    }
+
+    @Test
+    void shouldRejectPoolWaitThatTakesTheWholeBotTimeout() {
+        ReflectionTestUtils.setField(config, "connectionRequestTimeoutMs", 5000L);
+
+        assertThatThrownBy(config::botRequestConfig).isInstanceOf(IllegalStateException.class);
+    }
+}
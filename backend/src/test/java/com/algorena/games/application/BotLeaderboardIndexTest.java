@@ -0,0 +1,109 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Bot;
+import com.algorena.bots.domain.Game;
+import com.algorena.games.data.BotRatingRepository;
+import com.algorena.games.domain.BotRating;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BotLeaderboardIndexTest {
+
+    private BotRatingRepository botRatingRepository;
+    private BotLeaderboardIndex index;
+
+    @BeforeEach
+    void setUp() {
+        botRatingRepository = mock(BotRatingRepository.class);
+        index = new BotLeaderboardIndex(botRatingRepository, new LeaderboardVersion(), true);
+    }
+
+    @Test
+    void shouldNotBeLoadedBeforeFirstReload() {
+        assertThat(index.isLoaded()).isFalse();
+    }
+
+    @Test
+    void shouldLoadRatingsPerGame() {
+        when(botRatingRepository.findAllGlobalEloRatings()).thenReturn(List.of(
+                new EloRating(1L, Game.CHESS, 1500),
+                new EloRating(2L, Game.CHESS, 1400),
+                new EloRating(3L, Game.CONNECT_FOUR, 1300)
+        ));
+
+        index.reload();
+
+        assertThat(index.isLoaded()).isTrue();
+        assertThat(index.size(Game.CHESS)).isEqualTo(2);
+        assertThat(index.getBotIds(Game.CHESS, 0, 10)).containsExactly(1L, 2L);
+        assertThat(index.rankOf(Game.CHESS, 1400)).isEqualTo(2);
+        assertThat(index.getBotIds(Game.CONNECT_FOUR, 0, 10)).containsExactly(3L);
+    }
+
+    @Test
+    void shouldApplyUpdatesOutsideOfTransactionImmediately() {
+        when(botRatingRepository.findAllGlobalEloRatings()).thenReturn(List.of(new EloRating(1L, Game.CHESS, 1500)));
+        index.reload();
+
+        index.updateAfterCommit(List.of(rating(2L, Game.CHESS, 1600)));
+
+        assertThat(index.getBotIds(Game.CHESS, 0, 10)).containsExactly(2L, 1L);
+        assertThat(index.rankOf(Game.CHESS, 1500)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepUpdatesMadeDuringReload() {
+        when(botRatingRepository.findAllGlobalEloRatings()).thenAnswer(invocation -> {
+            // A rating change that commits while the reload is reading stale data
+            index.updateAfterCommit(List.of(rating(1L, Game.CHESS, 1700)));
+            return List.of(new EloRating(1L, Game.CHESS, 1500), new EloRating(2L, Game.CHESS, 1600));
+        });
+
+        index.reload();
+
+        assertThat(index.getBotIds(Game.CHESS, 0, 10)).containsExactly(1L, 2L);
+        assertThat(index.rankOf(Game.CHESS, 1700)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldStayUnloadedWhenDisabled() {
+        index = new BotLeaderboardIndex(botRatingRepository, new LeaderboardVersion(), false);
+
+        index.reload();
+
+        assertThat(index.isLoaded()).isFalse();
+        verify(botRatingRepository, never()).findAllGlobalEloRatings();
+    }
+
+    private static BotRating rating(Long botId, Game game, int eloRating) {
+        Bot bot = Bot.builder().id(botId).userId(1L).name("Bot" + botId).game(game).endpoint("http://bot").build();
+        BotRating rating = new BotRating(bot, game, null);
+        rating.updateRating(eloRating);
+        return rating;
+    }
+
+    private record EloRating(Long botId, Game game, Integer eloRating) implements BotRatingRepository.GlobalEloRating {
+        @Override
+        public Long getBotId() {
+            return botId;
+        }
+
+        @Override
+        public Game getGame() {
+            return game;
+        }
+
+        @Override
+        public Integer getEloRating() {
+            return eloRating;
+        }
+    }
+}
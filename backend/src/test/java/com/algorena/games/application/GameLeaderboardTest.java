@@ -0,0 +1,93 @@
+package com.algorena.games.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameLeaderboardTest {
+
+    private final GameLeaderboard leaderboard = new GameLeaderboard();
+
+    @Test
+    void shouldOrderByEloDescendingThenByBotId() {
+        leaderboard.put(3L, 1400);
+        leaderboard.put(1L, 1500);
+        leaderboard.put(2L, 1400);
+        leaderboard.put(4L, 1300);
+
+        assertThat(leaderboard.range(0, 10)).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(leaderboard.range(1, 2)).containsExactly(2L, 3L);
+        assertThat(leaderboard.range(2, 10)).containsExactly(3L, 4L);
+        assertThat(leaderboard.range(4, 10)).isEmpty();
+        assertThat(leaderboard.size()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldCountBotsRatedStrictlyAbove() {
+        leaderboard.put(1L, 1500);
+        leaderboard.put(2L, 1400);
+        leaderboard.put(3L, 1400);
+
+        assertThat(leaderboard.countAbove(1500)).isZero();
+        assertThat(leaderboard.countAbove(1400)).isEqualTo(1);
+        assertThat(leaderboard.countAbove(1399)).isEqualTo(3);
+        assertThat(leaderboard.countAbove(9999)).isZero();
+        assertThat(leaderboard.countAbove(-5)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldMoveBotWhenRatingChanges() {
+        leaderboard.put(1L, 1500);
+        leaderboard.put(2L, 1400);
+
+        leaderboard.put(2L, 1600);
+
+        assertThat(leaderboard.range(0, 10)).containsExactly(2L, 1L);
+        assertThat(leaderboard.countAbove(1500)).isEqualTo(1);
+        assertThat(leaderboard.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldGrowSpanForRatingsOutsideOfIt() {
+        leaderboard.put(1L, 1200);
+        leaderboard.put(2L, 10_000);
+        leaderboard.put(3L, -20);
+
+        assertThat(leaderboard.range(0, 10)).containsExactly(2L, 1L, 3L);
+        assertThat(leaderboard.countAbove(1200)).isEqualTo(1);
+        assertThat(leaderboard.countAbove(-20)).isEqualTo(2);
+    }
+
+    @Test
+    void shouldMatchSortedListForRandomUpdates() {
+        Random random = new Random(42);
+        Map<Long, Integer> ratings = new HashMap<>();
+        for (int i = 0; i < 5_000; i++) {
+            long botId = random.nextInt(500);
+            int elo = 1000 + random.nextInt(400);
+            ratings.put(botId, elo);
+            leaderboard.put(botId, elo);
+        }
+
+        List<Long> expected = ratings.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        assertThat(leaderboard.range(0, expected.size())).containsExactlyElementsOf(expected);
+        for (int offset = 0; offset < expected.size(); offset += 37) {
+            assertThat(leaderboard.range(offset, 10))
+                    .containsExactlyElementsOf(expected.subList(offset, Math.min(offset + 10, expected.size())));
+        }
+        for (int elo : ratings.values()) {
+            long higher = ratings.values().stream().filter(other -> other > elo).count();
+            assertThat(leaderboard.countAbove(elo)).isEqualTo(higher);
+        }
+    }
+}
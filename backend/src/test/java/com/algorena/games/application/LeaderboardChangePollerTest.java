@@ -0,0 +1,107 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Game;
+import com.algorena.games.data.BotRatingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaderboardChangePollerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final LeaderboardVersion leaderboardVersion = new LeaderboardVersion();
+    private BotRatingRepository botRatingRepository;
+    private BotLeaderboardIndex index;
+    private LeaderboardChangePoller poller;
+
+    @BeforeEach
+    void setUp() {
+        botRatingRepository = mock(BotRatingRepository.class);
+        index = new BotLeaderboardIndex(botRatingRepository, leaderboardVersion, true);
+        when(botRatingRepository.findAllGlobalEloRatings()).thenReturn(List.of(
+                new EloRating(1L, Game.CHESS, 1500, NOW.minusHours(1)),
+                new EloRating(2L, Game.CHESS, 1400, NOW.minusHours(1))
+        ));
+        index.reload();
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        poller = new LeaderboardChangePoller(botRatingRepository, index, leaderboardVersion, true, 10_000, clock);
+    }
+
+    @Test
+    void shouldApplyChangesOfOtherNodesAndIncrementTheirVersion() {
+        when(botRatingRepository.findGlobalEloRatingsUpdatedSince(NOW.minusSeconds(10))).thenReturn(List.of(
+                new EloRating(2L, Game.CHESS, 1600, NOW.minusSeconds(1))
+        ));
+        long chessVersion = leaderboardVersion.get(Game.CHESS);
+        long connectFourVersion = leaderboardVersion.get(Game.CONNECT_FOUR);
+
+        assertThat(poller.poll()).isEqualTo(1);
+
+        assertThat(index.getBotIds(Game.CHESS, 0, 10)).containsExactly(2L, 1L);
+        assertThat(leaderboardVersion.get(Game.CHESS)).isEqualTo(chessVersion + 1);
+        assertThat(leaderboardVersion.get(Game.CONNECT_FOUR)).isEqualTo(connectFourVersion);
+    }
+
+    @Test
+    void shouldSkipChangesFoundByAnEarlierPoll() {
+        EloRating change = new EloRating(2L, Game.CHESS, 1600, NOW.minusSeconds(1));
+        when(botRatingRepository.findGlobalEloRatingsUpdatedSince(any())).thenReturn(List.of(change));
+        poller.poll();
+        long version = leaderboardVersion.get(Game.CHESS);
+
+        assertThat(poller.poll()).isZero();
+        assertThat(leaderboardVersion.get(Game.CHESS)).isEqualTo(version);
+
+        when(botRatingRepository.findGlobalEloRatingsUpdatedSince(any())).thenReturn(List.of(
+                change, new EloRating(2L, Game.CHESS, 1300, NOW)
+        ));
+        assertThat(poller.poll()).isEqualTo(1);
+        assertThat(index.getBotIds(Game.CHESS, 0, 10)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void shouldDoNothingWhenDisabled() {
+        LeaderboardChangePoller disabled = new LeaderboardChangePoller(botRatingRepository, index, leaderboardVersion,
+                false, 10_000, Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+
+        assertThat(disabled.poll()).isZero();
+        verify(botRatingRepository, never()).findGlobalEloRatingsUpdatedSince(any());
+    }
+
+    private record EloRating(Long botId, Game game, Integer eloRating, LocalDateTime lastUpdated)
+            implements BotRatingRepository.ChangedEloRating {
+
+        @Override
+        public Long getBotId() {
+            return botId;
+        }
+
+        @Override
+        public Game getGame() {
+            return game;
+        }
+
+        @Override
+        public Integer getEloRating() {
+            return eloRating;
+        }
+
+        @Override
+        public LocalDateTime getLastUpdated() {
+            return lastUpdated;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Game;
+import com.algorena.games.connect4.domain.Connect4GameState;
+import com.algorena.games.connect4.domain.Connect4MatchMove;
+import com.algorena.games.domain.Match;
+import com.algorena.games.domain.MatchStatus;
+import com.algorena.games.dto.LiveMatchSnapshotDTO;
+import com.algorena.games.dto.LiveMoveDTO;
+import com.algorena.games.mapper.MatchMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LiveMatchBroadcasterTest {
+
+    private static final Long MATCH_ID = 42L;
+
+    private ObjectMapper objectMapper;
+    private LiveMatchBroadcaster broadcaster;
+    private MatchSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        objectMapper = spy(new ObjectMapper().registerModule(new JavaTimeModule()));
+        broadcaster = new LiveMatchBroadcaster(objectMapper, new MatchMapper(), 4, 60_000);
+
+        Match match = Match.builder()
+                .game(Game.CONNECT_FOUR)
+                .status(MatchStatus.IN_PROGRESS)
+                .build();
+        match.start();
+        ReflectionTestUtils.setField(match, "id", MATCH_ID);
+        session = new MatchSession(match, "worker-1", mock(GameMatchExecutor.class), new Connect4GameState(), List.of());
+    }
+
+    @Test
+    void subscribe_WhenMatchIsNotRunning_ShouldReturnNull() {
+        assertThat(broadcaster.subscribe(MATCH_ID)).isNull();
+        assertThat(broadcaster.getViewerCount(MATCH_ID)).isZero();
+    }
+
+    @Test
+    void subscribe_ShouldAcceptViewersUntilMatchIsClosed() {
+        broadcaster.open(session);
+
+        assertThat(broadcaster.subscribe(MATCH_ID)).isNotNull();
+        assertThat(broadcaster.subscribe(MATCH_ID)).isNotNull();
+        assertThat(broadcaster.getViewerCount(MATCH_ID)).isEqualTo(2);
+
+        broadcaster.close(MATCH_ID);
+
+        assertThat(broadcaster.getViewerCount(MATCH_ID)).isZero();
+        assertThat(broadcaster.subscribe(MATCH_ID)).isNull();
+    }
+
+    @Test
+    void publishMove_ShouldSerializeEachMoveOnceForAllViewers() throws Exception {
+        broadcaster.open(session);
+        for (int i = 0; i < 3; i++) {
+            broadcaster.subscribe(MATCH_ID);
+        }
+
+        broadcaster.publishMoveAfterCommit(session, move(0, 3));
+
+        verify(objectMapper, times(1)).writeValueAsString(any(LiveMoveDTO.class));
+        assertThat(broadcaster.getViewerCount(MATCH_ID)).isEqualTo(3);
+    }
+
+    @Test
+    void subscribe_ShouldSnapshotMovesPublishedBefore() throws Exception {
+        broadcaster.open(session);
+        broadcaster.publishMoveAfterCommit(session, move(0, 3));
+        broadcaster.publishMoveAfterCommit(session, move(1, 4));
+
+        broadcaster.subscribe(MATCH_ID);
+
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(objectMapper, atLeastOnce()).writeValueAsString(payloads.capture());
+        assertThat(payloads.getAllValues())
+                .filteredOn(LiveMatchSnapshotDTO.class::isInstance)
+                .singleElement()
+                .satisfies(snapshot -> assertThat(((LiveMatchSnapshotDTO) snapshot).moves())
+                        .extracting("toSquare")
+                        .containsExactly("3", "4"));
+    }
+
+    @Test
+    void open_WhenMatchIsResumed_ShouldContinueFromThePersistedMoves() throws Exception {
+        MatchSession resumed = new MatchSession(session.getMatch(), "worker-1", mock(GameMatchExecutor.class),
+                new Connect4GameState(), List.of(move(0, 3), move(1, 4)));
+        broadcaster.open(resumed);
+        broadcaster.subscribe(MATCH_ID);
+
+        broadcaster.publishMoveAfterCommit(resumed, move(0, 5));
+
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(objectMapper, atLeastOnce()).writeValueAsString(payloads.capture());
+        assertThat(payloads.getAllValues())
+                .filteredOn(LiveMatchSnapshotDTO.class::isInstance)
+                .singleElement()
+                .satisfies(snapshot -> assertThat(((LiveMatchSnapshotDTO) snapshot).moves())
+                        .extracting("toSquare")
+                        .containsExactly("3", "4"));
+        assertThat(payloads.getAllValues())
+                .filteredOn(LiveMoveDTO.class::isInstance)
+                .singleElement()
+                .satisfies(move -> assertThat(((LiveMoveDTO) move).ply()).isEqualTo(2));
+    }
+
+    private Connect4MatchMove move(int playerIndex, int column) {
+        Connect4MatchMove move = new Connect4MatchMove(session.getMatch(), playerIndex, Integer.toString(column), column);
+        move.setPlayedAt(LocalDateTime.now());
+        return move;
+    }
+}
@@ -0,0 +1,79 @@
+package com.algorena.games.application;
+
+import com.algorena.common.exception.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchAdmissionServiceTest {
+
+    private static final Long USER_1 = 1L;
+    private static final Long USER_2 = 2L;
+
+    private MatchAdmissionService admissionService;
+
+    @BeforeEach
+    void setUp() {
+        admissionService = new MatchAdmissionService(3, 2);
+    }
+
+    @Test
+    void shouldAdmitMatchesUpToPerUserLimit() {
+        admissionService.admit(USER_1);
+        admissionService.admit(USER_1);
+
+        assertThatThrownBy(() -> admissionService.admit(USER_1))
+                .isInstanceOf(ConflictException.class);
+        assertThat(admissionService.runningMatches(USER_1)).isEqualTo(2);
+        assertThat(admissionService.runningMatches()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRejectWhenGlobalLimitIsReached() {
+        admissionService.admit(USER_1);
+        admissionService.admit(USER_1);
+        admissionService.admit(USER_2);
+
+        assertThatThrownBy(() -> admissionService.admit(USER_2))
+                .isInstanceOf(ConflictException.class);
+        assertThat(admissionService.runningMatches()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotConsumeGlobalCapacityWhenUserLimitRejects() {
+        admissionService.admit(USER_1);
+        admissionService.admit(USER_1);
+        assertThatThrownBy(() -> admissionService.admit(USER_1))
+                .isInstanceOf(ConflictException.class);
+
+        // The rejected attempt must not have taken the last global slot
+        admissionService.admit(USER_2);
+        assertThat(admissionService.runningMatches()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldFreeCapacityWhenPermitIsClosed() {
+        MatchAdmissionService.Permit first = admissionService.admit(USER_1);
+        admissionService.admit(USER_1);
+
+        first.close();
+
+        assertThat(admissionService.runningMatches(USER_1)).isEqualTo(1);
+        assertThat(admissionService.admit(USER_1)).isNotNull();
+    }
+
+    @Test
+    void shouldReleasePermitOnlyOnce() {
+        MatchAdmissionService.Permit permit = admissionService.admit(USER_1);
+        admissionService.admit(USER_2);
+
+        permit.close();
+        permit.close();
+
+        assertThat(admissionService.runningMatches()).isEqualTo(1);
+        assertThat(admissionService.runningMatches(USER_1)).isZero();
+        assertThat(admissionService.runningMatches(USER_2)).isEqualTo(1);
+    }
+}
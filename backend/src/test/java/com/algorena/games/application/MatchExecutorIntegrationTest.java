@@ -8,22 +8,30 @@ import com.algorena.games.chess.data.ChessGameStateRepository;
 import com.algorena.games.chess.domain.ChessGameState;
 import com.algorena.games.connect4.data.Connect4GameStateRepository;
 import com.algorena.games.connect4.domain.Connect4GameState;
+import com.algorena.games.connect4.domain.Connect4MatchMove;
 import com.algorena.games.data.MatchMoveRepository;
+import com.algorena.games.data.MatchQueueRepository;
 import com.algorena.games.data.MatchRepository;
+import com.algorena.games.domain.AbstractMatchMove;
 import com.algorena.games.domain.Match;
 import com.algorena.games.domain.MatchParticipant;
+import com.algorena.games.domain.MatchQueueEntry;
 import com.algorena.games.domain.MatchStatus;
 import com.algorena.games.dto.BotMoveResponse;
 import com.algorena.games.dto.MatchDTO;
 import com.algorena.games.engine.GameEngineFactory;
 import com.algorena.test.config.AbstractIntegrationTest;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -32,10 +40,12 @@ import static org.mockito.Mockito.when;
  * <p>
  * Note: These tests mock the BotClientService and call the executor synchronously to avoid
  * transaction isolation issues with async execution. Matches are created directly via repositories
- * to avoid triggering async execution from the service layer.
+ * to avoid triggering async execution from the service layer, and are queued as claimed by a node of their own.
  */
 class MatchExecutorIntegrationTest extends AbstractIntegrationTest {
 
+    private static final String WORKER_ID = "test-worker";
+
     @Autowired
     private MatchService matchService;
 
@@ -60,6 +70,12 @@ class MatchExecutorIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private GameEngineFactory gameEngineFactory;
 
+    @Autowired
+    private MatchQueueService matchQueueService;
+
+    @Autowired
+    private MatchQueueRepository matchQueueRepository;
+
     @MockitoBean
     private BotClientService botClientService;
 
@@ -146,6 +162,7 @@ class MatchExecutorIntegrationTest extends AbstractIntegrationTest {
             connect4GameStateRepository.save(state);
         }
 
+        matchQueueService.enqueueClaimed(match.getId(), testUser.getId(), WORKER_ID);
         return match.getId();
     }
 
@@ -163,7 +180,7 @@ class MatchExecutorIntegrationTest extends AbstractIntegrationTest {
         Long matchId = createMatchDirectly(chessBot1, chessBot2, Game.CHESS);
 
         // Execute match synchronously
-        matchExecutorService.runMatchLoop(matchId);
+        matchExecutorService.runMatchLoop(matchId, WORKER_ID);
 
         // Verify match result
         MatchDTO finishedMatch = matchService.getMatch(matchId);
@@ -179,7 +196,7 @@ class MatchExecutorIntegrationTest extends AbstractIntegrationTest {
         assertThat(black.score()).isEqualTo(1.0);
 
         // Verify moves were recorded
-        var moves = matchMoveRepository.findByMatchIdOrderByCreatedAsc(matchId);
+        var moves = matchMoveRepository.findByMatchIdOrderByPlayedAtAsc(matchId);
         assertThat(moves).hasSize(4);
     }
 
@@ -198,7 +215,7 @@ class MatchExecutorIntegrationTest extends AbstractIntegrationTest {
 
         Long matchId = createMatchDirectly(chessBot1, chessBot2, Game.CHESS);
 
-        matchExecutorService.runMatchLoop(matchId);
+        matchExecutorService.runMatchLoop(matchId, WORKER_ID);
 
         MatchDTO finishedMatch = matchService.getMatch(matchId);
         assertThat(finishedMatch.status()).isEqualTo(MatchStatus.FINISHED);
@@ -227,7 +244,7 @@ class MatchExecutorIntegrationTest extends AbstractIntegrationTest {
 
         Long matchId = createMatchDirectly(connect4Bot1, connect4Bot2, Game.CONNECT_FOUR);
 
-        matchExecutorService.runMatchLoop(matchId);
+        matchExecutorService.runMatchLoop(matchId, WORKER_ID);
 
         MatchDTO finishedMatch = matchService.getMatch(matchId);
         assertThat(finishedMatch.status()).isEqualTo(MatchStatus.FINISHED);
@@ -240,7 +257,7 @@ class MatchExecutorIntegrationTest extends AbstractIntegrationTest {
         assertThat(player1.score()).isEqualTo(1.0);
         assertThat(player2.score()).isEqualTo(0.0);
 
-        var moves = matchMoveRepository.findByMatchIdOrderByCreatedAsc(matchId);
+        var moves = matchMoveRepository.findByMatchIdOrderByPlayedAtAsc(matchId);
         assertThat(moves).hasSize(7);
     }
 
@@ -260,7 +277,7 @@ class MatchExecutorIntegrationTest extends AbstractIntegrationTest {
 
         Long matchId = createMatchDirectly(connect4Bot1, connect4Bot2, Game.CONNECT_FOUR);
 
-        matchExecutorService.runMatchLoop(matchId);
+        matchExecutorService.runMatchLoop(matchId, WORKER_ID);
 
         MatchDTO finishedMatch = matchService.getMatch(matchId);
         assertThat(finishedMatch.status()).isEqualTo(MatchStatus.FINISHED);
@@ -282,7 +299,7 @@ class MatchExecutorIntegrationTest extends AbstractIntegrationTest {
 
         Long matchId = createMatchDirectly(chessBot1, chessBot2, Game.CHESS);
 
-        matchExecutorService.runMatchLoop(matchId);
+        matchExecutorService.runMatchLoop(matchId, WORKER_ID);
 
         Match finishedMatch = matchRepository.findByIdWithParticipants(matchId).orElseThrow();
         assertThat(finishedMatch.getStatus()).isEqualTo(MatchStatus.FORFEITED);
@@ -306,7 +323,7 @@ class MatchExecutorIntegrationTest extends AbstractIntegrationTest {
 
         Long matchId = createMatchDirectly(chessBot1, chessBot2, Game.CHESS);
 
-        matchExecutorService.runMatchLoop(matchId);
+        matchExecutorService.runMatchLoop(matchId, WORKER_ID);
 
         Match finishedMatch = matchRepository.findByIdWithParticipants(matchId).orElseThrow();
         assertThat(finishedMatch.getStatus()).isEqualTo(MatchStatus.FORFEITED);
@@ -329,7 +346,7 @@ class MatchExecutorIntegrationTest extends AbstractIntegrationTest {
 
         Long matchId = createMatchDirectly(connect4Bot1, connect4Bot2, Game.CONNECT_FOUR);
 
-        matchExecutorService.runMatchLoop(matchId);
+        matchExecutorService.runMatchLoop(matchId, WORKER_ID);
 
         Match finishedMatch = matchRepository.findByIdWithParticipants(matchId).orElseThrow();
         assertThat(finishedMatch.getStatus()).isEqualTo(MatchStatus.FORFEITED);
@@ -343,4 +360,121 @@ class MatchExecutorIntegrationTest extends AbstractIntegrationTest {
         assertThat(player1.getScore()).isEqualTo(0.0);
         assertThat(player2.getScore()).isEqualTo(1.0);
     }
+
+    @Test
+    void match_ForfeitedAfterSeveralMoves_ShouldPersistBufferedMovesInOrder() {
+        // Setup: Four valid moves, then player 1 plays an invalid column
+        when(botClientService.requestMove(any(), any()))
+                .thenReturn(new BotMoveResponse("3"))
+                .thenReturn(new BotMoveResponse("4"))
+                .thenReturn(new BotMoveResponse("2"))
+                .thenReturn(new BotMoveResponse("5"))
+                .thenReturn(new BotMoveResponse("9"));
+
+        Long matchId = createMatchDirectly(connect4Bot1, connect4Bot2, Game.CONNECT_FOUR);
+
+        matchExecutorService.runMatchLoop(matchId, WORKER_ID);
+
+        Match finishedMatch = matchRepository.findByIdWithParticipants(matchId).orElseThrow();
+        assertThat(finishedMatch.getStatus()).isEqualTo(MatchStatus.FORFEITED);
+
+        // The moves are still buffered when the match is forfeited and must be written when the loop stops
+        assertThat(matchMoveRepository.findByMatchIdOrderByPlayedAtAsc(matchId))
+                .extracting(AbstractMatchMove::getMoveNotation)
+                .containsExactly("3", "4", "2", "5");
+    }
+
+    @Test
+    void match_AbortedWhileBotIsThinking_ShouldDiscardMoveAndStop() {
+        Long matchId = createMatchDirectly(connect4Bot1, connect4Bot2, Game.CONNECT_FOUR);
+
+        // Setup: The match is aborted by its owner while the first bot is computing its move
+        when(botClientService.requestMove(any(), any()))
+                .thenAnswer(invocation -> {
+                    matchService.abortMatch(matchId);
+                    return new BotMoveResponse("0");
+                });
+
+        matchExecutorService.runMatchLoop(matchId, WORKER_ID);
+
+        Match abortedMatch = matchRepository.findByIdWithParticipants(matchId).orElseThrow();
+        assertThat(abortedMatch.getStatus()).isEqualTo(MatchStatus.ABORTED);
+        assertThat(matchMoveRepository.findByMatchIdOrderByPlayedAtAsc(matchId)).isEmpty();
+        verify(botClientService, times(1)).requestMove(any(), any());
+    }
+
+    @Test
+    void match_LeaseTakenOverWhileBotIsThinking_ShouldDiscardMoveAndStop() {
+        Long matchId = createMatchDirectly(connect4Bot1, connect4Bot2, Game.CONNECT_FOUR);
+        String emptyBoard = connect4GameStateRepository.findByMatchId(matchId).orElseThrow().getBoard();
+
+        // Setup: Another node claims the match while the first bot is computing its move
+        when(botClientService.requestMove(any(), any()))
+                .thenAnswer(invocation -> {
+                    matchQueueService.release(matchId, WORKER_ID, 0);
+                    matchQueueService.claim("other-worker", 1);
+                    return new BotMoveResponse("0");
+                });
+
+        matchExecutorService.runMatchLoop(matchId, WORKER_ID);
+
+        Match match = matchRepository.findByIdWithParticipants(matchId).orElseThrow();
+        assertThat(match.getStatus()).isEqualTo(MatchStatus.IN_PROGRESS);
+        assertThat(connect4GameStateRepository.findByMatchId(matchId).orElseThrow().getBoard()).isEqualTo(emptyBoard);
+        assertThat(matchMoveRepository.findByMatchIdOrderByPlayedAtAsc(matchId)).isEmpty();
+        assertThat(matchQueueRepository.findById(matchId)).get()
+                .extracting(MatchQueueEntry::getWorkerId)
+                .isEqualTo("other-worker");
+        verify(botClientService, times(1)).requestMove(any(), any());
+    }
+
+    /**
+     * Matches limited to 10 moves, so that a resumed match reaches the limit after a few moves.
+     */
+    @Nested
+    @TestPropertySource(properties = "algorena.match.max-moves-per-game=10")
+    class WithMoveLimit {
+
+        // Taken from the context of this class, the executor of the enclosing class has the default limit
+        @Autowired
+        private MatchExecutorService matchExecutorService;
+
+        @Autowired
+        private BotClientService botClientService;
+
+        @Test
+        void match_ResumedAfterSeveralMoves_ShouldOnlyPlayTheMovesLeftInItsBudget() {
+            // Setup: 8 of the 10 moves allowed were played before the match was resumed
+            Long matchId = createMatchDirectly(connect4Bot1, connect4Bot2, Game.CONNECT_FOUR);
+            Match match = matchRepository.findById(matchId).orElseThrow();
+            var engine = gameEngineFactory.<Connect4GameState, Integer>getEngine(Game.CONNECT_FOUR);
+            Connect4GameState played = engine.startNewGame();
+            int[] columns = {0, 1, 2, 3, 4, 5, 6, 0};
+            for (int i = 0; i < columns.length; i++) {
+                played = engine.applyMove(played, columns[i], i % 2);
+                matchMoveRepository.save(Connect4MatchMove.builder()
+                        .match(match)
+                        .playerIndex(i % 2)
+                        .moveNotation(Integer.toString(columns[i]))
+                        .columnIndex(columns[i])
+                        .build());
+            }
+            Connect4GameState state = connect4GameStateRepository.findByMatchId(matchId).orElseThrow();
+            state.updateBoardState(played.getBoard(), played.getLastMoveColumn());
+            connect4GameStateRepository.save(state);
+
+            when(botClientService.requestMove(any(), any()))
+                    .thenReturn(new BotMoveResponse("1"))
+                    .thenReturn(new BotMoveResponse("2"))
+                    .thenReturn(new BotMoveResponse("3"));
+
+            matchExecutorService.runMatchLoop(matchId, WORKER_ID);
+
+            Match finishedMatch = matchRepository.findByIdWithParticipants(matchId).orElseThrow();
+            assertThat(finishedMatch.getStatus()).isEqualTo(MatchStatus.FINISHED);
+            assertThat(finishedMatch.getParticipants()).extracting(MatchParticipant::getScore).containsOnly(0.5);
+            verify(botClientService, times(2)).requestMove(any(), any());
+            assertThat(matchMoveRepository.findByMatchIdOrderByPlayedAtAsc(matchId)).hasSize(10);
+        }
+    }
 }
@@ -0,0 +1,178 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Game;
+import com.algorena.games.chess.application.ChessMoveLogCodec;
+import com.algorena.games.chess.domain.ChessMatchMove;
+import com.algorena.games.connect4.application.Connect4MoveLogCodec;
+import com.algorena.games.connect4.domain.Connect4MatchMove;
+import com.algorena.games.data.MatchMoveLogRepository;
+import com.algorena.games.domain.AbstractMatchMove;
+import com.algorena.games.domain.Match;
+import com.algorena.games.domain.MatchMoveLog;
+import com.algorena.games.domain.MatchStatus;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchMoveLogServiceTest {
+
+    private static final Long MATCH_ID = 42L;
+
+    private MatchMoveLogRepository repository;
+    private MatchMoveLogService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(MatchMoveLogRepository.class);
+        service = new MatchMoveLogService(repository, List.of(new ChessMoveLogCodec(), new Connect4MoveLogCodec()));
+    }
+
+    @Test
+    void chessMoves_ShouldRoundTripInTwoBytesPerMove() {
+        Match match = createMatch(Game.CHESS);
+        List<AbstractMatchMove> moves = List.of(
+                chessMove(match, 0, "E2", "E4", null, 1_500),
+                chessMove(match, 1, "E7", "E5", null, 3_000),
+                chessMove(match, 0, "A7", "A8", "WHITE_QUEEN", 400_000),
+                chessMove(match, 1, "H2", "H1", "BLACK_KNIGHT", 400_001));
+
+        byte[][] stored = appendAndCapture(match, moves);
+        assertThat(stored[0]).hasSize(8);
+
+        List<AbstractMatchMove> decoded = readBack(match, moves.size(), stored);
+
+        assertThat(decoded).extracting(AbstractMatchMove::getMoveNotation)
+                .containsExactly("e2e4", "e7e5", "a7a8q", "h2h1n");
+        assertThat(decoded).extracting(AbstractMatchMove::getPlayerIndex)
+                .containsExactly(0, 1, 0, 1);
+        ChessMatchMove promotion = (ChessMatchMove) decoded.get(2);
+        assertThat(promotion.getFromSquare()).isEqualTo("A7");
+        assertThat(promotion.getToSquare()).isEqualTo("A8");
+        assertThat(promotion.getPromotionPiece()).isEqualTo("WHITE_QUEEN");
+        assertThat(((ChessMatchMove) decoded.get(3)).getPromotionPiece()).isEqualTo("BLACK_KNIGHT");
+        assertThat(decoded).extracting(AbstractMatchMove::getPlayedAt)
+                .containsExactlyElementsOf(moves.stream().map(AbstractMatchMove::getPlayedAt).toList());
+    }
+
+    @Test
+    void connect4Moves_ShouldRoundTripInOneBytePerMove() {
+        Match match = createMatch(Game.CONNECT_FOUR);
+        List<AbstractMatchMove> moves = List.of(
+                connect4Move(match, 0, 3, 10),
+                connect4Move(match, 1, 6, 20),
+                connect4Move(match, 0, 0, 30));
+
+        byte[][] stored = appendAndCapture(match, moves);
+        assertThat(stored[0]).containsExactly(3, 6, 0);
+
+        List<AbstractMatchMove> decoded = readBack(match, moves.size(), stored);
+
+        assertThat(decoded).extracting(AbstractMatchMove::getMoveNotation).containsExactly("3", "6", "0");
+        assertThat(decoded).extracting(move -> ((Connect4MatchMove) move).getColumnIndex()).containsExactly(3, 6, 0);
+    }
+
+    @Test
+    void forEach_ShouldDecodeOnlyTheRequestedPlies() {
+        Match match = createMatch(Game.CONNECT_FOUR);
+        List<AbstractMatchMove> moves = List.of(
+                connect4Move(match, 0, 3, 10),
+                connect4Move(match, 1, 6, 200),
+                connect4Move(match, 0, 0, 30_000),
+                connect4Move(match, 1, 5, 30_001));
+        byte[][] stored = appendAndCapture(match, moves);
+        stubLog(moves.size(), stored);
+
+        List<AbstractMatchMove> range = new ArrayList<>();
+        assertThat(service.forEach(match, 1, 3, range::add)).isTrue();
+
+        assertThat(range).extracting(AbstractMatchMove::getMoveNotation).containsExactly("6", "0");
+        assertThat(range).extracting(AbstractMatchMove::getPlayerIndex).containsExactly(1, 0);
+        assertThat(range).extracting(AbstractMatchMove::getPlayedAt)
+                .containsExactly(moves.get(1).getPlayedAt(), moves.get(2).getPlayedAt());
+
+        List<AbstractMatchMove> tail = new ArrayList<>();
+        service.forEach(match, 3, 10, tail::add);
+        assertThat(tail).extracting(AbstractMatchMove::getMoveNotation).containsExactly("5");
+    }
+
+    @Test
+    void read_WithoutLog_ShouldBeEmpty() {
+        Match match = createMatch(Game.CHESS);
+        when(repository.findById(MATCH_ID)).thenReturn(Optional.empty());
+
+        assertThat(service.read(match)).isEmpty();
+    }
+
+    private byte[][] appendAndCapture(Match match, List<AbstractMatchMove> moves) {
+        service.append(match, moves);
+
+        ArgumentCaptor<byte[]> encoded = ArgumentCaptor.forClass(byte[].class);
+        ArgumentCaptor<byte[]> times = ArgumentCaptor.forClass(byte[].class);
+        verify(repository).appendMoves(eq(MATCH_ID), eq(moves.size()), encoded.capture(), times.capture());
+        return new byte[][]{encoded.getValue(), times.getValue()};
+    }
+
+    private List<AbstractMatchMove> readBack(Match match, int moveCount, byte[][] stored) {
+        stubLog(moveCount, stored);
+        return service.read(match).orElseThrow();
+    }
+
+    private void stubLog(int moveCount, byte[][] stored) {
+        MatchMoveLog log = mock(MatchMoveLog.class);
+        when(log.getMoveCount()).thenReturn(moveCount);
+        when(log.getMoves()).thenReturn(stored[0]);
+        when(log.getMoveTimes()).thenReturn(stored[1]);
+        when(repository.findById(MATCH_ID)).thenReturn(Optional.of(log));
+    }
+
+    private static Match createMatch(Game game) {
+        Match match = Match.builder()
+                .game(game)
+                .status(MatchStatus.IN_PROGRESS)
+                .build();
+        match.start();
+        ReflectionTestUtils.setField(match, "id", MATCH_ID);
+        return match;
+    }
+
+    private static ChessMatchMove chessMove(Match match, int playerIndex, String from, String to, @Nullable String promotion, long millis) {
+        ChessMatchMove move = ChessMatchMove.builder()
+                .match(match)
+                .playerIndex(playerIndex)
+                .moveNotation((from + to).toLowerCase())
+                .fromSquare(from)
+                .toSquare(to)
+                .promotionPiece(promotion)
+                .build();
+        move.setPlayedAt(playedAt(match, millis));
+        return move;
+    }
+
+    private static Connect4MatchMove connect4Move(Match match, int playerIndex, int column, long millis) {
+        Connect4MatchMove move = Connect4MatchMove.builder()
+                .match(match)
+                .playerIndex(playerIndex)
+                .moveNotation(String.valueOf(column))
+                .columnIndex(column)
+                .build();
+        move.setPlayedAt(playedAt(match, millis));
+        return move;
+    }
+
+    private static LocalDateTime playedAt(Match match, long millis) {
+        return match.getStartedAt().plusNanos(millis * 1_000_000);
+    }
+}
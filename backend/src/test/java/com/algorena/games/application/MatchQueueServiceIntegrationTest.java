@@ -0,0 +1,176 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Bot;
+import com.algorena.bots.domain.Game;
+import com.algorena.games.connect4.data.Connect4GameStateRepository;
+import com.algorena.games.connect4.domain.Connect4GameState;
+import com.algorena.games.data.MatchQueueRepository;
+import com.algorena.games.domain.Match;
+import com.algorena.games.domain.MatchParticipant;
+import com.algorena.games.domain.MatchStatus;
+import com.algorena.games.engine.GameEngineFactory;
+import com.algorena.test.config.AbstractIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Leases expire quickly, and this node's worker does not claim the matches queued by the tests
+@TestPropertySource(properties = {
+        "algorena.match.queue.lease-ms=300",
+        "algorena.match.queue.poll-interval-ms=3600000",
+        "algorena.match.queue.heartbeat-interval-ms=3600000"
+})
+class MatchQueueServiceIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MatchQueueService matchQueueService;
+
+    @Autowired
+    private MatchQueueRepository matchQueueRepository;
+
+    @Autowired
+    private Connect4GameStateRepository connect4GameStateRepository;
+
+    @Autowired
+    private GameEngineFactory gameEngineFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Bot bot1;
+    private Bot bot2;
+
+    @BeforeEach
+    void setUp() {
+        bot1 = createTestBot(testUser, "Bot 1", Game.CONNECT_FOUR, "http://localhost:1/bot1");
+        bot2 = createTestBot(testUser, "Bot 2", Game.CONNECT_FOUR, "http://localhost:1/bot2");
+    }
+
+    @Test
+    void claim_ShouldNotClaimMatchesLeasedByAnotherNode() {
+        Match first = createMatch(MatchStatus.IN_PROGRESS);
+        Match second = createMatch(MatchStatus.IN_PROGRESS);
+        matchQueueService.enqueue(first.getId(), testUser.getId());
+        matchQueueService.enqueue(second.getId(), testUser.getId());
+
+        List<MatchQueueService.ClaimedMatch> claimedByA = matchQueueService.claim("node-a", 1);
+        List<MatchQueueService.ClaimedMatch> claimedByB = matchQueueService.claim("node-b", 10);
+
+        assertThat(claimedByA).extracting(MatchQueueService.ClaimedMatch::matchId).containsExactly(first.getId());
+        assertThat(claimedByB).extracting(MatchQueueService.ClaimedMatch::matchId).containsExactly(second.getId());
+        assertThat(matchQueueService.claim("node-c", 10)).isEmpty();
+    }
+
+    @Test
+    void claim_AfterLeaseExpired_ShouldResumeMatchOnAnotherNode() throws InterruptedException {
+        Match match = createMatch(MatchStatus.IN_PROGRESS);
+        matchQueueService.enqueueClaimed(match.getId(), testUser.getId(), "node-a");
+        assertThat(matchQueueService.claim("node-b", 10)).isEmpty();
+
+        Thread.sleep(500);
+
+        assertThat(matchQueueService.claim("node-b", 10))
+                .containsExactly(new MatchQueueService.ClaimedMatch(match.getId(), testUser.getId(), 2));
+        assertThat(matchQueueService.renewLeases("node-a", Set.of(match.getId()))).isEmpty();
+        assertThat(matchQueueService.renewLeases("node-b", Set.of(match.getId()))).containsExactly(match.getId());
+    }
+
+    @Test
+    void finish_ShouldReleaseMatchesStillInProgress() {
+        Match match = createMatch(MatchStatus.IN_PROGRESS);
+        matchQueueService.enqueueClaimed(match.getId(), testUser.getId(), "node-a");
+
+        matchQueueService.finish(match.getId(), "node-a");
+
+        // Released matches are claimed right away, and the release does not count as an attempt
+        assertThat(matchQueueService.claim("node-b", 10))
+                .containsExactly(new MatchQueueService.ClaimedMatch(match.getId(), testUser.getId(), 1));
+    }
+
+    @Test
+    void finish_ShouldRemoveCompletedMatches() {
+        Match match = createMatch(MatchStatus.FINISHED);
+        matchQueueService.enqueueClaimed(match.getId(), testUser.getId(), "node-a");
+
+        matchQueueService.finish(match.getId(), "node-b");
+        assertThat(matchQueueRepository.existsById(match.getId())).isTrue();
+
+        matchQueueService.finish(match.getId(), "node-a");
+        assertThat(matchQueueRepository.existsById(match.getId())).isFalse();
+    }
+
+    @Test
+    void enqueueOrphaned_ShouldQueueStaleInProgressMatchesOnce() {
+        Match orphaned = createMatch(MatchStatus.IN_PROGRESS);
+        createMatch(MatchStatus.FINISHED);
+        Match queued = createMatch(MatchStatus.IN_PROGRESS);
+        matchQueueService.enqueueClaimed(queued.getId(), testUser.getId(), "node-a");
+
+        assertThat(matchQueueService.enqueueOrphaned(0, 10)).isEqualTo(1);
+        assertThat(matchQueueService.enqueueOrphaned(0, 10)).isZero();
+
+        assertThat(matchQueueService.claim("node-b", 10))
+                .containsExactly(new MatchQueueService.ClaimedMatch(orphaned.getId(), testUser.getId(), 1));
+    }
+
+    @Test
+    void enqueueOrphaned_ShouldQueueAtMostOneBatchOfStaleMatches() {
+        for (int i = 0; i < 3; i++) {
+            createMatch(MatchStatus.IN_PROGRESS);
+        }
+
+        assertThat(matchQueueService.enqueueOrphaned(3_600_000, 10)).isZero();
+        assertThat(matchQueueService.enqueueOrphaned(0, 2)).isEqualTo(2);
+        assertThat(matchQueueService.enqueueOrphaned(0, 2)).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    void enqueueOrphaned_ShouldNotQueueMatchesWhoseBoardChangedRecently() {
+        Match match = createMatch(MatchStatus.IN_PROGRESS);
+        var engine = gameEngineFactory.<Connect4GameState, Integer>getEngine(Game.CONNECT_FOUR);
+        Connect4GameState state = engine.startNewGame();
+        state.assignMatch(match);
+        state = connect4GameStateRepository.saveAndFlush(state);
+        backdate(match);
+
+        // A move is played by a node that has since stopped, leaving the match out of the queue
+        matchQueueService.enqueueClaimed(match.getId(), testUser.getId(), "node-a");
+        Connect4GameState played = engine.applyMove(state, 3, 0);
+        assertThat(connect4GameStateRepository.updateBoardStateIfInProgress(state.getId(), match.getId(), "node-a",
+                played.getBoard(), 3)).isEqualTo(1);
+        matchQueueRepository.deleteClaimed(match.getId(), "node-a");
+
+        assertThat(matchQueueService.enqueueOrphaned(60_000, 10)).isZero();
+
+        backdate(match);
+        assertThat(matchQueueService.enqueueOrphaned(60_000, 10)).isEqualTo(1);
+    }
+
+    /**
+     * Makes the match and its game state look unchanged for an hour.
+     */
+    private void backdate(Match match) {
+        jdbcTemplate.update("UPDATE matches SET last_updated = now() - INTERVAL '1 hour' WHERE id = ?", match.getId());
+        jdbcTemplate.update("UPDATE game_states SET last_updated = now() - INTERVAL '1 hour' WHERE match_id = ?",
+                match.getId());
+    }
+
+    private Match createMatch(MatchStatus status) {
+        Match match = Match.builder()
+                .game(Game.CONNECT_FOUR)
+                .status(status)
+                .build();
+        match.addParticipant(MatchParticipant.builder().match(match).bot(bot1).playerIndex(0).build());
+        match.addParticipant(MatchParticipant.builder().match(match).bot(bot2).playerIndex(1).build());
+        return matchRepository.saveAndFlush(match);
+    }
+}
@@ -3,26 +3,47 @@ package com.algorena.games.application;
 import com.algorena.bots.data.BotRepository;
 import com.algorena.bots.domain.Bot;
 import com.algorena.bots.domain.Game;
+import com.algorena.common.exception.BadRequestException;
 import com.algorena.games.chess.data.ChessGameStateRepository;
 import com.algorena.games.chess.domain.ChessGameState;
+import com.algorena.games.chess.domain.ChessMatchMove;
+import com.algorena.games.data.MatchMoveRepository;
 import com.algorena.games.data.MatchRepository;
+import com.algorena.games.domain.Match;
 import com.algorena.games.domain.MatchStatus;
 import com.algorena.games.dto.CreateMatchRequest;
 import com.algorena.games.dto.MatchDTO;
+import com.algorena.games.dto.MatchMoveDTO;
 import com.algorena.games.dto.MatchParticipantDTO;
 import com.algorena.test.config.AbstractIntegrationTest;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Integration tests for the MatchService focusing on match creation and query operations.
  * Match execution tests are covered in {@link MatchExecutorIntegrationTest}.
  */
+// Background jobs stay idle, so that the statements counted by the tests are the ones they issue
+@TestPropertySource(properties = {
+        "algorena.match.queue.poll-interval-ms=3600000",
+        "algorena.match.queue.heartbeat-interval-ms=3600000",
+        "algorena.match.recovery.enabled=false"
+})
 class MatchServiceIntegrationTest extends AbstractIntegrationTest {
 
     @Autowired
@@ -37,6 +58,18 @@ class MatchServiceIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private ChessGameStateRepository chessGameStateRepository;
 
+    @Autowired
+    private MatchMoveRepository matchMoveRepository;
+
+    @Autowired
+    private MatchProgressService matchProgressService;
+
+    @Autowired
+    private MatchWorker matchWorker;
+
+    @Autowired
+    private EntityManager entityManager;
+
     // Mock the executor to prevent async execution during these tests
     @MockitoBean
     private MatchExecutorService matchExecutorService;
@@ -117,29 +150,178 @@ class MatchServiceIntegrationTest extends AbstractIntegrationTest {
 
     @Test
     @Transactional
-    void getCurrentUserMatches_ShouldReturnMatchesForUserBots() {
+    void getMatchHistory_WithoutBot_ShouldReturnMatchesForUserBots() {
         CreateMatchRequest request = new CreateMatchRequest(botWhite.getId(), botBlack.getId(), Game.CHESS);
         matchService.createMatch(request);
         matchService.createMatch(request);
 
-        var matches = matchService.getCurrentUserMatches();
+        var slice = matchService.getMatchHistory(null, null, null, null, null, 50);
+
+        assertThat(slice.entries()).hasSize(2);
+        assertThat(slice.nextCursor()).isNull();
+    }
+
+    @Test
+    @Transactional
+    void getMatchHistory_ShouldPageNewestFirstWithCursor() {
+        CreateMatchRequest request = new CreateMatchRequest(botWhite.getId(), botBlack.getId(), Game.CHESS);
+        MatchDTO first = matchService.createMatch(request);
+        MatchDTO second = matchService.createMatch(request);
+        MatchDTO third = matchService.createMatch(request);
+
+        var firstSlice = matchService.getMatchHistory(botWhite.getId(), null, null, null, null, 2);
+        assertThat(firstSlice.entries()).extracting(MatchDTO::id).containsExactly(third.id(), second.id());
+        assertThat(firstSlice.nextCursor()).isNotNull();
+
+        var secondSlice = matchService.getMatchHistory(botWhite.getId(), null, null, null,
+                firstSlice.nextCursor(), 2);
+        assertThat(secondSlice.entries()).extracting(MatchDTO::id).containsExactly(first.id());
+        assertThat(secondSlice.nextCursor()).isNull();
+    }
+
+    @Test
+    @Transactional
+    void getMatchHistory_ShouldFilterByStatusGameAndOpponent() {
+        CreateMatchRequest request = new CreateMatchRequest(botWhite.getId(), botBlack.getId(), Game.CHESS);
+        MatchDTO aborted = matchService.createMatch(request);
+        MatchDTO running = matchService.createMatch(request);
+        matchService.abortMatch(aborted.id());
+
+        assertThat(matchService.getMatchHistory(botWhite.getId(), null, List.of(MatchStatus.ABORTED), null, null, 50)
+                .entries()).extracting(MatchDTO::id).containsExactly(aborted.id());
+        assertThat(matchService.getMatchHistory(botWhite.getId(), botBlack.getId(), List.of(MatchStatus.IN_PROGRESS),
+                Game.CHESS, null, 50).entries()).extracting(MatchDTO::id).containsExactly(running.id());
+        assertThat(matchService.getMatchHistory(botWhite.getId(), null,
+                List.of(MatchStatus.IN_PROGRESS, MatchStatus.ABORTED), null, null, 50).entries())
+                .extracting(MatchDTO::id).containsExactly(running.id(), aborted.id());
+        assertThat(matchService.getMatchHistory(botWhite.getId(), null, null, Game.CONNECT_FOUR, null, 50)
+                .entries()).isEmpty();
+    }
+
+    @Test
+    @Transactional
+    void getMatchHistory_WithStatusFilter_ShouldPageThroughTheMatchingMatchesOnly() {
+        CreateMatchRequest request = new CreateMatchRequest(botWhite.getId(), botBlack.getId(), Game.CHESS);
+        List<Long> abortedIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MatchDTO aborted = matchService.createMatch(request);
+            matchService.abortMatch(aborted.id());
+            abortedIds.addFirst(aborted.id());
+            matchService.createMatch(request);
+        }
+        List<MatchStatus> statuses = List.of(MatchStatus.ABORTED);
+
+        var firstSlice = matchService.getMatchHistory(botWhite.getId(), null, statuses, null, null, 2);
+        var secondSlice = matchService.getMatchHistory(botWhite.getId(), null, statuses, null,
+                firstSlice.nextCursor(), 2);
+
+        assertThat(firstSlice.entries()).extracting(MatchDTO::id).containsExactlyElementsOf(abortedIds.subList(0, 2));
+        assertThat(secondSlice.entries()).extracting(MatchDTO::id).containsExactly(abortedIds.get(2));
+        assertThat(secondSlice.nextCursor()).isNull();
+    }
+
+    @Test
+    void getMatchHistory_WithInvalidCursor_ShouldThrowBadRequest() {
+        Long botId = botWhite.getId();
+        assertThatThrownBy(() -> matchService.getMatchHistory(botId, null, null, null, "not-a-cursor", 50))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @Transactional
+    void getRecentMatches_ShouldUseTheSameNumberOfStatementsForAnyNumberOfMatches() {
+        CreateMatchRequest request = new CreateMatchRequest(botWhite.getId(), botBlack.getId(), Game.CHESS);
+        matchService.createMatch(request);
+        long oneMatch = countStatements(() -> assertThat(matchService.getRecentMatches(10)).hasSize(1));
+
+        for (int i = 0; i < 4; i++) {
+            matchService.createMatch(request);
+        }
+        long fiveMatches = countStatements(() -> assertThat(matchService.getRecentMatches(10)).hasSize(5));
 
-        assertThat(matches).hasSize(2);
+        // The list, the participants and bots of all listed matches, and the chess game states
+        assertThat(oneMatch).isEqualTo(3);
+        assertThat(fiveMatches).isEqualTo(oneMatch);
     }
 
     @Test
     @Transactional
-    void getMatchesForBot_ShouldReturnMatchesContainingBot() {
+    void getRecentMatches_ShouldReturnParticipantsAndStateOfEachMatch() {
+        CreateMatchRequest request = new CreateMatchRequest(botWhite.getId(), botBlack.getId(), Game.CHESS);
+        MatchDTO first = matchService.createMatch(request);
+        MatchDTO second = matchService.createMatch(request);
+
+        var matches = matchService.getRecentMatches(10);
+
+        assertThat(matches).extracting(MatchDTO::id).containsExactlyInAnyOrder(first.id(), second.id());
+        assertThat(matches).allSatisfy(match -> {
+            assertThat(match.participants()).extracting(MatchParticipantDTO::botName)
+                    .containsExactlyInAnyOrder("WhiteBot", "BlackBot");
+            assertThat(match.state()).isNotNull();
+        });
+    }
+
+    @Test
+    @Transactional
+    void getMatchHistory_ForBot_ShouldReturnMatchesContainingBot() {
         CreateMatchRequest request = new CreateMatchRequest(botWhite.getId(), botBlack.getId(), Game.CHESS);
         matchService.createMatch(request);
 
-        var matches = matchService.getMatchesForBot(botWhite.getId());
+        var matches = matchService.getMatchHistory(botWhite.getId(), null, null, null, null, 50).entries();
 
         assertThat(matches).hasSize(1);
         assertThat(matches.getFirst().participants())
                 .anyMatch(p -> p.botId().equals(botWhite.getId()));
     }
 
+    @Test
+    @Transactional
+    void streamMatchMoves_ShouldReturnTheRequestedPliesOfMoveRows() {
+        MatchDTO created = matchService.createMatch(
+                new CreateMatchRequest(botWhite.getId(), botBlack.getId(), Game.CHESS));
+        Match match = matchRepository.findById(created.id()).orElseThrow();
+        matchMoveRepository.saveAllAndFlush(List.of(
+                chessMove(match, 0, "E2", "E4"),
+                chessMove(match, 1, "E7", "E5"),
+                chessMove(match, 0, "G1", "F3")));
+
+        List<MatchMoveDTO> moves = new ArrayList<>();
+        matchService.streamMatchMoves(match.getId(), 1, null, moves::add);
+
+        assertThat(moves).extracting(MatchMoveDTO::moveNotation).containsExactly("e7e5", "g1f3");
+        assertThat(moves).extracting(MatchMoveDTO::playerIndex).containsExactly(1, 0);
+        assertThat(moves.getFirst().fromSquare()).isEqualTo("E7");
+
+        List<MatchMoveDTO> first = new ArrayList<>();
+        matchService.streamMatchMoves(match.getId(), 0, 1, first::add);
+        assertThat(first).extracting(MatchMoveDTO::moveNotation).containsExactly("e2e4");
+    }
+
+    @Test
+    @Transactional
+    void applyMove_ShouldWriteEachMoveWithTheBoardStateAndTheTimeItWasPlayed() throws InterruptedException {
+        MatchDTO created = matchService.createMatch(
+                new CreateMatchRequest(botWhite.getId(), botBlack.getId(), Game.CHESS));
+        MatchSession session = Objects.requireNonNull(
+                matchProgressService.openSession(created.id(), matchWorker.getWorkerId()));
+
+        matchProgressService.applyMove(session, 0, "e2e4");
+        Thread.sleep(5);
+        matchProgressService.applyMove(session, 1, "e7e5");
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(session.getPendingMoveCount()).isZero();
+        ChessGameState state = chessGameStateRepository.findByMatchId(created.id()).orElseThrow();
+        assertThat(state.getFen()).startsWith("rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w");
+        List<MatchMoveDTO> moves = new ArrayList<>();
+        matchService.streamMatchMoves(created.id(), 0, null, moves::add);
+        assertThat(moves).extracting(MatchMoveDTO::moveNotation).containsExactly("e2e4", "e7e5");
+        assertThat(moves).extracting(MatchMoveDTO::created)
+                .doesNotHaveDuplicates()
+                .isSorted();
+    }
+
     @Test
     @Transactional
     void abortMatch_ShouldChangeStatusToAborted() {
@@ -152,4 +334,31 @@ class MatchServiceIntegrationTest extends AbstractIntegrationTest {
         assertThat(aborted.status()).isEqualTo(MatchStatus.ABORTED);
         assertThat(aborted.finishedAt()).isNotNull();
     }
+
+    /**
+     * Counts the JDBC statements prepared by the action, starting from an empty persistence context.
+     */
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statistics.setStatisticsEnabled(true);
+        try {
+            action.run();
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    private static ChessMatchMove chessMove(Match match, int playerIndex, String from, String to) {
+        return ChessMatchMove.builder()
+                .match(match)
+                .playerIndex(playerIndex)
+                .moveNotation((from + to).toLowerCase(Locale.ROOT))
+                .fromSquare(from)
+                .toSquare(to)
+                .build();
+    }
 }
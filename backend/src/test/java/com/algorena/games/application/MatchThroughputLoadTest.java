@@ -0,0 +1,271 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Bot;
+import com.algorena.bots.domain.Game;
+import com.algorena.games.domain.Match;
+import com.algorena.games.domain.MatchStatus;
+import com.algorena.security.JwtService;
+import com.algorena.test.config.AbstractIntegrationTest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * End-to-end capacity test: starts the backend on a random port against the shared Postgres container,
+ * registers in-process stub bots and creates matches concurrently through {@code POST /api/v1/matches}.
+ * <p>
+ * Not part of the regular build. Run with {@code ./mvnw -Ploadtest verify}, optionally with
+ * {@code -Dloadtest.matches=500 -Dloadtest.bots=20 -Dloadtest.bot-latency-ms=20 -Dloadtest.bot-jitter-ms=10
+ * -Dloadtest.game=CONNECT_FOUR}.
+ * <p>
+ * Per-move overhead is measured by the stub bots: the time between sending the response for a move and
+ * receiving the next move request of the same match. It covers everything the backend does between two
+ * bot calls (validating and persisting the move, building the next request, HTTP) and none of the bot's
+ * think time.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {
+        "algorena.match.admission.max-concurrent-matches-per-user=100000",
+        "logging.level.com.algorena=WARN"
+})
+class MatchThroughputLoadTest extends AbstractIntegrationTest {
+
+    private static final int MATCHES = Integer.getInteger("loadtest.matches", 200);
+    private static final int BOTS = Integer.getInteger("loadtest.bots", 10);
+    private static final int BOT_LATENCY_MS = Integer.getInteger("loadtest.bot-latency-ms", 20);
+    private static final int BOT_JITTER_MS = Integer.getInteger("loadtest.bot-jitter-ms", 10);
+    private static final Game GAME = Game.valueOf(System.getProperty("loadtest.game", Game.CONNECT_FOUR.name()));
+    private static final Duration TIMEOUT = Duration.ofMinutes(Long.getLong("loadtest.timeout-minutes", 10));
+
+    private static final String MATCH_ID_HEADER = "X-Algorena-Match-ID";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private MatchAdmissionService matchAdmissionService;
+
+    @Autowired
+    @Qualifier("matchExecutor")
+    private Executor matchExecutor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<HttpServer> stubBots = new ArrayList<>();
+    private final ExecutorService stubExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, Long> lastResponseNanos = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Long> moveOverheadNanos = new ConcurrentLinkedQueue<>();
+    private final AtomicLong moveRequests = new AtomicLong();
+
+    @AfterEach
+    void stopStubBots() {
+        stubBots.forEach(server -> server.stop(0));
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    void matchThroughput() throws Exception {
+        List<Bot> bots = new ArrayList<>();
+        for (int i = 0; i < BOTS; i++) {
+            bots.add(createTestBot(testUser, "LoadBot" + i, GAME, startStubBot()));
+        }
+        String token = jwtService.createToken(testUser);
+
+        Sampler sampler = new Sampler();
+        Thread samplerThread = Thread.ofPlatform().daemon().name("loadtest-sampler").start(sampler);
+
+        HttpClient client = HttpClient.newBuilder().executor(stubExecutor).build();
+        long start = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < MATCHES; i++) {
+            Bot bot1 = bots.get(i % BOTS);
+            Bot bot2 = bots.get((i + 1) % BOTS);
+            String body = "{\"bot1Id\":%d,\"bot2Id\":%d,\"game\":\"%s\"}".formatted(bot1.getId(), bot2.getId(), GAME);
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/matches"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+
+        List<Long> matchIds = new ArrayList<>();
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            HttpResponse<String> created = response.join();
+            assertThat(created.statusCode()).as(created.body()).isEqualTo(200);
+            matchIds.add(objectMapper.readTree(created.body()).get("id").asLong());
+        }
+
+        await().atMost(TIMEOUT).pollInterval(Duration.ofMillis(200)).until(() ->
+                matchRepository.findAllById(matchIds).stream().noneMatch(m -> m.getStatus() == MatchStatus.IN_PROGRESS));
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        sampler.stop();
+        samplerThread.join();
+
+        Map<MatchStatus, Long> statuses = matchRepository.findAllById(matchIds).stream()
+                .collect(Collectors.groupingBy(Match::getStatus, Collectors.counting()));
+        printReport(elapsedSeconds, statuses, sampler);
+
+        // A forfeit here means the backend, not the stub bots, failed to keep up (e.g. a bot call timed out)
+        assertThat(statuses).containsOnlyKeys(MatchStatus.FINISHED);
+    }
+
+    /**
+     * Starts a stub bot on its own port, so every bot is a separate route in the client's connection pool.
+     * It answers after the configured latency with a random legal move.
+     */
+    private String startStubBot() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/move", this::handleMoveRequest);
+        server.setExecutor(stubExecutor);
+        server.start();
+        stubBots.add(server);
+        return "http://localhost:" + server.getAddress().getPort() + "/move";
+    }
+
+    private void handleMoveRequest(HttpExchange exchange) throws IOException {
+        long received = System.nanoTime();
+        String matchId = exchange.getRequestHeaders().getFirst(MATCH_ID_HEADER);
+        Long previousResponse = matchId != null ? lastResponseNanos.get(matchId) : null;
+        if (previousResponse != null) {
+            moveOverheadNanos.add(received - previousResponse);
+        }
+        moveRequests.incrementAndGet();
+
+        JsonNode legalMoves = objectMapper.readTree(exchange.getRequestBody()).get("legalMoves");
+        String move = legalMoves.get(ThreadLocalRandom.current().nextInt(legalMoves.size())).asText();
+        sleep(BOT_LATENCY_MS + (BOT_JITTER_MS > 0 ? ThreadLocalRandom.current().nextInt(BOT_JITTER_MS + 1) : 0));
+
+        byte[] body = ("{\"move\":\"" + move + "\"}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+        if (matchId != null) {
+            lastResponseNanos.put(matchId, System.nanoTime());
+        }
+    }
+
+    private void printReport(double elapsedSeconds, Map<MatchStatus, Long> statuses, Sampler sampler) {
+        List<Long> overheads = moveOverheadNanos.stream().sorted().toList();
+        Function<Double, String> percentile = p -> overheads.isEmpty()
+                ? "n/a"
+                : "%.2f ms".formatted(overheads.get((int) Math.min(overheads.size() - 1, Math.floor(p * overheads.size()))) / 1e6);
+
+        Timer acquire = meterRegistry.stream()
+                .map(registry -> registry.find("hikaricp.connections.acquire").timer())
+                .filter(timer -> timer != null)
+                .findFirst()
+                .orElse(null);
+
+        StringBuilder report = new StringBuilder("\n=== Match throughput load test ===\n");
+        report.append("game=%s matches=%d bots=%d bot latency=%d ms (+0-%d ms jitter)%n"
+                .formatted(GAME, MATCHES, BOTS, BOT_LATENCY_MS, BOT_JITTER_MS));
+        report.append("match statuses:           %s%n".formatted(statuses));
+        report.append("wall time:                %.1f s%n".formatted(elapsedSeconds));
+        report.append("matches/s:                %.1f%n".formatted(MATCHES / elapsedSeconds));
+        report.append("moves/s:                  %.1f%n".formatted(moveRequests.get() / elapsedSeconds));
+        report.append("move overhead p50 / p99:  %s / %s%n".formatted(percentile.apply(0.50), percentile.apply(0.99)));
+        if (acquire != null) {
+            report.append("db connection wait:       mean %.2f ms, max %.2f ms%n"
+                    .formatted(acquire.mean(TimeUnit.MILLISECONDS), acquire.max(TimeUnit.MILLISECONDS)));
+        }
+        report.append("db threads waiting (max): %d%n".formatted(sampler.maxThreadsAwaitingConnection.get()));
+        report.append("running matches (max):    %d%n".formatted(sampler.maxRunningMatches.get()));
+        report.append("executor queue (max):     %s%n".formatted(matchExecutor instanceof ThreadPoolTaskExecutor
+                ? sampler.maxExecutorQueue.get()
+                : "n/a (virtual threads, one per match)"));
+        System.out.println(report);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Samples the connection pool, admission service and executor while the matches run.
+     */
+    private class Sampler implements Runnable {
+
+        private final AtomicInteger maxThreadsAwaitingConnection = new AtomicInteger();
+        private final AtomicInteger maxRunningMatches = new AtomicInteger();
+        private final AtomicInteger maxExecutorQueue = new AtomicInteger();
+        private volatile boolean running = true;
+
+        @Override
+        public void run() {
+            @Nullable HikariPoolMXBean pool = dataSource instanceof HikariDataSource hikari ? hikari.getHikariPoolMXBean() : null;
+            while (running) {
+                if (pool != null) {
+                    maxThreadsAwaitingConnection.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+                }
+                maxRunningMatches.accumulateAndGet(matchAdmissionService.runningMatches(), Math::max);
+                if (matchExecutor instanceof ThreadPoolTaskExecutor pooled) {
+                    maxExecutorQueue.accumulateAndGet(pooled.getQueueSize(), Math::max);
+                }
+                sleep(20);
+            }
+        }
+
+        void stop() {
+            running = false;
+        }
+    }
+}
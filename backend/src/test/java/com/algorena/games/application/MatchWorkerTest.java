@@ -0,0 +1,117 @@
+package com.algorena.games.application;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchWorkerTest {
+
+    private static final long USER_ID = 7L;
+
+    private MatchQueueService matchQueueService;
+    private MatchExecutorService matchExecutorService;
+    private MatchProgressService matchProgressService;
+    private MatchAdmissionService matchAdmissionService;
+    private MatchSessionRegistry matchSessionRegistry;
+    private MatchWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        matchQueueService = mock(MatchQueueService.class);
+        matchExecutorService = mock(MatchExecutorService.class);
+        matchProgressService = mock(MatchProgressService.class);
+        matchAdmissionService = new MatchAdmissionService(3, 1);
+        matchSessionRegistry = mock(MatchSessionRegistry.class);
+        worker = new MatchWorker(matchQueueService, matchExecutorService, matchProgressService,
+                matchAdmissionService, matchSessionRegistry, 1000, 20, 5, 1000);
+        worker.start();
+    }
+
+    @Test
+    void poll_ShouldClaimNoMoreThanTheAvailableCapacity() {
+        matchAdmissionService.admit(99L);
+
+        worker.poll();
+
+        verify(matchQueueService).claim(worker.getWorkerId(), 2);
+    }
+
+    @Test
+    void poll_ShouldRunClaimedMatchesAndFinishThemWhenTheyStop() {
+        CompletableFuture<Void> execution = new CompletableFuture<>();
+        when(matchExecutorService.executeMatch(eq(1L), anyString(), any())).thenReturn(execution);
+        when(matchQueueService.claim(anyString(), anyInt()))
+                .thenReturn(List.of(new MatchQueueService.ClaimedMatch(1L, USER_ID, 2)));
+
+        worker.poll();
+
+        assertThat(matchAdmissionService.runningMatches(USER_ID)).isEqualTo(1);
+        verify(matchQueueService, never()).finish(any(), anyString());
+
+        execution.complete(null);
+
+        verify(matchQueueService).finish(1L, worker.getWorkerId());
+    }
+
+    @Test
+    void poll_WhenUserLimitIsReached_ShouldReleaseTheMatch() {
+        matchAdmissionService.admit(USER_ID);
+        when(matchQueueService.claim(anyString(), anyInt()))
+                .thenReturn(List.of(new MatchQueueService.ClaimedMatch(1L, USER_ID, 1)));
+
+        worker.poll();
+
+        verify(matchQueueService).release(1L, worker.getWorkerId(), 1000);
+        verify(matchExecutorService, never()).executeMatch(any(), any(), any());
+    }
+
+    @Test
+    void poll_AfterTooManyAttempts_ShouldAbortTheMatch() {
+        when(matchQueueService.claim(anyString(), anyInt()))
+                .thenReturn(List.of(new MatchQueueService.ClaimedMatch(1L, USER_ID, 6)));
+
+        worker.poll();
+
+        verify(matchProgressService).abortMatch(1L, worker.getWorkerId());
+        verify(matchQueueService).finish(1L, worker.getWorkerId());
+        verify(matchExecutorService, never()).executeMatch(any(), any(), any());
+    }
+
+    @Test
+    void heartbeat_ShouldStopMatchesWhoseLeaseWasLost() {
+        when(matchExecutorService.executeMatch(any(), any(), any())).thenReturn(new CompletableFuture<>());
+        worker.run(1L, USER_ID, matchAdmissionService.admit(USER_ID));
+        worker.run(2L, 8L, matchAdmissionService.admit(8L));
+        when(matchQueueService.renewLeases(anyString(), anyCollection())).thenReturn(Set.of(1L));
+
+        worker.heartbeat();
+
+        verify(matchQueueService).renewLeases(worker.getWorkerId(), Set.of(1L, 2L));
+        verify(matchSessionRegistry).signalStop(2L);
+        verify(matchSessionRegistry, never()).signalStop(1L);
+    }
+
+    @Test
+    void poll_AfterShutdown_ShouldNotClaim() {
+        worker.shutdown();
+
+        worker.poll();
+
+        verify(matchQueueService).deregister(worker.getWorkerId());
+        verify(matchQueueService, never()).claim(anyString(), anyInt());
+    }
+}
@@ -0,0 +1,85 @@
+package com.algorena.games.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchmakingPoolTest {
+
+    private final MatchmakingPool pool = new MatchmakingPool(50, 200, new Random(42));
+
+    @Test
+    void shouldPairBotsOfSimilarRating() {
+        pool.add(1L, 101L, 1000);
+        pool.add(2L, 102L, 1510);
+        pool.add(3L, 103L, 1020);
+        pool.add(4L, 104L, 1500);
+
+        assertThat(pool.pair(10)).extracting(MatchmakingPoolTest::botIds)
+                .containsExactlyInAnyOrder(Set.of(1L, 3L), Set.of(2L, 4L));
+    }
+
+    @Test
+    void shouldNotPairBotsTooFarApart() {
+        pool.add(1L, 101L, 1000);
+        pool.add(2L, 102L, 1201);
+
+        assertThat(pool.pair(10)).isEmpty();
+    }
+
+    @Test
+    void shouldNotPairBotsOfTheSameUser() {
+        pool.add(1L, 101L, 1000);
+        pool.add(2L, 101L, 1000);
+        pool.add(3L, 102L, 1100);
+
+        assertThat(pool.pair(10)).extracting(MatchmakingPoolTest::botIds)
+                .singleElement()
+                .satisfies(pair -> assertThat(pair).contains(3L));
+    }
+
+    @Test
+    void shouldNotPairExcludedBotsInEitherOrder() {
+        pool.add(1L, 101L, 1000);
+        pool.add(2L, 102L, 1000);
+        pool.exclude(2L, 1L);
+
+        assertThat(pool.pair(10)).isEmpty();
+    }
+
+    @Test
+    void shouldPairEachBotAtMostOnceUpToTheLimit() {
+        Random random = new Random(7);
+        for (long botId = 1; botId <= 10_000; botId++) {
+            pool.add(botId, botId, 800 + random.nextInt(1200));
+        }
+
+        List<MatchPairing> pairings = pool.pair(1_000);
+        assertThat(pairings).hasSize(1_000);
+
+        Set<Long> paired = new HashSet<>();
+        for (MatchPairing pairing : pairings) {
+            assertThat(paired.add(pairing.bot1Id())).isTrue();
+            assertThat(paired.add(pairing.bot2Id())).isTrue();
+        }
+    }
+
+    @Test
+    void shouldPairAlmostAllBotsOfADensePool() {
+        Random random = new Random(7);
+        for (long botId = 1; botId <= 10_000; botId++) {
+            pool.add(botId, botId, 800 + random.nextInt(1200));
+        }
+
+        assertThat(pool.pair(Integer.MAX_VALUE)).hasSizeGreaterThan(4_900);
+    }
+
+    private static Set<Long> botIds(MatchPairing pairing) {
+        return Set.of(pairing.bot1Id(), pairing.bot2Id());
+    }
+}
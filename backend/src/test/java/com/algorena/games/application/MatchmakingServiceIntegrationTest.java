@@ -0,0 +1,75 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Bot;
+import com.algorena.bots.domain.Game;
+import com.algorena.games.data.MatchQueueRepository;
+import com.algorena.games.domain.Match;
+import com.algorena.games.domain.MatchParticipant;
+import com.algorena.games.domain.MatchStatus;
+import com.algorena.test.config.AbstractIntegrationTest;
+import com.algorena.users.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The queued matches are not claimed by this node's worker, the bots are not reachable
+@TestPropertySource(properties = {
+        "algorena.matchmaking.enabled=true",
+        "algorena.matchmaking.interval-ms=3600000",
+        "algorena.match.queue.poll-interval-ms=3600000",
+        "algorena.match.recovery.enabled=false"
+})
+class MatchmakingServiceIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private MatchmakingService matchmakingService;
+
+    @Autowired
+    private MatchQueueRepository matchQueueRepository;
+
+    private Bot bot1;
+    private Bot bot2;
+
+    @BeforeEach
+    void setUp() {
+        User opponent = createTestUser("opponent", "opponent@algorena.dev");
+        bot1 = createTestBot(testUser, "Bot 1", Game.CONNECT_FOUR, "http://localhost:1/bot1");
+        bot2 = createTestBot(opponent, "Bot 2", Game.CONNECT_FOUR, "http://localhost:1/bot2");
+        createTestBot(testUser, "Same user", Game.CONNECT_FOUR, "http://localhost:1/bot3");
+        createTestBotRating(bot1, Game.CONNECT_FOUR, 1250, 10, 5, 5, 0);
+    }
+
+    @Test
+    void runMatchmaking_ShouldQueueOneMatchPerAvailablePair() {
+        assertThat(matchmakingService.runMatchmaking()).isEqualTo(1);
+
+        List<Match> matches = matchRepository.findAll();
+        assertThat(matches).singleElement().satisfies(match -> {
+            assertThat(match.getStatus()).isEqualTo(MatchStatus.IN_PROGRESS);
+            assertThat(match.getGame()).isEqualTo(Game.CONNECT_FOUR);
+        });
+        assertThat(matchQueueRepository.findAll()).extracting(entry -> entry.getMatchId())
+                .containsExactly(matches.getFirst().getId());
+
+        // Both bots are busy with their match now
+        assertThat(matchmakingService.runMatchmaking()).isZero();
+    }
+
+    @Test
+    void runMatchmaking_ShouldNotPairBotsWithinRematchCooldown() {
+        Match match = Match.builder()
+                .game(Game.CONNECT_FOUR)
+                .status(MatchStatus.FINISHED)
+                .build();
+        match.addParticipant(MatchParticipant.builder().match(match).bot(bot2).playerIndex(0).build());
+        match.addParticipant(MatchParticipant.builder().match(match).bot(bot1).playerIndex(1).build());
+        matchRepository.save(match);
+
+        assertThat(matchmakingService.runMatchmaking()).isZero();
+    }
+}
@@ -4,6 +4,7 @@ import com.algorena.bots.domain.Bot;
 import com.algorena.bots.domain.Game;
 import com.algorena.games.data.MatchRepository;
 import com.algorena.games.data.RatingHistoryRepository;
+import com.algorena.games.data.UserRankingRepository;
 import com.algorena.games.domain.*;
 import com.algorena.test.config.AbstractIntegrationTest;
 import com.algorena.users.domain.User;
@@ -26,6 +27,12 @@ class RatingUpdateServiceIntegrationTest extends AbstractIntegrationTest {
     @Autowired
     private MatchRepository matchRepository;
 
+    @Autowired
+    private UserRankingRepository userRankingRepository;
+
+    @Autowired
+    private UserRankingService userRankingService;
+
     private User user1;
     private User user2;
     private Bot bot1;
@@ -96,6 +103,42 @@ class RatingUpdateServiceIntegrationTest extends AbstractIntegrationTest {
         assertThat(rating2.getWins()).isEqualTo(3);
     }
 
+    @Test
+    void shouldUpdateUserRankingsOfBothOwners() {
+        // Given: user1 has a second, stronger bot that does not play
+        Bot strongBot = createTestBot(user1, "StrongBot", Game.CHESS, "http://localhost:8000/strong");
+        createTestBotRating(strongBot, Game.CHESS, 1600, 4, 4, 0, 0);
+
+        // When: Bot1 beats Bot2
+        Match match = createFinishedMatch(bot1, bot2, 1.0, 0.0);
+        ratingUpdateService.updateRatingsAfterMatch(match);
+
+        // Then: Both owners' rankings are up to date without a rebuild
+        UserRanking ranking1 = userRankingRepository.findByUserIdAndGame(user1.getId(), Game.CHESS).orElseThrow();
+        UserRanking ranking2 = userRankingRepository.findByUserIdAndGame(user2.getId(), Game.CHESS).orElseThrow();
+
+        assertThat(ranking1.getBestBotElo()).isEqualTo(1600);
+        assertThat(ranking1.getTotalBots()).isEqualTo(2);
+        assertThat(ranking1.getTotalMatches()).isEqualTo(5);
+        assertThat(ranking1.getTotalWins()).isEqualTo(5);
+        assertThat(ranking2.getTotalMatches()).isEqualTo(1);
+        assertThat(ranking2.getTotalLosses()).isEqualTo(1);
+        assertThat(ranking2.getBestBotElo()).isLessThan(1200);
+    }
+
+    @Test
+    void rebuild_ShouldRecomputeAllUserRankings() {
+        createTestBotRating(bot1, Game.CHESS, 1400, 10, 5, 5, 0);
+        createTestBotRating(bot2, Game.CHESS, 1300, 10, 5, 5, 0);
+
+        userRankingService.rebuild();
+
+        assertThat(userRankingRepository.findByUserIdAndGame(user1.getId(), Game.CHESS))
+                .hasValueSatisfying(ranking -> assertThat(ranking.getBestBotElo()).isEqualTo(1400));
+        assertThat(userRankingRepository.findByUserIdAndGame(user2.getId(), Game.CHESS))
+                .hasValueSatisfying(ranking -> assertThat(ranking.getWinRate()).isEqualTo(0.5));
+    }
+
     @Test
     void shouldHandleDraw() {
         // Given: Bots with existing ratings
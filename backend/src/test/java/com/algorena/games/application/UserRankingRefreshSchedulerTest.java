@@ -0,0 +1,121 @@
+package com.algorena.games.application;
+
+import com.algorena.bots.domain.Game;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserRankingRefreshSchedulerTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T12:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LeaderboardVersion leaderboardVersion = new LeaderboardVersion();
+    private UserRankingService userRankingService;
+    private UserRankingRefreshScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        userRankingService = mock(UserRankingService.class);
+        when(userRankingService.rebuild()).thenReturn(true);
+        scheduler = new UserRankingRefreshScheduler(userRankingService, leaderboardVersion, meterRegistry, clock);
+    }
+
+    @Test
+    void shouldNotRebuildWhenNothingWasRequested() {
+        assertThat(scheduler.refreshIfDirty()).isFalse();
+        verify(userRankingService, never()).rebuild();
+    }
+
+    @Test
+    void shouldCoalesceRequestsIntoOneRebuild() {
+        for (int i = 0; i < 100; i++) {
+            scheduler.requestRefresh();
+        }
+
+        assertThat(scheduler.refreshIfDirty()).isTrue();
+        assertThat(scheduler.refreshIfDirty()).isFalse();
+        verify(userRankingService, times(1)).rebuild();
+        assertThat(meterRegistry.get("algorena.rankings.refresh").timer().count()).isEqualTo(1);
+        assertThat(leaderboardVersion.get(Game.CHESS)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportStalenessSinceOldestPendingRequest() {
+        scheduler.requestRefresh();
+        clock.advance(Duration.ofSeconds(20));
+        scheduler.requestRefresh();
+        clock.advance(Duration.ofSeconds(10));
+
+        assertThat(scheduler.getStaleness()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(meterRegistry.get("algorena.rankings.staleness").gauge().value()).isEqualTo(30.0);
+
+        scheduler.refreshIfDirty();
+
+        assertThat(scheduler.getStaleness()).isZero();
+    }
+
+    @Test
+    void shouldStayDirtyWhenRequestedDuringRebuild() {
+        scheduler.requestRefresh();
+        when(userRankingService.rebuild()).thenAnswer(invocation -> {
+            scheduler.requestRefresh();
+            clock.advance(Duration.ofSeconds(5));
+            return true;
+        });
+
+        scheduler.refreshIfDirty();
+
+        // The rebuild may have missed the change, so the rankings are stale since it started
+        assertThat(scheduler.getStaleness()).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldStayDirtyWhenAnotherNodeIsRebuilding() {
+        when(userRankingService.rebuild()).thenReturn(false);
+        scheduler.requestRefresh();
+        clock.advance(Duration.ofSeconds(3));
+
+        assertThat(scheduler.refreshIfDirty()).isFalse();
+        assertThat(scheduler.getStaleness()).isEqualTo(Duration.ofSeconds(3));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
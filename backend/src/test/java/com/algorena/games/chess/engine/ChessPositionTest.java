@@ -0,0 +1,84 @@
+package com.algorena.games.chess.engine;
+
+import com.algorena.games.engine.GameResult;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChessPositionTest {
+
+    private static final String START_FEN = "rnbqkbnr/pppppppp/8/8/8/8/PPPPPPPP/RNBQKBNR w KQkq - 0 1";
+
+    @Test
+    void play_ShouldApplyMovesIncrementally() {
+        ChessPosition position = ChessPosition.fromFen(START_FEN);
+
+        position.play("e2e4", 0);
+        position.play("e7e5", 1);
+
+        assertThat(position.fen()).isEqualTo("rnbqkbnr/pppp1ppp/8/4p3/4P3/8/PPPP1PPP/RNBQKBNR w KQkq e6 0 2");
+        assertThat(position.currentPlayerIndex()).isZero();
+        assertThat(position.fullMoveNumber()).isEqualTo(2);
+    }
+
+    @Test
+    void legalMoves_ShouldBeRecomputedAfterMove() {
+        ChessPosition position = ChessPosition.fromFen(START_FEN);
+        assertThat(position.legalMoves()).hasSize(20).contains("e2e4");
+
+        position.play("e2e4", 0);
+
+        assertThat(position.legalMoves()).hasSize(20).contains("e7e5").doesNotContain("e2e4");
+    }
+
+    @Test
+    void play_ShouldLeavePositionUnchangedOnIllegalMove() {
+        ChessPosition position = ChessPosition.fromFen(START_FEN);
+
+        assertThatThrownBy(() -> position.play("a1a2", 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Illegal move");
+        assertThatThrownBy(() -> position.play("e7e5", 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("It is not player 1's turn");
+
+        assertThat(position.fen()).isEqualTo(START_FEN);
+    }
+
+    @Test
+    void result_ShouldDetectCheckmate() {
+        ChessPosition position = ChessPosition.fromFen(START_FEN);
+        position.play("f2f3", 0);
+        position.play("e7e5", 1);
+        position.play("g2g4", 0);
+        assertThat(position.result()).isNull();
+
+        position.play("d8h4", 1);
+
+        GameResult result = position.result();
+        assertThat(result).isNotNull();
+        if (result != null) {
+            assertThat(result.scores().getScore(0)).isEqualTo(0.0);
+            assertThat(result.scores().getScore(1)).isEqualTo(1.0);
+        }
+    }
+
+    @Test
+    void result_ShouldDetectThreefoldRepetition() {
+        ChessPosition position = ChessPosition.fromFen(START_FEN);
+        for (int i = 0; i < 2; i++) {
+            position.play("g1f3", 0);
+            position.play("g8f6", 1);
+            position.play("f3g1", 0);
+            position.play("f6g8", 1);
+        }
+
+        GameResult result = position.result();
+        assertThat(result).isNotNull();
+        if (result != null) {
+            assertThat(result.scores().getScore(0)).isEqualTo(0.5);
+            assertThat(result.scores().getScore(1)).isEqualTo(0.5);
+        }
+    }
+}
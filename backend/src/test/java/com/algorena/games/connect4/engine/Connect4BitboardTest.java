@@ -0,0 +1,128 @@
+package com.algorena.games.connect4.engine;
+
+import com.algorena.games.engine.GameResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Connect4BitboardTest {
+
+    @Test
+    void toBoardString_ShouldUseBottomRowFirstLayout() {
+        Connect4Bitboard position = Connect4Bitboard.empty();
+        position.play(0, 0);
+        position.play(0, 1);
+        position.play(6, 0);
+
+        String board = position.toBoardString();
+
+        assertThat(board).hasSize(42);
+        assertThat(board.charAt(0)).isEqualTo('1');
+        assertThat(board.charAt(7)).isEqualTo('2');
+        assertThat(board.charAt(6)).isEqualTo('1');
+        assertThat(board.chars().filter(c -> c == '0').count()).isEqualTo(39);
+    }
+
+    @Test
+    void fromBoardString_ShouldRoundTrip() {
+        Random random = new Random(42);
+        Connect4Bitboard position = Connect4Bitboard.empty();
+        while (position.result() == null) {
+            List<Integer> legalMoves = position.legalMoves();
+            position.play(legalMoves.get(random.nextInt(legalMoves.size())), position.currentPlayerIndex());
+
+            Connect4Bitboard parsed = Connect4Bitboard.fromBoardString(position.toBoardString());
+            assertThat(parsed.toBoardString()).isEqualTo(position.toBoardString());
+            assertThat(parsed.currentPlayerIndex()).isEqualTo(position.currentPlayerIndex());
+            assertThat(parsed.legalMoves()).isEqualTo(position.legalMoves());
+            assertThat(parsed.result()).isEqualTo(position.result());
+            assertThat(Connect4Bitboard.resultOf(position.toBoardString())).isEqualTo(position.result());
+        }
+    }
+
+    @Test
+    void playOnBoardString_ShouldMatchTheConvertedBoardString() {
+        Random random = new Random(7);
+        Connect4Bitboard position = Connect4Bitboard.empty();
+        String board = position.toBoardString();
+        while (position.result() == null) {
+            List<Integer> legalMoves = position.legalMoves();
+            assertThat(Connect4Bitboard.legalMovesOf(board)).isEqualTo(legalMoves);
+
+            board = position.playOnBoardString(board, legalMoves.get(random.nextInt(legalMoves.size())),
+                    position.currentPlayerIndex());
+            assertThat(board).isEqualTo(position.toBoardString());
+        }
+    }
+
+    @Test
+    void result_ShouldDetectAntiDiagonalWin() {
+        Connect4Bitboard position = Connect4Bitboard.empty();
+        // Player 2 builds a diagonal from (3,0) down to (0,3)
+        int[] columns = {0, 0, 0, 0, 1, 1, 2, 1, 6, 2, 6, 3};
+        for (int column : columns) {
+            position.play(column, position.currentPlayerIndex());
+        }
+
+        GameResult result = position.result();
+        assertThat(result).isNotNull();
+        if (result != null) {
+            assertThat(result.scores().getScore(1)).isEqualTo(1.0);
+        }
+    }
+
+    @Test
+    void result_ShouldNotWrapAcrossColumns() {
+        // Player 1 at column 0 rows 3-5 and column 1 row 0: consecutive bits if columns had no separator bit
+        String board = "2100000" + "2000000" + "2000000" + "1000000" + "1000000" + "1000000";
+        Connect4Bitboard position = Connect4Bitboard.fromBoardString(board);
+
+        assertThat(position.result()).isNull();
+    }
+
+    @Test
+    void result_ShouldDetectDrawOnFullBoard() {
+        // Column pattern that fills the board without four in a row
+        String board = "1122112" + "2211221" + "1122112" + "2211221" + "1122112" + "2211221";
+        Connect4Bitboard position = Connect4Bitboard.fromBoardString(board);
+
+        GameResult result = position.result();
+        assertThat(result).isNotNull();
+        if (result != null) {
+            assertThat(result.scores().getScore(0)).isEqualTo(0.5);
+            assertThat(result.scores().getScore(1)).isEqualTo(0.5);
+        }
+        assertThat(position.legalMoves()).isEmpty();
+        assertThat(Connect4Bitboard.resultOf(board)).isEqualTo(result);
+    }
+
+    @Test
+    void play_ShouldRejectInvalidMovesWithoutChangingPosition() {
+        Connect4Bitboard position = Connect4Bitboard.empty();
+        position.play(3, 0);
+
+        assertThatThrownBy(() -> position.play(7, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("out of bounds");
+        assertThatThrownBy(() -> position.play(3, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("It is not player 0's turn");
+
+        assertThat(position.moveCount()).isEqualTo(1);
+        assertThat(position.currentPlayerIndex()).isEqualTo(1);
+    }
+
+    @Test
+    void fromBoardString_ShouldRejectInvalidBoards() {
+        assertThatThrownBy(() -> Connect4Bitboard.fromBoardString("000"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Connect4Bitboard.fromBoardString("3" + "0".repeat(41)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Connect4Bitboard.resultOf("3" + "0".repeat(41)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
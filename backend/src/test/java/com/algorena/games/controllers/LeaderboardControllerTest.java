@@ -0,0 +1,95 @@
+package com.algorena.games.controllers;
+
+import com.algorena.bots.domain.Game;
+import com.algorena.games.application.LeaderboardPageCache;
+import com.algorena.games.application.LeaderboardService;
+import com.algorena.games.application.LeaderboardVersion;
+import com.algorena.games.dto.BotLeaderboardEntryDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LeaderboardControllerTest {
+
+    private final Pageable pageable = PageRequest.of(0, 50);
+    private final LeaderboardVersion leaderboardVersion = new LeaderboardVersion();
+    private LeaderboardService leaderboardService;
+    private LeaderboardController controller;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardService = mock(LeaderboardService.class);
+        Page<BotLeaderboardEntryDTO> page = new PageImpl<>(List.of(
+                new BotLeaderboardEntryDTO(1L, 10L, "Bot", 20L, "owner", null, 1500, 10, 7, 2, 1, 0.7)
+        ), pageable, 1);
+        when(leaderboardService.getBotLeaderboard(eq(Game.CHESS), any())).thenReturn(page);
+        controller = new LeaderboardController(leaderboardService,
+                new LeaderboardPageCache(100, new SimpleMeterRegistry()), leaderboardVersion);
+    }
+
+    @Test
+    void shouldReturnPageWithETag() {
+        ResponseEntity<Page<BotLeaderboardEntryDTO>> response = getBotLeaderboard(null);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotNull();
+        assertThat(response.getHeaders().getCacheControl()).contains("no-cache");
+        assertThat(response.getBody()).isNotNull();
+    }
+
+    @Test
+    void shouldReturnNotModifiedForCurrentETag() {
+        String eTag = getBotLeaderboard(null).getHeaders().getETag();
+
+        ResponseEntity<Page<BotLeaderboardEntryDTO>> response = getBotLeaderboard(eTag);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getBody()).isNull();
+        verify(leaderboardService, times(1)).getBotLeaderboard(Game.CHESS, pageable);
+    }
+
+    @Test
+    void shouldServeCachedPageUntilVersionChanges() {
+        getBotLeaderboard(null);
+        getBotLeaderboard(null);
+        verify(leaderboardService, times(1)).getBotLeaderboard(Game.CHESS, pageable);
+
+        String oldETag = getBotLeaderboard(null).getHeaders().getETag();
+        leaderboardVersion.incrementAfterCommit(Game.CHESS);
+        ResponseEntity<Page<BotLeaderboardEntryDTO>> response = getBotLeaderboard(oldETag);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(oldETag);
+        verify(leaderboardService, times(2)).getBotLeaderboard(Game.CHESS, pageable);
+    }
+
+    private ResponseEntity<Page<BotLeaderboardEntryDTO>> getBotLeaderboard(@Nullable String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/leaderboard/bots");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return controller.getBotLeaderboard(Game.CHESS, pageable,
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+    }
+}
@@ -1,8 +1,10 @@
 package com.algorena.games.controllers;
 
 import com.algorena.bots.domain.Game;
+import com.algorena.common.exception.BadRequestException;
 import com.algorena.games.application.LeaderboardService;
 import com.algorena.games.dto.BotLeaderboardEntryDTO;
+import com.algorena.games.dto.LeaderboardSliceDTO;
 import com.algorena.test.config.AbstractIntegrationTest;
 import com.algorena.users.domain.User;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +13,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class LeaderboardServiceIntegrationTest extends AbstractIntegrationTest {
 
@@ -84,4 +90,49 @@ class LeaderboardServiceIntegrationTest extends AbstractIntegrationTest {
         assertThat(leaderboard.getContent().get(1).eloRating()).isEqualTo(1400);
         assertThat(leaderboard.getTotalElements()).isEqualTo(3);
     }
+
+    @Test
+    void shouldGetBotLeaderboardInSlices() {
+        LeaderboardSliceDTO<BotLeaderboardEntryDTO> first = leaderboardService.getBotLeaderboardSlice(
+                Game.CHESS, null, 2);
+
+        assertThat(first.entries()).extracting(BotLeaderboardEntryDTO::eloRating).containsExactly(1500, 1400);
+        assertThat(first.entries()).extracting(BotLeaderboardEntryDTO::rank).containsExactly(1L, 2L);
+        assertThat(first.nextCursor()).isNotNull();
+
+        LeaderboardSliceDTO<BotLeaderboardEntryDTO> second = leaderboardService.getBotLeaderboardSlice(
+                Game.CHESS, first.nextCursor(), 2);
+
+        assertThat(second.entries()).hasSize(1);
+        assertThat(second.entries().get(0).eloRating()).isEqualTo(1300);
+        assertThat(second.entries().get(0).rank()).isEqualTo(3);
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    void shouldOrderTiedBotsByIdAcrossSlices() {
+        var testBot4 = createTestBot(testUser2, "Bot4", Game.CHESS, "http://localhost:8000/bot4");
+        createTestBotRating(testBot4, Game.CHESS, 1400, 3, 1, 2, 0);
+
+        Page<BotLeaderboardEntryDTO> page = leaderboardService.getBotLeaderboard(Game.CHESS, PageRequest.of(0, 10));
+
+        List<Long> sliced = new ArrayList<>();
+        String cursor = null;
+        do {
+            LeaderboardSliceDTO<BotLeaderboardEntryDTO> slice = leaderboardService.getBotLeaderboardSlice(
+                    Game.CHESS, cursor, 1);
+            slice.entries().forEach(entry -> sliced.add(entry.botId()));
+            cursor = slice.nextCursor();
+        } while (cursor != null);
+
+        assertThat(page.getContent()).extracting(BotLeaderboardEntryDTO::rank).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(sliced).containsExactlyElementsOf(
+                page.getContent().stream().map(BotLeaderboardEntryDTO::botId).toList());
+    }
+
+    @Test
+    void shouldRejectInvalidLeaderboardCursor() {
+        assertThatThrownBy(() -> leaderboardService.getBotLeaderboardSlice(Game.CHESS, "not-a-cursor", 10))
+                .isInstanceOf(BadRequestException.class);
+    }
 }
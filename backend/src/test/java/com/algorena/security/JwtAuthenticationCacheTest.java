@@ -0,0 +1,94 @@
+package com.algorena.security;
+
+import com.algorena.users.domain.Language;
+import com.algorena.users.domain.Provider;
+import com.algorena.users.domain.UserTestFactory;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JwtAuthenticationCacheTest {
+
+    private static final String SECRET = "1c17e1d043766a36dd26c58b94be13cb4c2c4c78d469663f424106c99a89a84caca3b1471948458c86104c65e5935d112db71cd11497d3f9466d3b8db763201a";
+
+    private JwtService jwtService;
+    private JwtAuthenticationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = spy(new JwtService(SECRET));
+        ReflectionTestUtils.setField(jwtService, "jwtExpirationMs", TimeUnit.HOURS.toMillis(1));
+        cache = new JwtAuthenticationCache(jwtService, 100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void authenticate_ShouldReturnPrincipalAndAuthoritiesOfToken() {
+        String token = createToken("alice@algorena.dev");
+
+        JwtAuthentication authentication = cache.authenticate(token);
+
+        assertThat(authentication.principal().email()).isEqualTo("alice@algorena.dev");
+        assertThat(authentication.principal().language()).isEqualTo(Language.EN);
+        assertThat(authentication.authorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+        assertThat(authentication.expiresAt())
+                .isCloseTo(Instant.now().plus(1, ChronoUnit.HOURS), within(1, ChronoUnit.MINUTES));
+    }
+
+    @Test
+    void authenticate_ShouldValidateEachTokenOnce() {
+        String token = createToken("alice@algorena.dev");
+
+        JwtAuthentication first = cache.authenticate(token);
+        JwtAuthentication second = cache.authenticate(token);
+
+        assertThat(second).isSameAs(first);
+        verify(jwtService, times(1)).validateAndParse(token);
+    }
+
+    @Test
+    void authenticate_ShouldKeepTokensApart() {
+        String alice = createToken("alice@algorena.dev");
+        String bob = createToken("bob@algorena.dev");
+
+        assertThat(cache.authenticate(alice).principal().email()).isEqualTo("alice@algorena.dev");
+        assertThat(cache.authenticate(bob).principal().email()).isEqualTo("bob@algorena.dev");
+    }
+
+    @Test
+    void authenticate_WithTamperedToken_ShouldThrow() {
+        String token = createToken("alice@algorena.dev");
+        cache.authenticate(token);
+        int signature = token.lastIndexOf('.') + 1;
+        char replacement = token.charAt(signature) == 'A' ? 'B' : 'A';
+        String tampered = token.substring(0, signature) + replacement + token.substring(signature + 1);
+
+        assertThatThrownBy(() -> cache.authenticate(tampered)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    void authenticate_WithExpiredToken_ShouldThrow() {
+        ReflectionTestUtils.setField(jwtService, "jwtExpirationMs", -1000L);
+        String token = createToken("alice@algorena.dev");
+
+        assertThatThrownBy(() -> cache.authenticate(token)).isInstanceOf(JwtException.class);
+    }
+
+    private String createToken(String email) {
+        return jwtService.createToken(UserTestFactory.create(email, email, Provider.GOOGLE, email));
+    }
+}
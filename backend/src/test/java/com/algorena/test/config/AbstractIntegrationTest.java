@@ -4,6 +4,7 @@ package com.algorena.test.config;
 import com.algorena.bots.data.BotRepository;
 import com.algorena.bots.domain.Bot;
 import com.algorena.bots.domain.Game;
+import com.algorena.games.application.BotLeaderboardIndex;
 import com.algorena.games.data.BotRatingRepository;
 import com.algorena.games.domain.BotRating;
 import com.algorena.games.domain.MatchResult;
@@ -52,6 +53,9 @@ public abstract class AbstractIntegrationTest {
     @Autowired
     protected com.algorena.games.data.MatchRepository matchRepository;
 
+    @Autowired
+    protected BotLeaderboardIndex botLeaderboardIndex;
+
     @Autowired
     Flyway flyway;
 
@@ -74,6 +78,7 @@ public abstract class AbstractIntegrationTest {
         // Reset DB before each test using Flyway clean/migrate to guarantee clean schema, and isolation of tests
         flyway.clean();
         flyway.migrate();
+        botLeaderboardIndex.reload();
 
         // Create and authenticate a default test user
         this.testUser = createTestUser("testuser", "testuser@algorena.dev");
@@ -177,6 +182,10 @@ public abstract class AbstractIntegrationTest {
             rating.recordMatchResult(MatchResult.DRAW);
         }
 
-        return botRatingRepository.save(rating);
+        BotRating saved = botRatingRepository.save(rating);
+        if (leaderboardId == null) {
+            botLeaderboardIndex.updateAfterCommit(List.of(saved));
+        }
+        return saved;
     }
 }
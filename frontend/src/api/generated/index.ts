@@ -1,4 +1,4 @@
 // This file is auto-generated by @hey-api/openapi-ts
 
 export { abortMatch, createBot, createMatch, deleteBot, getBotById, getBotLeaderboard, getBotRanking, getBotRatingHistory, getBots, getBotStats, getCurrentUserProfile, getLegalMoves, getMatch, getMatches, getMatchMoves, getRecentMatches, getUserLeaderboard, getUserRanking, type Options, updateBot, updateCurrentUserProfile } from './sdk.gen';
-export type { AbortMatchData, AbortMatchError, AbortMatchErrors, AbortMatchResponses, BotDto, BotLeaderboardEntryDto, BotStatsDto, ChessGameStateDto, ClientOptions, Connect4GameStateDto, CreateBotData, CreateBotError, CreateBotErrors, CreateBotRequest, CreateBotResponse, CreateBotResponses, CreateMatchData, CreateMatchError, CreateMatchErrors, CreateMatchRequest, CreateMatchResponse, CreateMatchResponses, DeleteBotData, DeleteBotError, DeleteBotErrors, DeleteBotResponses, ErrorResponse, GameStateDto, GetBotByIdData, GetBotByIdError, GetBotByIdErrors, GetBotByIdResponse, GetBotByIdResponses, GetBotLeaderboardData, GetBotLeaderboardError, GetBotLeaderboardErrors, GetBotLeaderboardResponse, GetBotLeaderboardResponses, GetBotRankingData, GetBotRankingError, GetBotRankingErrors, GetBotRankingResponse, GetBotRankingResponses, GetBotRatingHistoryData, GetBotRatingHistoryError, GetBotRatingHistoryErrors, GetBotRatingHistoryResponse, GetBotRatingHistoryResponses, GetBotsData, GetBotsError, GetBotsErrors, GetBotsResponse, GetBotsResponses, GetBotStatsData, GetBotStatsError, GetBotStatsErrors, GetBotStatsResponse, GetBotStatsResponses, GetCurrentUserProfileData, GetCurrentUserProfileError, GetCurrentUserProfileErrors, GetCurrentUserProfileResponse, GetCurrentUserProfileResponses, GetLegalMovesData, GetLegalMovesError, GetLegalMovesErrors, GetLegalMovesResponse, GetLegalMovesResponses, GetMatchData, GetMatchError, GetMatchErrors, GetMatchesData, GetMatchesError, GetMatchesErrors, GetMatchesResponse, GetMatchesResponses, GetMatchMovesData, GetMatchMovesError, GetMatchMovesErrors, GetMatchMovesResponse, GetMatchMovesResponses, GetMatchResponse, GetMatchResponses, GetRecentMatchesData, GetRecentMatchesError, GetRecentMatchesErrors, GetRecentMatchesResponse, GetRecentMatchesResponses, GetUserLeaderboardData, GetUserLeaderboardError, GetUserLeaderboardErrors, GetUserLeaderboardResponse, GetUserLeaderboardResponses, GetUserRankingData, GetUserRankingError, GetUserRankingErrors, GetUserRankingResponse, GetUserRankingResponses, MatchDto, MatchMoveDto, MatchParticipantDto, PageableObject, PageBotDto, PageBotLeaderboardEntryDto, PageUserLeaderboardEntryDto, RatingHistoryDto, SortObject, UpdateBotData, UpdateBotError, UpdateBotErrors, UpdateBotRequest, UpdateBotResponse, UpdateBotResponses, UpdateCurrentUserProfileData, UpdateCurrentUserProfileError, UpdateCurrentUserProfileErrors, UpdateCurrentUserProfileResponse, UpdateCurrentUserProfileResponses, UpdateUserRequest, UserDto, UserLeaderboardEntryDto, ValidationError } from './types.gen';
+export type { AbortMatchData, AbortMatchError, AbortMatchErrors, AbortMatchResponses, BotDto, BotLeaderboardEntryDto, BotStatsDto, ChessGameStateDto, ClientOptions, Connect4GameStateDto, CreateBotData, CreateBotError, CreateBotErrors, CreateBotRequest, CreateBotResponse, CreateBotResponses, CreateMatchData, CreateMatchError, CreateMatchErrors, CreateMatchRequest, CreateMatchResponse, CreateMatchResponses, DeleteBotData, DeleteBotError, DeleteBotErrors, DeleteBotResponses, ErrorResponse, GameStateDto, GetBotByIdData, GetBotByIdError, GetBotByIdErrors, GetBotByIdResponse, GetBotByIdResponses, GetBotLeaderboardData, GetBotLeaderboardError, GetBotLeaderboardErrors, GetBotLeaderboardResponse, GetBotLeaderboardResponses, GetBotRankingData, GetBotRankingError, GetBotRankingErrors, GetBotRankingResponse, GetBotRankingResponses, GetBotRatingHistoryData, GetBotRatingHistoryError, GetBotRatingHistoryErrors, GetBotRatingHistoryResponse, GetBotRatingHistoryResponses, GetBotsData, GetBotsError, GetBotsErrors, GetBotsResponse, GetBotsResponses, GetBotStatsData, GetBotStatsError, GetBotStatsErrors, GetBotStatsResponse, GetBotStatsResponses, GetCurrentUserProfileData, GetCurrentUserProfileError, GetCurrentUserProfileErrors, GetCurrentUserProfileResponse, GetCurrentUserProfileResponses, GetLegalMovesData, GetLegalMovesError, GetLegalMovesErrors, GetLegalMovesResponse, GetLegalMovesResponses, GetMatchData, GetMatchError, GetMatchErrors, GetMatchesData, GetMatchesError, GetMatchesErrors, GetMatchesResponse, GetMatchesResponses, GetMatchMovesData, GetMatchMovesError, GetMatchMovesErrors, GetMatchMovesResponse, GetMatchMovesResponses, GetMatchResponse, GetMatchResponses, GetRecentMatchesData, GetRecentMatchesError, GetRecentMatchesErrors, GetRecentMatchesResponse, GetRecentMatchesResponses, GetUserLeaderboardData, GetUserLeaderboardError, GetUserLeaderboardErrors, GetUserLeaderboardResponse, GetUserLeaderboardResponses, GetUserRankingData, GetUserRankingError, GetUserRankingErrors, GetUserRankingResponse, GetUserRankingResponses, MatchDto, MatchMoveDto, MatchParticipantDto, MatchSliceDto, PageableObject, PageBotDto, PageBotLeaderboardEntryDto, PageUserLeaderboardEntryDto, RatingHistoryDto, SortObject, UpdateBotData, UpdateBotError, UpdateBotErrors, UpdateBotRequest, UpdateBotResponse, UpdateBotResponses, UpdateCurrentUserProfileData, UpdateCurrentUserProfileError, UpdateCurrentUserProfileErrors, UpdateCurrentUserProfileResponse, UpdateCurrentUserProfileResponses, UpdateUserRequest, UserDto, UserLeaderboardEntryDto, ValidationError } from './types.gen';
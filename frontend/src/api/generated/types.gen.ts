@@ -82,6 +82,11 @@ export type MatchDto = {
     state?: ChessGameStateDto | Connect4GameStateDto;
 };
 
+export type MatchSliceDto = {
+    entries: Array<MatchDto>;
+    nextCursor?: string;
+};
+
 export type MatchParticipantDto = {
     id: number;
     botId: number;
@@ -255,6 +260,11 @@ export type GetMatchesData = {
     path?: never;
     query?: {
         botId?: number;
+        opponentBotId?: number;
+        status?: Array<'CREATED' | 'IN_PROGRESS' | 'FINISHED' | 'FORFEITED' | 'ABORTED'>;
+        game?: 'CHESS' | 'CONNECT_FOUR';
+        cursor?: string;
+        size?: number;
     };
     url: '/api/v1/matches';
 };
@@ -292,7 +302,7 @@ export type GetMatchesResponses = {
     /**
      * OK
      */
-    200: Array<MatchDto>;
+    200: MatchSliceDto;
 };
 
 export type GetMatchesResponse = GetMatchesResponses[keyof GetMatchesResponses];
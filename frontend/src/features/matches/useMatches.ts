@@ -1,5 +1,5 @@
-import {useMutation, useQuery, useQueryClient} from '@tanstack/react-query';
-import type {CreateMatchRequest} from '@/api/generated';
+import {useInfiniteQuery, useMutation, useQuery, useQueryClient} from '@tanstack/react-query';
+import type {CreateMatchRequest, GetMatchesData} from '@/api/generated';
 import {abortMatch, createMatch, getBots, getMatch, getMatches, getMatchMoves, getRecentMatches} from '@/api/generated';
 import {getAccessToken} from '@/api/client';
 
@@ -20,16 +20,22 @@ export const botKeys = {
     list: (filters: Record<string, unknown>) => [...botKeys.lists(), filters] as const,
 };
 
-export function useMatches(botId?: number) {
-    return useQuery({
-        queryKey: matchKeys.list({botId}),
-        queryFn: async () => {
-            const response = await getMatches({query: {botId}});
+export type MatchHistoryFilters = Pick<NonNullable<GetMatchesData['query']>, 'botId' | 'status'>;
+
+// Match history is paginated by cursor, newest first, and filtered on the server so every page is full
+export function useMatches({botId, status}: MatchHistoryFilters = {}) {
+    return useInfiniteQuery({
+        queryKey: matchKeys.list({botId, status}),
+        queryFn: async ({pageParam}) => {
+            const response = await getMatches({query: {botId, status, cursor: pageParam}});
             if (response.error) {
                 throw new Error(response.error.message || 'Failed to fetch matches');
             }
             return response.data;
         },
+        initialPageParam: undefined as string | undefined,
+        getNextPageParam: (lastPage) => lastPage.nextCursor,
+        select: (data) => data.pages.flatMap(page => page.entries),
     });
 }
 
@@ -1,10 +1,10 @@
-import { useState, useMemo } from 'react';
+import { useState } from 'react';
 import { useTranslation } from 'react-i18next';
 import { Button } from '@/components/ui/button';
 import { Select } from '@/components/ui/select';
 import { TerminalTable, TerminalTableRow, TerminalTableCell } from '@/components/ui/terminal-table';
 import { useAuth } from '@/features/auth/AuthContext';
-import { useMatches } from '@/features/matches/useMatches';
+import { useMatches, type MatchHistoryFilters } from '@/features/matches/useMatches';
 import { useBots } from '@/features/bots/useBots';
 import { CreateMatchDialog } from '@/features/matches/CreateMatchDialog';
 import { MatchDetailsDialog } from '@/features/matches/MatchDetailsDialog';
@@ -14,6 +14,12 @@ import { cn } from '@/lib/utils';
 
 type StatusFilter = 'all' | 'active' | 'finished';
 
+const STATUSES_BY_FILTER: Record<StatusFilter, MatchHistoryFilters['status']> = {
+  all: undefined,
+  active: ['CREATED', 'IN_PROGRESS'],
+  finished: ['FINISHED', 'ABORTED'],
+};
+
 export function MatchesPage() {
   const { t } = useTranslation();
   const { isAuthenticated, login, user } = useAuth();
@@ -23,33 +29,14 @@ export function MatchesPage() {
   const [statusFilter, setStatusFilter] = useState<StatusFilter>('all');
   const [botFilter, setBotFilter] = useState<string>('all');
 
-  const { data: matches, isLoading, error } = useMatches();
+  const { data: matches, isLoading, error, hasNextPage, fetchNextPage, isFetchingNextPage } = useMatches({
+    botId: botFilter === 'all' ? undefined : parseInt(botFilter),
+    status: STATUSES_BY_FILTER[statusFilter],
+  });
   const { data: botsPage } = useBots({ userId: user?.id });
 
   const myBots = botsPage?.content || [];
 
-  const filteredMatches = useMemo(() => {
-    if (!matches) return [];
-
-    return matches.filter(match => {
-      // Status filter
-      if (statusFilter === 'active') {
-        if (match.status !== 'CREATED' && match.status !== 'IN_PROGRESS') return false;
-      } else if (statusFilter === 'finished') {
-        if (match.status !== 'FINISHED' && match.status !== 'ABORTED') return false;
-      }
-
-      // Bot filter
-      if (botFilter !== 'all') {
-        const botId = parseInt(botFilter);
-        const hasBot = match.participants.some(p => p.botId === botId);
-        if (!hasBot) return false;
-      }
-
-      return true;
-    });
-  }, [matches, statusFilter, botFilter]);
-
   const getStatusIcon = (status?: string) => {
     switch (status) {
       case 'CREATED':
@@ -165,7 +152,7 @@ export function MatchesPage() {
           <p className="font-mono text-red-400">ERROR: Failed to load matches</p>
           <p className="mt-1 font-mono text-sm text-text-muted">{(error as Error).message}</p>
         </div>
-      ) : filteredMatches.length === 0 ? (
+      ) : !matches?.length ? (
         <div className="flex flex-col items-center justify-center rounded-lg border border-dashed border-border py-16 text-center">
           <Swords className="h-12 w-12 text-surface-muted" />
           <h3 className="mt-4 font-mono text-lg font-semibold">No matches found</h3>
@@ -182,7 +169,7 @@ export function MatchesPage() {
           title="matches.log"
           headers={['status', 'matchup', 'game', 'result', 'time', 'actions']}
         >
-          {filteredMatches.map(match => {
+          {matches?.map(match => {
             const participants = match.participants;
             const player1 = participants.find(p => p.playerIndex === 0);
             const player2 = participants.find(p => p.playerIndex === 1);
@@ -263,6 +250,20 @@ export function MatchesPage() {
         </TerminalTable>
       )}
 
+      {hasNextPage && (
+        <div className="flex justify-center">
+          <Button
+            variant="ghost"
+            onClick={() => fetchNextPage()}
+            disabled={isFetchingNextPage}
+            className="gap-2 font-mono"
+          >
+            {isFetchingNextPage && <Loader2 className="h-4 w-4 animate-spin" />}
+            load more
+          </Button>
+        </div>
+      )}
+
       <CreateMatchDialog
         open={createDialogOpen}
         onOpenChange={setCreateDialogOpen}